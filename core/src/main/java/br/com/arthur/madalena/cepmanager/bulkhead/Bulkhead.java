@@ -0,0 +1,20 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executa o método dentro do limite de concorrência da classe de carga informada.
+ * Acima do limite a chamada espera por um tempo curto e depois falha com
+ * {@link br.com.arthur.madalena.cepmanager.exception.SobrecargaException}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    Carga value();
+}
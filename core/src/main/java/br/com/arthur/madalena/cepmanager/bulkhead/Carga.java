@@ -0,0 +1,16 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+/**
+ * Classes de carga isoladas em bulkheads próprios.
+ */
+public enum Carga {
+
+    // Consultas pontuais por código/ID, baratas e mais frequentes
+    CONSULTA,
+
+    // Listagens e pesquisas por texto, que podem varrer muitas linhas
+    BUSCA,
+
+    // Login, registro e troca de senha, limitados pelo custo do BCrypt
+    AUTENTICACAO
+}
@@ -0,0 +1,73 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.entity.CepAlteracao;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Limpeza do cache de segundo nível do Hibernate (e dos caches da aplicação que dependem dele)
+ * depois de cargas feitas direto no banco, como a recarga de uma partição de UF por COPY
+ * (scripts/manutencao-particao-uf.sql), que o Hibernate não enxerga.
+ * Vale apenas para o nó que recebe a chamada; nos demais as entradas expiram pela configuração das regiões.
+ * Alterações feitas pela aplicação chegam aos outros nós pela SincronizacaoCepCache (invalidarCeps).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheSegundoNivel {
+
+    private static final String PERMISSOES = Usuario.class.getName() + ".permissoes";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CepCache cepCache;
+    private final RefreshingCacheRegistry refreshingCacheRegistry;
+
+    public void limparCeps() {
+        Cache cache = getCache();
+        cache.evictEntityData(Cep.class);
+        cache.evictNaturalIdData(Cep.class);
+        cache.evictQueryRegions();
+        cepCache.limpar();
+        refreshingCacheRegistry.getTodos().forEach(RefreshingCache::invalidarTudo);
+        log.info("Cache de CEPs limpo");
+    }
+
+    /**
+     * CEPs alterados ou excluídos em outro nó: a entidade sai pelo id; código -> id, resultados de
+     * consultas e listas não têm remoção por CEP e são descartados inteiros, uma vez por lote.
+     */
+    public void invalidarCeps(Collection<CepAlteracao> alteracoes) {
+        if (alteracoes.isEmpty()) {
+            return;
+        }
+        Cache cache = getCache();
+        for (CepAlteracao alteracao : alteracoes) {
+            cache.evictEntityData(Cep.class, alteracao.getCepId());
+            cepCache.invalidar(alteracao.getCodigo());
+        }
+        cache.evictNaturalIdData(Cep.class);
+        cache.evictQueryRegions();
+        refreshingCacheRegistry.getTodos().forEach(RefreshingCache::invalidarTudo);
+        log.debug("{} CEPs alterados em outro nó removidos do cache", alteracoes.size());
+    }
+
+    public void limparUsuarios() {
+        Cache cache = getCache();
+        cache.evictEntityData(Usuario.class);
+        cache.evictNaturalIdData(Usuario.class);
+        cache.evictCollectionData(PERMISSOES);
+        log.info("Cache de usuários limpo");
+    }
+
+    private Cache getCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Cache em memória dos CEPs consultados por código, com a chave numérica do CEP.
+ * Devolve cópias, já que o CepDTO é mutável e pode ser alterado por quem chamou.
+ * Depois de uma invalidação o CEP não volta ao cache durante a janela de invalidação: a leitura
+ * que preencheria o cache pode vir de uma réplica que ainda não recebeu a alteração.
+ */
+@Component
+public class CepCache {
+
+    static final int MAX_ENTRADAS = 100_000;
+    static final Duration EXPIRACAO = Duration.ofMinutes(10);
+
+    private final Cache<Integer, CepDTO> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRADAS)
+            .expireAfterWrite(EXPIRACAO)
+            .recordStats()
+            .build();
+
+    private final Cache<Integer, Boolean> invalidados;
+    private final long janelaInvalidacaoNanos;
+    private volatile long limpezaNanos;
+
+    // Padrão: max-lag (5s) mais o intervalo de verificação das réplicas (5s)
+    public CepCache(@Value("${app.cache.cep.janela-invalidacao:10s}") Duration janelaInvalidacao) {
+        this.janelaInvalidacaoNanos = janelaInvalidacao.toNanos();
+        this.invalidados = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRADAS)
+                .expireAfterWrite(janelaInvalidacao)
+                .build();
+        this.limpezaNanos = System.nanoTime() - janelaInvalidacaoNanos;
+    }
+
+    public CepDTO get(String codigo) {
+        return get(CepUtils.parse(codigo));
+    }
+
+    public CepDTO get(int chave) {
+        if (chave == CepUtils.INVALIDO) {
+            return null;
+        }
+        CepDTO cep = cache.getIfPresent(chave);
+        return cep != null ? copiar(cep) : null;
+    }
+
+    public void put(CepDTO cep) {
+        int chave = CepUtils.parse(cep.getCodigo());
+        if (chave != CepUtils.INVALIDO && !emJanelaDeInvalidacao(chave)) {
+            cache.put(chave, copiar(cep));
+        }
+    }
+
+    /**
+     * Remove o CEP agora e de novo após o commit, para que uma leitura concorrente
+     * feita antes do commit não deixe o valor antigo no cache. A janela de invalidação
+     * recomeça no commit, quando a alteração começa a ser replicada.
+     */
+    public void invalidar(String codigo) {
+        int chave = CepUtils.parse(codigo);
+        if (chave == CepUtils.INVALIDO) {
+            return;
+        }
+        remover(chave);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remover(chave);
+                }
+            });
+        }
+    }
+
+    public void limpar() {
+        limpezaNanos = System.nanoTime();
+        cache.invalidateAll();
+    }
+
+    public Cache<Integer, CepDTO> getCache() {
+        return cache;
+    }
+
+    private void remover(int chave) {
+        invalidados.put(chave, Boolean.TRUE);
+        cache.invalidate(chave);
+    }
+
+    private boolean emJanelaDeInvalidacao(int chave) {
+        return invalidados.getIfPresent(chave) != null
+                || System.nanoTime() - limpezaNanos < janelaInvalidacaoNanos;
+    }
+
+    private static CepDTO copiar(CepDTO origem) {
+        CepDTO copia = new CepDTO();
+        copia.setId(origem.getId());
+        copia.setCodigo(origem.getCodigo());
+        copia.setLogradouro(origem.getLogradouro());
+        copia.setComplemento(origem.getComplemento());
+        copia.setBairro(origem.getBairro());
+        copia.setCidade(origem.getCidade());
+        copia.setUf(origem.getUf());
+        copia.setIbge(origem.getIbge());
+        copia.setLatitude(origem.getLatitude());
+        copia.setLongitude(origem.getLongitude());
+        copia.setDatHoraCadastro(origem.getDatHoraCadastro());
+        copia.setDatHoraAlteracao(origem.getDatHoraAlteracao());
+        return copia;
+    }
+}
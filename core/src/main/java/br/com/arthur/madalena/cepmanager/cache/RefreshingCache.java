@@ -0,0 +1,199 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache com expiração probabilística antecipada (XFetch) e stale-while-revalidate.
+ * <p>
+ * Antes de vencer, cada leitura decide ao acaso se já deve recalcular a entrada, com chance
+ * maior quanto mais perto do vencimento e quanto mais cara a carga (delta). Só uma chamada
+ * dispara a atualização em segundo plano; as demais continuam recebendo o valor atual,
+ * inclusive depois de vencido, até o limite de {@code maxStaleness}. Com isso os nós não
+ * recalculam todos ao mesmo tempo no vencimento do TTL.
+ * <p>
+ * Cada invalidação avança a geração do cache; uma carga iniciada numa geração anterior
+ * devolve o valor a quem a pediu, mas não o grava, pois pode ter lido dados já alterados.
+ */
+@Slf4j
+public class RefreshingCache<K, V> {
+
+    private final String nome;
+    private final long ttlNanos;
+    private final long maxStalenessNanos;
+    private final double beta;
+    private final Executor executor;
+    private final LongSupplier relogio;
+    private final DoubleSupplier aleatorio;
+    private final Cache<K, Entrada<V>> entradas;
+    private final SingleFlight<K, Entrada<V>> cargas;
+    private final AtomicLong geracao = new AtomicLong();
+
+    private final AtomicLong acertos = new AtomicLong();
+    private final AtomicLong faltas = new AtomicLong();
+    private final AtomicLong atualizacoes = new AtomicLong();
+    private final AtomicLong vencidosServidos = new AtomicLong();
+    private final AtomicLong falhasAtualizacao = new AtomicLong();
+    private final AtomicLong descartadas = new AtomicLong();
+
+    public RefreshingCache(String nome, Duration ttl, Duration maxStaleness, double beta, int maxEntradas,
+                           Duration maxEsperaCarga, Executor executor, LongSupplier relogio, DoubleSupplier aleatorio) {
+        this.nome = nome;
+        this.ttlNanos = ttl.toNanos();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.beta = beta;
+        this.executor = executor;
+        this.relogio = relogio;
+        this.aleatorio = aleatorio;
+        this.entradas = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(ttl.plus(maxStaleness))
+                .build();
+        this.cargas = new SingleFlight<>(nome, maxEsperaCarga);
+    }
+
+    public V get(K chave, Function<K, V> carga) {
+        long agora = relogio.getAsLong();
+        Entrada<V> entrada = entradas.getIfPresent(chave);
+
+        if (entrada == null || agora - entrada.vencimento >= maxStalenessNanos) {
+            faltas.incrementAndGet();
+            return cargas.executar(chave, () -> carregar(chave, carga)).valor;
+        }
+
+        acertos.incrementAndGet();
+        boolean vencida = agora - entrada.vencimento >= 0;
+        if (vencida) {
+            vencidosServidos.incrementAndGet();
+        }
+        if (vencida || deveAtualizarAntes(entrada, agora)) {
+            atualizarEmSegundoPlano(chave, entrada, carga);
+        }
+        return entrada.valor;
+    }
+
+    /**
+     * Descarta as entradas agora e de novo após o commit, como no {@link CepCache}.
+     */
+    public void invalidarTudo() {
+        descartarTudo();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    descartarTudo();
+                }
+            });
+        }
+    }
+
+    private void descartarTudo() {
+        geracao.incrementAndGet();
+        entradas.invalidateAll();
+    }
+
+    // XFetch: agora - delta * beta * ln(rand) >= vencimento
+    private boolean deveAtualizarAntes(Entrada<V> entrada, long agora) {
+        double sorteio = aleatorio.getAsDouble();
+        if (sorteio <= 0) {
+            return true;
+        }
+        double antecipacao = -entrada.deltaNanos * beta * Math.log(sorteio);
+        return agora + antecipacao >= entrada.vencimento;
+    }
+
+    private void atualizarEmSegundoPlano(K chave, Entrada<V> entrada, Function<K, V> carga) {
+        if (!entrada.atualizando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    carregar(chave, carga);
+                    atualizacoes.incrementAndGet();
+                } catch (RuntimeException e) {
+                    falhasAtualizacao.incrementAndGet();
+                    log.warn("Falha ao atualizar o cache {} para {}: {}", nome, chave, e.getMessage());
+                } finally {
+                    entrada.atualizando.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Sem vaga no executor: segue servindo o valor atual e tenta de novo na próxima leitura
+            entrada.atualizando.set(false);
+        }
+    }
+
+    private Entrada<V> carregar(K chave, Function<K, V> carga) {
+        long geracaoInicio = geracao.get();
+        long inicio = relogio.getAsLong();
+        V valor = carga.apply(chave);
+        long fim = relogio.getAsLong();
+        Entrada<V> entrada = new Entrada<>(valor, fim - inicio, fim + ttlNanos);
+        if (geracao.get() != geracaoInicio) {
+            descartadas.incrementAndGet();
+            return entrada;
+        }
+        entradas.put(chave, entrada);
+        // Uma invalidação entre a verificação e o put remove a entrada recém-gravada
+        if (geracao.get() != geracaoInicio) {
+            entradas.asMap().remove(chave, entrada);
+            descartadas.incrementAndGet();
+        }
+        return entrada;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    public long getFaltas() {
+        return faltas.get();
+    }
+
+    public long getAtualizacoes() {
+        return atualizacoes.get();
+    }
+
+    public long getVencidosServidos() {
+        return vencidosServidos.get();
+    }
+
+    public long getFalhasAtualizacao() {
+        return falhasAtualizacao.get();
+    }
+
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    private static final class Entrada<V> {
+
+        private final V valor;
+        private final long deltaNanos;
+        private final long vencimento;
+        private final AtomicBoolean atualizando = new AtomicBoolean();
+
+        private Entrada(V valor, long deltaNanos, long vencimento) {
+            this.valor = valor;
+            this.deltaNanos = deltaNanos;
+            this.vencimento = vencimento;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class RefreshingCacheRegistry {
+
+    private static final int THREADS_ATUALIZACAO = 2;
+    private static final int FILA_ATUALIZACAO = 100;
+    private static final int MAX_ENTRADAS = 10_000;
+
+    private final Duration ttl;
+    private final Duration maxStaleness;
+    private final double beta;
+    private final Duration maxEsperaCarga;
+    private final ExecutorService executor;
+    private final List<RefreshingCache<?, ?>> todos = new CopyOnWriteArrayList<>();
+
+    public RefreshingCacheRegistry(@Value("${app.cache.ttl:60s}") Duration ttl,
+                                   @Value("${app.cache.max-staleness:5m}") Duration maxStaleness,
+                                   @Value("${app.cache.beta:1.0}") double beta,
+                                   @Value("${app.datasource.timeout.leitura:5}") int timeoutLeitura) {
+        this.ttl = ttl;
+        this.maxStaleness = maxStaleness;
+        this.beta = beta;
+        // Quem aguarda a carga de outra chamada desiste junto com o timeout da transação de leitura
+        this.maxEsperaCarga = Duration.ofSeconds(timeoutLeitura).plus(SingleFlightRegistry.FOLGA_BULKHEAD);
+        AtomicInteger contador = new AtomicInteger();
+        // Fila limitada: sem vaga, a atualização é descartada e o valor atual continua sendo servido
+        this.executor = new ThreadPoolExecutor(THREADS_ATUALIZACAO, THREADS_ATUALIZACAO, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(FILA_ATUALIZACAO), tarefa -> {
+                    Thread thread = new Thread(tarefa, "cache-refresh-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public <K, V> RefreshingCache<K, V> criar(String nome) {
+        RefreshingCache<K, V> cache = new RefreshingCache<>(nome, ttl, maxStaleness, beta, MAX_ENTRADAS,
+                maxEsperaCarga, executor, System::nanoTime, () -> ThreadLocalRandom.current().nextDouble());
+        todos.add(cache);
+        return cache;
+    }
+
+    public List<RefreshingCache<?, ?>> getTodos() {
+        return todos;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+}
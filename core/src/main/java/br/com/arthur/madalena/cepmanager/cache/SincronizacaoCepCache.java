@@ -0,0 +1,89 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dao.CepAlteracaoDAO;
+import br.com.arthur.madalena.cepmanager.entity.CepAlteracao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leva as alterações de CEP aos caches dos demais nós. Cada escrita grava uma linha em cep_alteracao
+ * na própria transação; todos os nós da webapp e da lookup-api leem a tabela a cada
+ * app.cache.cep.sync-interval-ms e descartam o CEP do CepCache e do cache de segundo nível.
+ * A limpeza de cep_alteracao no banco fica na webapp.
+ */
+@Slf4j
+@Component
+public class SincronizacaoCepCache {
+
+    // Releitura de uma janela anterior à última sincronização cobre commits atrasados e relógios diferentes entre nós
+    static final Duration SOBREPOSICAO = Duration.ofSeconds(30);
+
+    private final CepAlteracaoDAO cepAlteracaoDAO;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final Clock clock;
+
+    // id -> data das alterações já aplicadas: a releitura da sobreposição não descarta o mesmo CEP de novo
+    private final Map<Long, Instant> aplicadas = new ConcurrentHashMap<>();
+    // Caches vazios na subida: só interessa o que mudou a partir daqui
+    private volatile Instant ultimaSincronizacao;
+
+    @Autowired
+    public SincronizacaoCepCache(CepAlteracaoDAO cepAlteracaoDAO, CacheSegundoNivel cacheSegundoNivel) {
+        this(cepAlteracaoDAO, cacheSegundoNivel, Clock.systemUTC());
+    }
+
+    SincronizacaoCepCache(CepAlteracaoDAO cepAlteracaoDAO, CacheSegundoNivel cacheSegundoNivel, Clock clock) {
+        this.cepAlteracaoDAO = cepAlteracaoDAO;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.clock = clock;
+        this.ultimaSincronizacao = clock.instant();
+    }
+
+    /**
+     * Registra a alteração na transação de quem escreveu: um rollback não deixa registro órfão.
+     * O nó que escreveu já invalidou os próprios caches e não a aplica de novo.
+     */
+    public void registrar(Long cepId, String codigo) {
+        CepAlteracao alteracao = new CepAlteracao();
+        alteracao.setCepId(cepId);
+        alteracao.setCodigo(codigo);
+        alteracao.setDatHoraAlteracao(clock.instant());
+        alteracao = cepAlteracaoDAO.save(alteracao);
+        aplicadas.put(alteracao.getId(), alteracao.getDatHoraAlteracao());
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.cep.sync-interval-ms:2000}", initialDelayString = "${app.cache.cep.sync-interval-ms:2000}")
+    public void sincronizar() {
+        Instant agora = clock.instant();
+        Instant desde = ultimaSincronizacao.minus(SOBREPOSICAO);
+        try {
+            List<CepAlteracao> novas = new ArrayList<>();
+            for (CepAlteracao alteracao : cepAlteracaoDAO.findAlteradosDesde(desde)) {
+                if (!aplicadas.containsKey(alteracao.getId())) {
+                    novas.add(alteracao);
+                }
+            }
+            cacheSegundoNivel.invalidarCeps(novas);
+            novas.forEach(alteracao -> aplicadas.put(alteracao.getId(), alteracao.getDatHoraAlteracao()));
+            aplicadas.values().removeIf(data -> data.isBefore(desde));
+            ultimaSincronizacao = agora;
+        } catch (RuntimeException e) {
+            // Na próxima execução a janela é relida a partir da última sincronização bem-sucedida
+            log.warn("Falha ao sincronizar alterações de CEP: {}", e.getMessage());
+        }
+    }
+
+    int getTotalAplicadas() {
+        return aplicadas.size();
+    }
+}
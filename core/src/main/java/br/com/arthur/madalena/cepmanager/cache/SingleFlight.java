@@ -0,0 +1,95 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa chamadas concorrentes para a mesma chave: a primeira executa a carga
+ * e as demais aguardam o mesmo resultado, em vez de repetir a consulta no banco.
+ * A espera é limitada: se a carga não terminar dentro de maxEspera, quem aguarda
+ * desiste com SobrecargaException (503) e a carga segue para quem a executa.
+ */
+public class SingleFlight<K, V> {
+
+    private final String nome;
+    private final long maxEsperaNanos;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final AtomicLong execucoes = new AtomicLong();
+    private final AtomicLong coalescidas = new AtomicLong();
+    private final AtomicLong esgotadas = new AtomicLong();
+
+    public SingleFlight(String nome, Duration maxEspera) {
+        this.nome = nome;
+        this.maxEsperaNanos = maxEspera.toNanos();
+    }
+
+    public V executar(K chave, Supplier<V> carga) {
+        CompletableFuture<V> novo = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, novo);
+        if (existente != null) {
+            coalescidas.incrementAndGet();
+            return aguardar(existente);
+        }
+
+        execucoes.incrementAndGet();
+        try {
+            V valor = carga.get();
+            novo.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            novo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, novo);
+        }
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getExecucoes() {
+        return execucoes.get();
+    }
+
+    public long getCoalescidas() {
+        return coalescidas.get();
+    }
+
+    public long getEsgotadas() {
+        return esgotadas.get();
+    }
+
+    public int getEmAndamento() {
+        return emAndamento.size();
+    }
+
+    private V aguardar(CompletableFuture<V> future) {
+        try {
+            return future.get(maxEsperaNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Repassa a mesma exceção da chamada que executou a carga (ex.: timeout do banco)
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            esgotadas.incrementAndGet();
+            throw new SobrecargaException("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SobrecargaException("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+public class SingleFlightRegistry {
+
+    // Folga sobre o timeout da transação para a espera de quem executa a carga na fila do bulkhead
+    static final Duration FOLGA_BULKHEAD = Duration.ofSeconds(1);
+
+    private final Duration maxEspera;
+    private final List<SingleFlight<?, ?>> todos = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param timeoutLeitura timeout das transações de leitura, em segundos (o mesmo do CepServiceImpl)
+     */
+    public SingleFlightRegistry(@Value("${app.datasource.timeout.leitura:5}") int timeoutLeitura) {
+        this.maxEspera = Duration.ofSeconds(timeoutLeitura).plus(FOLGA_BULKHEAD);
+    }
+
+    public <K, V> SingleFlight<K, V> criar(String nome) {
+        SingleFlight<K, V> singleFlight = new SingleFlight<>(nome, maxEspera);
+        todos.add(singleFlight);
+        return singleFlight;
+    }
+
+    public List<SingleFlight<?, ?>> getTodos() {
+        return todos;
+    }
+}
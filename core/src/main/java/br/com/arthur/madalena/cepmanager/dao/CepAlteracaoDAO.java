@@ -0,0 +1,22 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.CepAlteracao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CepAlteracaoDAO extends JpaRepository<CepAlteracao, Long> {
+
+    @Query("SELECT a FROM CepAlteracao a WHERE a.datHoraAlteracao >= :desde")
+    List<CepAlteracao> findAlteradosDesde(@Param("desde") Instant desde);
+
+    @Modifying
+    @Query("DELETE FROM CepAlteracao a WHERE a.datHoraAlteracao < :limite")
+    int deleteAnteriores(@Param("limite") Instant limite);
+}
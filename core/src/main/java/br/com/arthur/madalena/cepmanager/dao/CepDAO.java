@@ -1,20 +1,42 @@
 package br.com.arthur.madalena.cepmanager.dao;
 
 import br.com.arthur.madalena.cepmanager.entity.Cep;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface CepDAO extends JpaRepository<Cep, Long> {
+public interface CepDAO extends JpaRepository<Cep, Long>, JpaSpecificationExecutor<Cep>, CepDAOCustom {
+
+    // Com a UF o PostgreSQL consulta só a partição do estado; o resultado fica no cache de consultas
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c FROM Cep c WHERE c.uf = :uf AND c.codigo = :codigo")
+    Optional<Cep> findByCodigoAndUf(@Param("codigo") String codigo, @Param("uf") String uf);
+
+    // Consulta pela PK da cep_codigo: a UF do código sem passar por todas as partições
+    @Query("SELECT k.uf FROM CepCodigo k WHERE k.codigo = :codigo")
+    Optional<String> findUfByCodigo(@Param("codigo") String codigo);
+
+    @Query("SELECT c FROM Cep c WHERE c.codigo IN :codigos")
+    List<Cep> findByCodigoIn(@Param("codigos") Collection<String> codigos);
 
-    @Query("SELECT c FROM Cep c WHERE c.codigo = :codigo")
-    Optional<Cep> findByCodigo(@Param("codigo") String codigo);
+    // codigo tem sempre 8 dígitos, então a ordem do texto é a mesma ordem numérica
+    @Query("SELECT c FROM Cep c WHERE c.codigo BETWEEN :inicio AND :fim")
+    Page<Cep> findByCodigoBetween(@Param("inicio") String inicio, @Param("fim") String fim, Pageable pageable);
 
     @Query("SELECT c FROM Cep c WHERE LOWER(c.logradouro) LIKE LOWER(CONCAT('%', :logradouro, '%'))")
     Page<Cep> findByLogradouroContaining(@Param("logradouro") String logradouro, Pageable pageable);
@@ -22,12 +44,22 @@ public interface CepDAO extends JpaRepository<Cep, Long> {
     @Query("SELECT c FROM Cep c WHERE LOWER(c.cidade) = LOWER(:cidade)")
     Page<Cep> findByCidade(@Param("cidade") String cidade, Pageable pageable);
 
-    @Query("SELECT c FROM Cep c WHERE c.uf = UPPER(:uf)")
+    @Query("SELECT c FROM Cep c WHERE c.uf = :uf")
     Page<Cep> findByUf(@Param("uf") String uf, Pageable pageable);
 
-    @Query("SELECT c FROM Cep c WHERE LOWER(c.cidade) = LOWER(:cidade) AND c.uf = UPPER(:uf)")
+    @Query("SELECT c FROM Cep c WHERE c.uf = :uf AND LOWER(c.cidade) = LOWER(:cidade)")
     Page<Cep> findByCidadeAndUf(@Param("cidade") String cidade, @Param("uf") String uf, Pageable pageable);
 
+    @Query("SELECT c.uf, COUNT(c) FROM Cep c GROUP BY c.uf ORDER BY c.uf")
+    List<Object[]> countPorUf();
+
+    @Query("SELECT COUNT(DISTINCT c.cidade) FROM Cep c")
+    long countCidades();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT c.codigo, c.latitude, c.longitude FROM Cep c WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    Stream<Object[]> streamCoordenadas();
+
     @Query(value = "SELECT EXISTS(SELECT 1 FROM cep WHERE codigo = :codigo)", nativeQuery = true)
     boolean existsByCodigo(@Param("codigo") String codigo);
 
@@ -0,0 +1,17 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CepDAOCustom {
+
+    // Busca só a página pedida, sem o COUNT que o findAll(spec, pageable) sempre executa
+    List<Cep> findPagina(Specification<Cep> specification, Pageable pageable);
+
+    // Busca pelo natural id: repetida, é resolvida pelo cache de segundo nível sem SQL
+    Optional<Cep> findByCodigo(String codigo);
+}
@@ -0,0 +1,58 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public class CepDAOCustomImpl implements CepDAOCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Cep> findPagina(Specification<Cep> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Cep> query = cb.createQuery(Cep.class);
+        Root<Cep> root = query.from(Cep.class);
+
+        Predicate predicado = specification.toPredicate(root, query, cb);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Cep> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    // Transacional para a Session obtida pelo unwrap continuar aberta durante a busca
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Cep> findByCodigo(String codigo) {
+        if (codigo == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Cep.class)
+                .loadOptional(codigo);
+    }
+}
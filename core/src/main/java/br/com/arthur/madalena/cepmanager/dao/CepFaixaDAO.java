@@ -0,0 +1,15 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.CepFaixa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CepFaixaDAO extends JpaRepository<CepFaixa, Long> {
+
+    @Query("SELECT f FROM CepFaixa f ORDER BY f.cepInicial")
+    List<CepFaixa> findAllOrderByCepInicial();
+}
@@ -0,0 +1,128 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class CepSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private CepSpecifications() {
+    }
+
+    /*
+     * Os filtros geram LOWER(coluna) LIKE '%valor%', a mesma expressão dos índices GIN pg_trgm
+     * (changeset-012); a UF é comparada por igualdade para o PostgreSQL podar as partições.
+     */
+    public static Specification<Cep> porFiltro(CepFiltroDTO filtro) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+            if (filtro == null) {
+                return cb.conjunction();
+            }
+
+            String codigo = CepUtils.somenteDigitos(filtro.getCodigo());
+            if (!codigo.isEmpty()) {
+                predicados.add(cb.like(root.get("codigo"), escapar(codigo) + "%", ESCAPE));
+            }
+            adicionarContem(predicados, cb, root, "logradouro", filtro.getLogradouro());
+            adicionarContem(predicados, cb, root, "bairro", filtro.getBairro());
+            adicionarContem(predicados, cb, root, "cidade", filtro.getCidade());
+            if (temTexto(filtro.getUf())) {
+                predicados.add(cb.equal(root.get("uf"), filtro.getUf().trim().toUpperCase(Locale.ROOT)));
+            }
+            if (temTexto(filtro.getTermo())) {
+                String padrao = contem(filtro.getTermo());
+                predicados.add(cb.or(
+                        cb.like(cb.lower(root.get("logradouro")), padrao, ESCAPE),
+                        cb.like(cb.lower(root.get("bairro")), padrao, ESCAPE),
+                        cb.like(cb.lower(root.get("cidade")), padrao, ESCAPE)));
+            }
+
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+    }
+
+    // Campos de texto comparam LOWER(coluna), a mesma expressão dos índices lower/pattern/trigram
+    // Sem nenhum critério o porFiltro não restringe nada: o total é o da tabela inteira
+    public static boolean semFiltro(CepFiltroDTO filtro) {
+        return filtro == null
+                || (CepUtils.somenteDigitos(filtro.getCodigo()).isEmpty()
+                && !temTexto(filtro.getLogradouro())
+                && !temTexto(filtro.getBairro())
+                && !temTexto(filtro.getCidade())
+                && !temTexto(filtro.getUf())
+                && !temTexto(filtro.getTermo()));
+    }
+
+    public static Specification<Cep> porCriterios(List<CriterioConsultaDTO> criterios) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+            for (CriterioConsultaDTO criterio : criterios) {
+                predicados.add(predicado(cb, root, criterio));
+            }
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Predicate predicado(CriteriaBuilder cb, Root<Cep> root, CriterioConsultaDTO criterio) {
+        String campo = criterio.getCampo();
+        String valor = criterio.getValor().trim();
+
+        Expression<String> coluna;
+        if (campo.equals("codigo") || campo.equals("ibge")) {
+            coluna = root.get(campo);
+            valor = campo.equals("codigo") ? CepUtils.somenteDigitos(valor) : valor;
+        } else if (campo.equals("uf")) {
+            return cb.equal(root.get(campo), valor.toUpperCase(Locale.ROOT));
+        } else {
+            coluna = cb.lower(root.get(campo));
+            valor = valor.toLowerCase(Locale.ROOT);
+        }
+
+        return switch (criterio.getOperador()) {
+            case IGUAL -> cb.equal(coluna, valor);
+            case PREFIXO -> cb.like(coluna, escapar(valor) + "%", ESCAPE);
+            case CONTEM -> cb.like(coluna, "%" + escapar(valor) + "%", ESCAPE);
+        };
+    }
+
+    private static void adicionarContem(List<Predicate> predicados, CriteriaBuilder cb, Root<Cep> root,
+                                        String campo, String valor) {
+        if (temTexto(valor)) {
+            Expression<String> coluna = cb.lower(root.get(campo));
+            predicados.add(cb.like(coluna, contem(valor), ESCAPE));
+        }
+    }
+
+    private static String contem(String valor) {
+        return "%" + escapar(valor.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    private static String escapar(String valor) {
+        StringBuilder sb = new StringBuilder(valor.length() + 4);
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean temTexto(String valor) {
+        return valor != null && !valor.isBlank();
+    }
+}
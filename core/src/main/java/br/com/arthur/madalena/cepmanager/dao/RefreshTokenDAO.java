@@ -0,0 +1,36 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenDAO extends JpaRepository<RefreshToken, Long> {
+
+    // Usuário e permissões do banco, não do cache de segundo nível: o novo access token leva as permissões atuais
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.usuario u LEFT JOIN FETCH u.permissoes WHERE r.tokenHash = :tokenHash")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "REFRESH"))
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Revogação condicional: entre rotações simultâneas do mesmo token, só uma altera a linha
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.datHoraRevogacao = :agora WHERE r.id = :id AND r.datHoraRevogacao IS NULL")
+    int revogarSeAtivo(@Param("id") Long id, @Param("agora") Instant agora);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.datHoraRevogacao = :agora WHERE r.usuario.id = :usuarioId AND r.datHoraRevogacao IS NULL")
+    int revogarDoUsuario(@Param("usuarioId") Long usuarioId, @Param("agora") Instant agora);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.datHoraExpiracao < :limite")
+    int deleteExpirados(@Param("limite") Instant limite);
+}
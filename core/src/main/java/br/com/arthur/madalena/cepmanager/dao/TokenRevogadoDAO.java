@@ -0,0 +1,22 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.TokenRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevogadoDAO extends JpaRepository<TokenRevogado, Long> {
+
+    @Query("SELECT t FROM TokenRevogado t WHERE t.datHoraRevogacao >= :desde AND t.datHoraExpiracao > :agora")
+    List<TokenRevogado> findRevogadosDesde(@Param("desde") Instant desde, @Param("agora") Instant agora);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevogado t WHERE t.datHoraExpiracao < :limite")
+    int deleteExpirados(@Param("limite") Instant limite);
+}
@@ -1,20 +1,32 @@
 package br.com.arthur.madalena.cepmanager.dao;
 
 import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface UsuarioDAO extends JpaRepository<Usuario, Long> {
-
-    @Query("SELECT u FROM Usuario u WHERE u.username = :username")
-    Optional<Usuario> findByUsername(@Param("username") String username);
+public interface UsuarioDAO extends JpaRepository<Usuario, Long>, UsuarioDAOCustom {
+
+    /*
+     * Login, refresh e alterações de senha, status e permissões leem do banco: o cache de segundo nível
+     * é por nó e pode estar até 30s atrasado em relação a outro nó. REFRESH atualiza a cópia local.
+     */
+    @Query("SELECT u FROM Usuario u LEFT JOIN FETCH u.permissoes WHERE u.username = :username")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "REFRESH"))
+    Optional<Usuario> findByUsernameSemCache(@Param("username") String username);
+
+    @Query("SELECT u FROM Usuario u LEFT JOIN FETCH u.permissoes WHERE u.id = :id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "REFRESH"))
+    Optional<Usuario> findByIdSemCache(@Param("id") Long id);
 
     @Query("SELECT u FROM Usuario u WHERE u.email = :email")
     Optional<Usuario> findByEmail(@Param("email") String email);
@@ -0,0 +1,11 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+
+import java.util.Optional;
+
+public interface UsuarioDAOCustom {
+
+    // Busca pelo natural id: usuário e permissões vêm do cache de segundo nível a cada requisição autenticada
+    Optional<Usuario> findByUsername(String username);
+}
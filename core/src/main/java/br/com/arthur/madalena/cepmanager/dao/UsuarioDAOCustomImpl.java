@@ -0,0 +1,27 @@
+package br.com.arthur.madalena.cepmanager.dao;
+
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UsuarioDAOCustomImpl implements UsuarioDAOCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Transacional para a Session obtida pelo unwrap continuar aberta durante a busca
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Usuario> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Usuario.class)
+                .loadOptional(username);
+    }
+}
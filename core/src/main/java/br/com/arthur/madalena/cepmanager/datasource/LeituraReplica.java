@@ -0,0 +1,17 @@
+package br.com.arthur.madalena.cepmanager.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca serviços cujas transações somente leitura podem ser atendidas por uma réplica.
+ * Transações de escrita continuam indo para o banco primário.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeituraReplica {
+}
@@ -0,0 +1,101 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+import br.com.arthur.madalena.cepmanager.entity.CepFaixa;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Índice imutável de faixas de CEP em memória. Faixas de cidade e de UF ficam em níveis separados,
+ * cada um com arrays ordenados pelo CEP inicial, e a resolução é uma busca binária por nível.
+ */
+public final class CepFaixaIndex {
+
+    public static final CepFaixaIndex VAZIO = new CepFaixaIndex(List.of());
+
+    private final Nivel cidades;
+    private final Nivel ufs;
+
+    public CepFaixaIndex(Collection<CepFaixa> faixas) {
+        List<CepFaixa> porCidade = new ArrayList<>();
+        List<CepFaixa> porUf = new ArrayList<>();
+        for (CepFaixa faixa : faixas) {
+            if (faixa.getCepInicial() > faixa.getCepFinal()) {
+                throw new IllegalArgumentException("Faixa de CEP inválida: " + faixa.getCepInicial() + " > " + faixa.getCepFinal());
+            }
+            if (faixa.getCidade() == null || faixa.getCidade().isBlank()) {
+                porUf.add(faixa);
+            } else {
+                porCidade.add(faixa);
+            }
+        }
+        this.cidades = new Nivel(porCidade);
+        this.ufs = new Nivel(porUf);
+    }
+
+    // Retorna a faixa mais específica (cidade, depois UF) que contém o CEP, ou null
+    public CepFaixa resolver(int cep) {
+        CepFaixa faixa = cidades.buscar(cep);
+        return faixa != null ? faixa : ufs.buscar(cep);
+    }
+
+    public CepFaixa resolver(String codigo) {
+        int cep = CepUtils.parse(codigo);
+        return cep == CepUtils.INVALIDO ? null : resolver(cep);
+    }
+
+    public Uf resolverUf(int cep) {
+        CepFaixa faixa = ufs.buscar(cep);
+        if (faixa == null) {
+            faixa = cidades.buscar(cep);
+        }
+        return faixa != null ? Uf.fromSigla(faixa.getUf()) : null;
+    }
+
+    public int totalFaixas() {
+        return cidades.tamanho() + ufs.tamanho();
+    }
+
+    private static final class Nivel {
+
+        private final int[] inicios;
+        private final int[] fins;
+        private final CepFaixa[] faixas;
+
+        Nivel(List<CepFaixa> lista) {
+            CepFaixa[] ordenadas = lista.toArray(new CepFaixa[0]);
+            Arrays.sort(ordenadas, Comparator.comparingInt(CepFaixa::getCepInicial));
+            inicios = new int[ordenadas.length];
+            fins = new int[ordenadas.length];
+            for (int i = 0; i < ordenadas.length; i++) {
+                inicios[i] = ordenadas[i].getCepInicial();
+                fins[i] = ordenadas[i].getCepFinal();
+                if (i > 0 && inicios[i] <= fins[i - 1]) {
+                    throw new IllegalArgumentException("Faixas de CEP sobrepostas: " + inicios[i - 1] + "-" + fins[i - 1]
+                            + " e " + inicios[i] + "-" + fins[i]);
+                }
+            }
+            faixas = ordenadas;
+        }
+
+        CepFaixa buscar(int cep) {
+            // Maior início <= cep; como as faixas não se sobrepõem, só ela pode conter o CEP
+            int posicao = Arrays.binarySearch(inicios, cep);
+            if (posicao < 0) {
+                posicao = -posicao - 2;
+            }
+            if (posicao < 0 || cep > fins[posicao]) {
+                return null;
+            }
+            return faixas[posicao];
+        }
+
+        int tamanho() {
+            return faixas.length;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Índice espacial imutável em grade regular de {@value #CELULA_GRAUS} grau. Os pontos ficam ordenados
+ * por célula em arrays primitivos, e a busca percorre só as células da caixa que envolve o raio.
+ */
+public final class CepGeoIndex {
+
+    static final double CELULA_GRAUS = 0.1;
+    private static final int LINHAS = 1800;
+    private static final int COLUNAS = 3600;
+    private static final double KM_POR_GRAU = 111.32;
+    private static final double RAIO_TERRA_KM = 6371.0088;
+
+    public static final CepGeoIndex VAZIO = new Builder().build();
+
+    private final int[] celulas;
+    private final int[] inicioCelula;
+    private final float[] latitudes;
+    private final float[] longitudes;
+    private final int[] codigos;
+
+    private CepGeoIndex(int[] celulas, int[] inicioCelula, float[] latitudes, float[] longitudes, int[] codigos) {
+        this.celulas = celulas;
+        this.inicioCelula = inicioCelula;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.codigos = codigos;
+    }
+
+    public int tamanho() {
+        return codigos.length;
+    }
+
+    // Retorna até 'limite' pontos dentro do raio, do mais próximo para o mais distante
+    public Resultado[] buscar(double latitude, double longitude, double raioKm, int limite) {
+        if (codigos.length == 0 || limite <= 0) {
+            return new Resultado[0];
+        }
+
+        double deltaLat = raioKm / KM_POR_GRAU;
+        // Usa a latitude da caixa mais distante do equador, onde o grau de longitude é menor
+        double latitudeExtrema = Math.min(90.0, Math.abs(latitude) + deltaLat);
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitudeExtrema)), 0.01);
+        double deltaLon = Math.min(raioKm / (KM_POR_GRAU * cosLat), 180.0);
+
+        int linhaMin = linha(latitude - deltaLat);
+        int linhaMax = linha(latitude + deltaLat);
+        int colunaMin = (int) Math.floor((longitude - deltaLon + 180.0) / CELULA_GRAUS);
+        int colunaMax = (int) Math.floor((longitude + deltaLon + 180.0) / CELULA_GRAUS);
+        if (colunaMax - colunaMin >= COLUNAS) {
+            colunaMin = 0;
+            colunaMax = COLUNAS - 1;
+        }
+
+        // Heap de máximo limitado ao tamanho do resultado
+        PriorityQueue<Resultado> melhores = new PriorityQueue<>(limite + 1,
+                (a, b) -> Double.compare(b.distanciaKm(), a.distanciaKm()));
+
+        for (int linha = linhaMin; linha <= linhaMax; linha++) {
+            for (int coluna = colunaMin; coluna <= colunaMax; coluna++) {
+                int celula = linha * COLUNAS + Math.floorMod(coluna, COLUNAS);
+                int posicao = Arrays.binarySearch(celulas, celula);
+                if (posicao < 0) {
+                    continue;
+                }
+                for (int i = inicioCelula[posicao]; i < inicioCelula[posicao + 1]; i++) {
+                    double distancia = distanciaKm(latitude, longitude, latitudes[i], longitudes[i]);
+                    if (distancia > raioKm) {
+                        continue;
+                    }
+                    if (melhores.size() < limite) {
+                        melhores.add(new Resultado(codigos[i], latitudes[i], longitudes[i], distancia));
+                    } else if (distancia < melhores.peek().distanciaKm()) {
+                        melhores.poll();
+                        melhores.add(new Resultado(codigos[i], latitudes[i], longitudes[i], distancia));
+                    }
+                }
+            }
+        }
+
+        Resultado[] resultado = new Resultado[melhores.size()];
+        for (int i = resultado.length - 1; i >= 0; i--) {
+            resultado[i] = melhores.poll();
+        }
+        return resultado;
+    }
+
+    static double distanciaKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static int linha(double latitude) {
+        int linha = (int) Math.floor((latitude + 90.0) / CELULA_GRAUS);
+        return Math.max(0, Math.min(LINHAS - 1, linha));
+    }
+
+    private static int celula(double latitude, double longitude) {
+        int coluna = Math.floorMod((int) Math.floor((longitude + 180.0) / CELULA_GRAUS), COLUNAS);
+        return linha(latitude) * COLUNAS + coluna;
+    }
+
+    public record Resultado(int codigo, double latitude, double longitude, double distanciaKm) {
+    }
+
+    public static final class Builder {
+
+        private float[] latitudes = new float[1024];
+        private float[] longitudes = new float[1024];
+        private int[] codigos = new int[1024];
+        private int tamanho;
+
+        public Builder adicionar(int codigo, double latitude, double longitude) {
+            if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+                return this;
+            }
+            if (tamanho == codigos.length) {
+                int capacidade = tamanho * 2;
+                latitudes = Arrays.copyOf(latitudes, capacidade);
+                longitudes = Arrays.copyOf(longitudes, capacidade);
+                codigos = Arrays.copyOf(codigos, capacidade);
+            }
+            latitudes[tamanho] = (float) latitude;
+            longitudes[tamanho] = (float) longitude;
+            codigos[tamanho] = codigo;
+            tamanho++;
+            return this;
+        }
+
+        public CepGeoIndex build() {
+            // Ordena por célula empacotando (célula, posição) em um long, sem boxing
+            long[] chaves = new long[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                chaves[i] = ((long) celula(latitudes[i], longitudes[i]) << 32) | i;
+            }
+            Arrays.sort(chaves);
+
+            float[] lat = new float[tamanho];
+            float[] lon = new float[tamanho];
+            int[] cod = new int[tamanho];
+            int[] celulas = new int[tamanho];
+            int[] inicios = new int[tamanho + 1];
+            int totalCelulas = 0;
+            for (int i = 0; i < tamanho; i++) {
+                int origem = (int) chaves[i];
+                int celula = (int) (chaves[i] >>> 32);
+                lat[i] = latitudes[origem];
+                lon[i] = longitudes[origem];
+                cod[i] = codigos[origem];
+                if (totalCelulas == 0 || celulas[totalCelulas - 1] != celula) {
+                    celulas[totalCelulas] = celula;
+                    inicios[totalCelulas] = i;
+                    totalCelulas++;
+                }
+            }
+            inicios[totalCelulas] = tamanho;
+
+            return new CepGeoIndex(Arrays.copyOf(celulas, totalCelulas), Arrays.copyOf(inicios, totalCelulas + 1),
+                    lat, lon, cod);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class LocalidadeDictionary {
+
+    static final int MAX_CIDADES = 20_000;
+    static final int MAX_BAIRROS = 250_000;
+
+    private final Map<Integer, String> cidadesPorIbge = new ConcurrentHashMap<>(8192);
+    private final Map<String, String> cidades = new ConcurrentHashMap<>(8192);
+    private final Map<String, String> bairros = new ConcurrentHashMap<>(65536);
+
+    public String uf(String uf) {
+        Uf valor = Uf.fromSigla(uf);
+        return valor != null ? valor.name() : uf;
+    }
+
+    public int ufId(String uf) {
+        Uf valor = Uf.fromSigla(uf);
+        return valor != null ? valor.getCodigoIbge() : 0;
+    }
+
+    public String cidade(String cidade, String ibge) {
+        if (cidade == null) {
+            return null;
+        }
+
+        int id = cidadeId(ibge);
+        if (id > 0) {
+            String canonica = cidadesPorIbge.get(id);
+            if (canonica == null && cidadesPorIbge.size() < MAX_CIDADES) {
+                canonica = cidadesPorIbge.putIfAbsent(id, intern(cidades, cidade, MAX_CIDADES));
+                if (canonica == null) {
+                    return cidadesPorIbge.get(id);
+                }
+            }
+            if (cidade.equals(canonica)) {
+                return canonica;
+            }
+        }
+
+        return intern(cidades, cidade, MAX_CIDADES);
+    }
+
+    public String cidadeNome(int ibge) {
+        return cidadesPorIbge.get(ibge);
+    }
+
+    public int cidadeId(String ibge) {
+        if (ibge == null || ibge.length() != 7) {
+            return 0;
+        }
+        int id = 0;
+        for (int i = 0; i < 7; i++) {
+            char c = ibge.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    public String bairro(String bairro) {
+        if (bairro == null) {
+            return null;
+        }
+        return intern(bairros, bairro, MAX_BAIRROS);
+    }
+
+    public int totalCidades() {
+        return cidades.size();
+    }
+
+    public int totalBairros() {
+        return bairros.size();
+    }
+
+    public void clear() {
+        cidadesPorIbge.clear();
+        cidades.clear();
+        bairros.clear();
+    }
+
+    private String intern(Map<String, String> pool, String valor, int limite) {
+        String existente = pool.get(valor);
+        if (existente != null) {
+            return existente;
+        }
+        // Acima do limite o valor segue sem deduplicação, evitando crescimento sem controle
+        if (pool.size() >= limite) {
+            return valor;
+        }
+        existente = pool.putIfAbsent(valor, valor);
+        return existente != null ? existente : valor;
+    }
+}
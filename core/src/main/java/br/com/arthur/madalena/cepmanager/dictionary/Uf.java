@@ -0,0 +1,55 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+public enum Uf {
+
+    RO(11), AC(12), AM(13), RR(14), PA(15), AP(16), TO(17),
+    MA(21), PI(22), CE(23), RN(24), PB(25), PE(26), AL(27), SE(28), BA(29),
+    MG(31), ES(32), RJ(33), SP(35),
+    PR(41), SC(42), RS(43),
+    MS(50), MT(51), GO(52), DF(53);
+
+    // Tabela indexada pelas duas letras da sigla, evita alocação em toUpperCase/valueOf
+    private static final Uf[] POR_SIGLA = new Uf[26 * 26];
+
+    static {
+        for (Uf uf : values()) {
+            POR_SIGLA[indice(uf.name().charAt(0), uf.name().charAt(1))] = uf;
+        }
+    }
+
+    private final int codigoIbge;
+
+    Uf(int codigoIbge) {
+        this.codigoIbge = codigoIbge;
+    }
+
+    public int getCodigoIbge() {
+        return codigoIbge;
+    }
+
+    public static Uf fromSigla(CharSequence sigla) {
+        if (sigla == null || sigla.length() != 2) {
+            return null;
+        }
+        int indice = indice(sigla.charAt(0), sigla.charAt(1));
+        return indice < 0 ? null : POR_SIGLA[indice];
+    }
+
+    public static Uf fromCodigoIbge(int codigoIbge) {
+        for (Uf uf : values()) {
+            if (uf.codigoIbge == codigoIbge) {
+                return uf;
+            }
+        }
+        return null;
+    }
+
+    private static int indice(char primeira, char segunda) {
+        int a = Character.toUpperCase(primeira) - 'A';
+        int b = Character.toUpperCase(segunda) - 'A';
+        if (a < 0 || a >= 26 || b < 0 || b >= 26) {
+            return -1;
+        }
+        return a * 26 + b;
+    }
+}
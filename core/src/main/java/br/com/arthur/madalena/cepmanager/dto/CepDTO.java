@@ -1,5 +1,8 @@
 package br.com.arthur.madalena.cepmanager.dto;
 
+import br.com.arthur.madalena.cepmanager.validation.CepValido;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -18,7 +21,7 @@ public class CepDTO implements Serializable {
     private Long id;
 
     @NotBlank(message = "CEP é obrigatório")
-    @Pattern(regexp = "\\d{5}-?\\d{3}", message = "CEP deve conter 8 dígitos no formato 00000-000 ou 00000000")
+    @CepValido
     private String codigo;
 
     @NotBlank(message = "Logradouro é obrigatório")
@@ -43,6 +46,14 @@ public class CepDTO implements Serializable {
     @Size(max = 7, message = "Código IBGE deve ter no máximo 7 caracteres")
     @Pattern(regexp = "^$|^[0-9]{7}$", message = "Código IBGE deve ter 7 dígitos numéricos ou estar vazio")
     private String ibge;
+
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    private Double longitude;
     
     private LocalDateTime datHoraCadastro;
     private LocalDateTime datHoraAlteracao;
@@ -0,0 +1,19 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepFaixaDTO implements Serializable {
+
+    private String cepInicial;
+    private String cepFinal;
+    private String uf;
+    private String cidade;
+    private String ibge;
+}
@@ -0,0 +1,22 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepFiltroDTO implements Serializable {
+
+    // Prefixo do CEP, com ou sem hífen
+    private String codigo;
+    private String logradouro;
+    private String bairro;
+    private String cidade;
+    private String uf;
+    // Pesquisa geral em logradouro, bairro e cidade
+    private String termo;
+}
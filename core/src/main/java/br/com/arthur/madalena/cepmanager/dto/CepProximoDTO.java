@@ -0,0 +1,18 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepProximoDTO implements Serializable {
+
+    private String codigo;
+    private Double latitude;
+    private Double longitude;
+    private Double distanciaKm;
+}
@@ -0,0 +1,27 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+
+/**
+ * CEP nas listas do formato resumido (Accept: application/vnd.cepfinder.resumo+json):
+ * sem id e sem os campos de auditoria, que o CepMapper não preenche.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CepResumoDTO(String codigo,
+                           String logradouro,
+                           String complemento,
+                           String bairro,
+                           String cidade,
+                           String uf,
+                           String ibge,
+                           Double latitude,
+                           Double longitude) implements Serializable {
+
+    public static final String MEDIA_TYPE = "application/vnd.cepfinder.resumo+json";
+
+    public static CepResumoDTO de(CepDTO cep) {
+        return new CepResumoDTO(cep.getCodigo(), cep.getLogradouro(), cep.getComplemento(), cep.getBairro(),
+                cep.getCidade(), cep.getUf(), cep.getIbge(), cep.getLatitude(), cep.getLongitude());
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CriterioConsultaDTO implements Serializable {
+
+    private String campo;
+    private OperadorConsulta operador;
+    private String valor;
+}
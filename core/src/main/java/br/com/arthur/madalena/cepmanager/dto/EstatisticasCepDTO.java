@@ -0,0 +1,21 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasCepDTO implements Serializable {
+
+    private long totalCeps;
+    private long totalCidades;
+    private long totalEstados;
+    // Ordenado pela sigla da UF
+    private Map<String, Long> cepsPorUf = new LinkedHashMap<>();
+}
@@ -0,0 +1,7 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+public enum OperadorConsulta {
+    IGUAL,
+    PREFIXO,
+    CONTEM
+}
@@ -0,0 +1,25 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Envelope de paginação do formato resumido: só o conteúdo e os números da página,
+ * no lugar do pageable e sort serializados pelo Page do Spring Data.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PaginaDTO<T>(List<T> conteudo,
+                           int pagina,
+                           int tamanho,
+                           long totalElementos,
+                           int totalPaginas) implements Serializable {
+
+    public static <E, T> PaginaDTO<T> de(Page<E> page, Function<? super E, ? extends T> conversor) {
+        List<T> conteudo = page.getContent().stream().<T>map(conversor).toList();
+        return new PaginaDTO<>(conteudo, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -1,12 +1,19 @@
 package br.com.arthur.madalena.cepmanager.entity;
 
+import br.com.arthur.madalena.cepmanager.validation.CepValido;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -15,8 +22,12 @@ import java.time.LocalDateTime;
 @Table(name = "cep", indexes = {
     @Index(name = "idx_cep_codigo", columnList = "codigo"),
     @Index(name = "idx_cep_logradouro", columnList = "logradouro"),
-    @Index(name = "idx_cep_cidade", columnList = "cidade")
+    @Index(name = "idx_cep_cidade", columnList = "cidade"),
+    @Index(name = "idx_cep_uf_cidade", columnList = "uf, cidade")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cep")
+@NaturalIdCache(region = "cep-codigo")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,7 +39,9 @@ public class Cep implements Serializable {
     private Long id;
 
     @NotBlank(message = "CEP é obrigatório")
-    @Pattern(regexp = "\\d{8}", message = "CEP deve conter 8 dígitos")
+    @CepValido(permitirTraco = false, message = "CEP deve conter 8 dígitos")
+    // Único entre todas as UFs: no PostgreSQL pela PK da cep_codigo (ver CepCodigo)
+    @NaturalId
     @Column(name = "codigo", unique = true, nullable = false, length = 8)
     private String codigo;
 
@@ -61,6 +74,16 @@ public class Cep implements Serializable {
     @Column(name = "ibge", length = 7)
     private String ibge;
 
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "dat_hora_cadastro")
     private LocalDateTime datHoraCadastro;
 
@@ -0,0 +1,33 @@
+package br.com.arthur.madalena.cepmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Alteração ou exclusão de um CEP, gravada na mesma transação da escrita. Os demais nós
+ * (webapp e lookup-api) a leem para descartar o CEP dos próprios caches.
+ */
+@Entity
+@Table(name = "cep_alteracao")
+@Data
+@NoArgsConstructor
+public class CepAlteracao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_cep_alteracao")
+    @SequenceGenerator(name = "seq_cep_alteracao", sequenceName = "seq_cep_alteracao", allocationSize = 1)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "cep_id", nullable = false)
+    private Long cepId;
+
+    @Column(name = "codigo", nullable = false, length = 8)
+    private String codigo;
+
+    @Column(name = "dat_hora_alteracao", nullable = false)
+    private Instant datHoraAlteracao;
+}
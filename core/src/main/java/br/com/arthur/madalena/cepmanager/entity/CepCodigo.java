@@ -0,0 +1,30 @@
+package br.com.arthur.madalena.cepmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Código de CEP e a UF (partição) onde ele está. Mantida pela trigger trg_cep_codigo
+ * (changeset-009), garante a unicidade global do código na tabela particionada.
+ */
+@Entity
+@Immutable
+@Table(name = "cep_codigo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepCodigo {
+
+    @Id
+    @Column(name = "codigo", length = 8)
+    private String codigo;
+
+    @Column(name = "uf", nullable = false, length = 2)
+    private String uf;
+}
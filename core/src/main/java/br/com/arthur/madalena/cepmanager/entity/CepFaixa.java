@@ -0,0 +1,39 @@
+package br.com.arthur.madalena.cepmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "cep_faixa", indexes = {
+    @Index(name = "idx_cep_faixa_inicial", columnList = "cep_inicial")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepFaixa implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "cep_inicial", nullable = false)
+    private Integer cepInicial;
+
+    @Column(name = "cep_final", nullable = false)
+    private Integer cepFinal;
+
+    @Column(name = "uf", nullable = false, length = 2)
+    private String uf;
+
+    // Nula quando a faixa cobre a UF inteira
+    @Column(name = "cidade", length = 100)
+    private String cidade;
+
+    @Column(name = "ibge", length = 7)
+    private String ibge;
+}
@@ -0,0 +1,40 @@
+package br.com.arthur.madalena.cepmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_token")
+@Data
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_refresh_token")
+    @SequenceGenerator(name = "seq_refresh_token", sequenceName = "seq_refresh_token", allocationSize = 1)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "dat_hora_cadastro", nullable = false)
+    private Instant datHoraCadastro;
+
+    @Column(name = "dat_hora_expiracao", nullable = false)
+    private Instant datHoraExpiracao;
+
+    @Column(name = "dat_hora_revogacao")
+    private Instant datHoraRevogacao;
+
+    public boolean isValido(Instant agora) {
+        return datHoraRevogacao == null && datHoraExpiracao.isAfter(agora);
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.arthur.madalena.cepmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Revogação de access token: com jti, um token específico; sem jti, todos os tokens
+ * do usuário emitidos até datHoraRevogacao.
+ */
+@Entity
+@Table(name = "token_revogado")
+@Data
+@NoArgsConstructor
+public class TokenRevogado {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_token_revogado")
+    @SequenceGenerator(name = "seq_token_revogado", sequenceName = "seq_token_revogado", allocationSize = 1)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "dat_hora_revogacao", nullable = false)
+    private Instant datHoraRevogacao;
+
+    @Column(name = "dat_hora_expiracao", nullable = false)
+    private Instant datHoraExpiracao;
+}
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,6 +17,9 @@ import java.util.Set;
 
 @Entity
 @Table(name = "usuario")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario")
+@NaturalIdCache(region = "usuario-username")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +31,7 @@ public class Usuario {
     @Column(name = "id")
     private Long id;
 
+    @NaturalId
     @Column(name = "username", nullable = false, unique = true, length = 50)
     private String username;
 
@@ -49,6 +57,7 @@ public class Usuario {
     private LocalDateTime dataExpiracaoToken;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario-permissoes")
     @CollectionTable(name = "usuario_permissao", joinColumns = @JoinColumn(name = "usuario_id"))
     @Column(name = "permissao")
     private Set<String> permissoes = new HashSet<>();
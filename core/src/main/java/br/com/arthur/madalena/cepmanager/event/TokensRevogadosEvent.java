@@ -0,0 +1,12 @@
+package br.com.arthur.madalena.cepmanager.event;
+
+import java.time.Instant;
+
+/**
+ * Publicado quando os access tokens já emitidos para o usuário deixam de valer
+ * (senha alterada, conta desativada, permissões alteradas). Com encerrarSessoes
+ * os refresh tokens também são revogados e o usuário precisa fazer login novamente;
+ * sem ele, basta renovar o access token para receber as permissões atuais.
+ */
+public record TokensRevogadosEvent(String username, Instant instante, boolean encerrarSessoes) {
+}
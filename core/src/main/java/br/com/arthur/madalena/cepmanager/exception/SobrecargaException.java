@@ -0,0 +1,8 @@
+package br.com.arthur.madalena.cepmanager.exception;
+
+public class SobrecargaException extends RuntimeException {
+
+    public SobrecargaException(String message) {
+        super(message);
+    }
+}
@@ -1,12 +1,18 @@
 package br.com.arthur.madalena.cepmanager.mapper;
 
+import br.com.arthur.madalena.cepmanager.dictionary.LocalidadeDictionary;
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
 import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class CepMapper {
 
+    private final LocalidadeDictionary localidadeDictionary;
+
     public CepDTO toDTO(Cep entity) {
         if (entity == null) {
             return null;
@@ -17,10 +23,12 @@ public class CepMapper {
         dto.setCodigo(entity.getCodigo());
         dto.setLogradouro(entity.getLogradouro());
         dto.setComplemento(entity.getComplemento());
-        dto.setBairro(entity.getBairro());
-        dto.setCidade(entity.getCidade());
-        dto.setUf(entity.getUf());
+        dto.setBairro(localidadeDictionary.bairro(entity.getBairro()));
+        dto.setCidade(localidadeDictionary.cidade(entity.getCidade(), entity.getIbge()));
+        dto.setUf(localidadeDictionary.uf(entity.getUf()));
         dto.setIbge(entity.getIbge());
+        dto.setLatitude(entity.getLatitude());
+        dto.setLongitude(entity.getLongitude());
 
         return dto;
     }
@@ -32,13 +40,15 @@ public class CepMapper {
 
         Cep entity = new Cep();
         entity.setId(dto.getId());
-        entity.setCodigo(dto.getCodigo());
+        entity.setCodigo(CepUtils.normalizar(dto.getCodigo()));
         entity.setLogradouro(dto.getLogradouro());
         entity.setComplemento(emptyToNull(dto.getComplemento()));
-        entity.setBairro(dto.getBairro());
-        entity.setCidade(dto.getCidade());
-        entity.setUf(dto.getUf());
         entity.setIbge(emptyToNull(dto.getIbge()));
+        entity.setBairro(localidadeDictionary.bairro(dto.getBairro()));
+        entity.setCidade(localidadeDictionary.cidade(dto.getCidade(), entity.getIbge()));
+        entity.setUf(localidadeDictionary.uf(dto.getUf()));
+        entity.setLatitude(dto.getLatitude());
+        entity.setLongitude(dto.getLongitude());
 
         return entity;
     }
@@ -50,10 +60,12 @@ public class CepMapper {
 
         entity.setLogradouro(dto.getLogradouro());
         entity.setComplemento(emptyToNull(dto.getComplemento()));
-        entity.setBairro(dto.getBairro());
-        entity.setCidade(dto.getCidade());
-        entity.setUf(dto.getUf());
         entity.setIbge(emptyToNull(dto.getIbge()));
+        entity.setBairro(localidadeDictionary.bairro(dto.getBairro()));
+        entity.setCidade(localidadeDictionary.cidade(dto.getCidade(), entity.getIbge()));
+        entity.setUf(localidadeDictionary.uf(dto.getUf()));
+        entity.setLatitude(dto.getLatitude());
+        entity.setLongitude(dto.getLongitude());
     }
 
     private String emptyToNull(String value) {
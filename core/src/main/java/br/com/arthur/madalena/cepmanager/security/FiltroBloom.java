@@ -0,0 +1,85 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom dos jti revogados: a grande maioria dos tokens não está revogada e
+ * é descartada aqui sem consultar o conjunto exato. Não há remoção; a ListaRevogacao
+ * reconstrói o filtro quando remove os expirados.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final int totalBits;
+    private final int funcoes;
+
+    /**
+     * @param capacidade quantidade esperada de elementos
+     * @param taxaFalsoPositivo probabilidade de falso positivo com a capacidade cheia
+     */
+    FiltroBloom(int capacidade, double taxaFalsoPositivo) {
+        int n = Math.max(capacidade, 1);
+        long m = (long) Math.ceil(-n * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        this.totalBits = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.funcoes = Math.max(1, (int) Math.round((double) totalBits / n * Math.log(2)));
+        this.bits = new AtomicLongArray((totalBits + 63) >>> 6);
+    }
+
+    void adicionar(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoes; i++) {
+            int indice = indice(h1 + i * h2);
+            int palavra = indice >>> 6;
+            long mascara = 1L << indice;
+            long atual;
+            do {
+                atual = bits.get(palavra);
+                if ((atual & mascara) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(palavra, atual, atual | mascara));
+        }
+    }
+
+    boolean talvezContenha(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoes; i++) {
+            int indice = indice(h1 + i * h2);
+            if ((bits.get(indice >>> 6) & (1L << indice)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getFuncoes() {
+        return funcoes;
+    }
+
+    int getTotalBits() {
+        return totalBits;
+    }
+
+    private int indice(int combinado) {
+        return (combinado & Integer.MAX_VALUE) % totalBits;
+    }
+
+    // FNV-1a de 64 bits seguido do finalizador do MurmurHash3, sem alocação
+    private static long hash64(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
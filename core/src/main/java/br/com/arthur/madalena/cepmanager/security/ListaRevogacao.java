@@ -0,0 +1,168 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import br.com.arthur.madalena.cepmanager.dao.TokenRevogadoDAO;
+import br.com.arthur.madalena.cepmanager.entity.TokenRevogado;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revogações de access token em memória, consultadas a cada requisição sem acesso ao banco.
+ * Cada revogação é gravada em token_revogado e os demais nós a aplicam na próxima sincronização
+ * (app.revogacao.sync-interval-ms). Entradas somem quando o token revogado já expiraria de qualquer forma.
+ * Compartilhada pela webapp e pela lookup-api; a limpeza de token_revogado no banco fica na webapp.
+ */
+@Slf4j
+@Component
+public class ListaRevogacao {
+
+    // Releitura de uma janela anterior à última sincronização cobre commits atrasados e relógios diferentes entre nós
+    private static final Duration SOBREPOSICAO = Duration.ofSeconds(30);
+    private static final int CAPACIDADE_BLOOM = 100_000;
+    private static final double FALSO_POSITIVO_BLOOM = 0.01;
+
+    private final TokenRevogadoDAO tokenRevogadoDAO;
+    private final Duration validadeAccessToken;
+    private final Clock clock;
+
+    // jti -> expiração do token
+    private final Map<String, Instant> jtis = new ConcurrentHashMap<>();
+    private final Map<String, RevogacaoUsuario> usuarios = new ConcurrentHashMap<>();
+    private volatile FiltroBloom bloom = new FiltroBloom(CAPACIDADE_BLOOM, FALSO_POSITIVO_BLOOM);
+    private volatile Instant ultimaSincronizacao;
+
+    @Autowired
+    public ListaRevogacao(TokenRevogadoDAO tokenRevogadoDAO,
+                          @Value("${jwt.expire-duration:15m}") Duration validadeAccessToken) {
+        this(tokenRevogadoDAO, validadeAccessToken, Clock.systemUTC());
+    }
+
+    ListaRevogacao(TokenRevogadoDAO tokenRevogadoDAO, Duration validadeAccessToken, Clock clock) {
+        this.tokenRevogadoDAO = tokenRevogadoDAO;
+        this.validadeAccessToken = validadeAccessToken;
+        this.clock = clock;
+    }
+
+    public boolean isRevogado(Jwt jwt) {
+        String jti = jwt.getId();
+        if (jti != null && bloom.talvezContenha(jti) && jtis.containsKey(jti)) {
+            return true;
+        }
+        if (usuarios.isEmpty()) {
+            return false;
+        }
+        RevogacaoUsuario revogacao = usuarios.get(jwt.getSubject());
+        if (revogacao == null) {
+            return false;
+        }
+        // O iat tem precisão de segundos: tokens emitidos no mesmo segundo da revogação também são recusados
+        return jwt.getIssuedAt() == null || !jwt.getIssuedAt().isAfter(revogacao.corte());
+    }
+
+    /**
+     * Logout: revoga apenas o access token informado, até a expiração dele.
+     */
+    public void revogarToken(Jwt jwt) {
+        if (jwt.getId() == null || jwt.getExpiresAt() == null) {
+            return;
+        }
+        TokenRevogado tokenRevogado = new TokenRevogado();
+        tokenRevogado.setJti(jwt.getId());
+        tokenRevogado.setUsername(jwt.getSubject());
+        tokenRevogado.setDatHoraRevogacao(clock.instant());
+        tokenRevogado.setDatHoraExpiracao(jwt.getExpiresAt());
+        tokenRevogadoDAO.save(tokenRevogado);
+        aplicar(tokenRevogado);
+    }
+
+    /**
+     * Grava o corte só depois do commit de quem revogou (troca de senha, desativação, reuso de refresh token):
+     * um rollback não deixa revogação órfã. A gravação roda em transação própria, já que a original terminou.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTokensRevogados(TokensRevogadosEvent event) {
+        Instant corte = event.instante().truncatedTo(ChronoUnit.SECONDS);
+        TokenRevogado tokenRevogado = new TokenRevogado();
+        tokenRevogado.setUsername(event.username());
+        tokenRevogado.setDatHoraRevogacao(corte);
+        // Depois da validade do access token não há mais token emitido antes do corte
+        tokenRevogado.setDatHoraExpiracao(corte.plus(validadeAccessToken).plusSeconds(1));
+        tokenRevogadoDAO.save(tokenRevogado);
+        aplicar(tokenRevogado);
+        log.info("Tokens do usuário {} emitidos até {} revogados", event.username(), corte);
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.revogacao.sync-interval-ms:2000}", initialDelayString = "${app.revogacao.sync-interval-ms:2000}")
+    public void sincronizar() {
+        Instant agora = clock.instant();
+        Instant desde = ultimaSincronizacao == null ? Instant.EPOCH : ultimaSincronizacao.minus(SOBREPOSICAO);
+        try {
+            for (TokenRevogado tokenRevogado : tokenRevogadoDAO.findRevogadosDesde(desde, agora)) {
+                aplicar(tokenRevogado);
+            }
+            ultimaSincronizacao = agora;
+        } catch (RuntimeException e) {
+            // Na próxima execução a janela é relida a partir da última sincronização bem-sucedida
+            log.warn("Falha ao sincronizar a lista de revogação: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.revogacao.cleanup-interval-ms:60000}")
+    public void removerExpirados() {
+        Instant agora = clock.instant();
+        jtis.values().removeIf(expiracao -> !expiracao.isAfter(agora));
+        usuarios.values().removeIf(revogacao -> !revogacao.expiracao().isAfter(agora));
+        reconstruirBloom();
+    }
+
+    public int getTotalJtis() {
+        return jtis.size();
+    }
+
+    public int getTotalUsuarios() {
+        return usuarios.size();
+    }
+
+    void aplicar(TokenRevogado tokenRevogado) {
+        if (tokenRevogado.getJti() != null) {
+            adicionarJti(tokenRevogado.getJti(), tokenRevogado.getDatHoraExpiracao());
+            return;
+        }
+        RevogacaoUsuario nova = new RevogacaoUsuario(tokenRevogado.getDatHoraRevogacao(), tokenRevogado.getDatHoraExpiracao());
+        usuarios.merge(tokenRevogado.getUsername(), nova,
+                (atual, recebida) -> atual.corte().isAfter(recebida.corte()) ? atual : recebida);
+    }
+
+    // Escritas e reconstrução do filtro são raras; o lock evita perder um jti adicionado durante a troca do filtro
+    private synchronized void adicionarJti(String jti, Instant expiracao) {
+        jtis.put(jti, expiracao);
+        bloom.adicionar(jti);
+    }
+
+    private synchronized void reconstruirBloom() {
+        FiltroBloom novo = new FiltroBloom(Math.max(CAPACIDADE_BLOOM, jtis.size() * 2), FALSO_POSITIVO_BLOOM);
+        jtis.keySet().forEach(novo::adicionar);
+        bloom = novo;
+    }
+
+    record RevogacaoUsuario(Instant corte, Instant expiracao) {
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Recusa no JwtDecoder os tokens presentes na ListaRevogacao. A webapp consulta a lista no
+ * JwtVerificacaoCache; a lookup-api, que decodifica todo token, usa este validador.
+ */
+@RequiredArgsConstructor
+public class RevogacaoJwtValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error TOKEN_REVOGADO = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Token revogado", null);
+
+    private final ListaRevogacao listaRevogacao;
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        return listaRevogacao.isRevogado(jwt)
+                ? OAuth2TokenValidatorResult.failure(TOKEN_REVOGADO)
+                : OAuth2TokenValidatorResult.success();
+    }
+}
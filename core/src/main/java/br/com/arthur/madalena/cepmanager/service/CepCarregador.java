@@ -0,0 +1,59 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.bulkhead.Bulkhead;
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
+import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.datasource.LeituraReplica;
+import br.com.arthur.madalena.cepmanager.dictionary.Uf;
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Consultas que o CepServiceImpl agrupa com SingleFlight ou RefreshingCache. Ficam num bean separado
+ * para que o bulkhead e a transação envolvam só a chamada que executa a carga: as chamadas que aguardam
+ * o mesmo resultado não ocupam vaga no bulkhead nem conexão com o banco.
+ */
+@Component
+@Transactional(readOnly = true, timeoutString = "${app.datasource.timeout.leitura:5}")
+@LeituraReplica
+@RequiredArgsConstructor
+public class CepCarregador {
+
+    private final CepDAO cepDAO;
+    private final CepFaixaService cepFaixaService;
+
+    // A UF da faixa é só um palpite para consultar uma partição: o cadastro não confere a UF com a
+    // cep_faixa. Quem decide é a cep_codigo (busca pela PK), consultada quando a faixa erra ou não existe
+    @Bulkhead(Carga.CONSULTA)
+    public Optional<Cep> porCodigo(int numero, String codigo) {
+        Uf uf = cepFaixaService.resolverUf(numero);
+        if (uf != null) {
+            Optional<Cep> naFaixa = cepDAO.findByCodigoAndUf(codigo, uf.name());
+            if (naFaixa.isPresent()) {
+                return naFaixa;
+            }
+        }
+        return cepDAO.findUfByCodigo(codigo)
+                .filter(sigla -> uf == null || !sigla.equals(uf.name()))
+                .flatMap(sigla -> cepDAO.findByCodigoAndUf(codigo, sigla));
+    }
+
+    // Carga do RefreshingCache: a renovação em segundo plano chama este bean diretamente, fora do CepServiceImpl
+    @Bulkhead(Carga.BUSCA)
+    public Page<Cep> porCidade(String cidade, String uf, Pageable pageable) {
+        return cepDAO.findByCidadeAndUf(cidade, uf, pageable);
+    }
+
+    @Bulkhead(Carga.BUSCA)
+    // Varredura com LIKE: limite menor, para que buscas acumuladas não prendam o pool
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeout.busca-texto:3}")
+    public Page<Cep> porTermo(String termo, Pageable pageable) {
+        return cepDAO.searchByTerm(termo, pageable);
+    }
+}
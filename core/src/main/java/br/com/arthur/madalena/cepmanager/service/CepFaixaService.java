@@ -0,0 +1,15 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dictionary.Uf;
+import br.com.arthur.madalena.cepmanager.dto.CepFaixaDTO;
+
+public interface CepFaixaService {
+
+    CepFaixaDTO findByCodigo(String codigo);
+
+    Uf resolverUf(String codigo);
+
+    Uf resolverUf(int cep);
+
+    void recarregar();
+}
@@ -0,0 +1,58 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dao.CepFaixaDAO;
+import br.com.arthur.madalena.cepmanager.dictionary.CepFaixaIndex;
+import br.com.arthur.madalena.cepmanager.dictionary.Uf;
+import br.com.arthur.madalena.cepmanager.dto.CepFaixaDTO;
+import br.com.arthur.madalena.cepmanager.entity.CepFaixa;
+import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CepFaixaServiceImpl implements CepFaixaService {
+
+    private final CepFaixaDAO cepFaixaDAO;
+
+    // Substituído por inteiro na recarga; leituras nunca veem um índice parcial
+    private volatile CepFaixaIndex index = CepFaixaIndex.VAZIO;
+
+    @PostConstruct
+    @Override
+    public void recarregar() {
+        CepFaixaIndex novo = new CepFaixaIndex(cepFaixaDAO.findAllOrderByCepInicial());
+        index = novo;
+        log.info("Índice de faixas de CEP carregado com {} faixas", novo.totalFaixas());
+    }
+
+    @Override
+    public CepFaixaDTO findByCodigo(String codigo) {
+        int cep = CepUtils.parse(codigo);
+        if (cep == CepUtils.INVALIDO) {
+            throw new IllegalArgumentException("CEP deve conter 8 dígitos no formato 00000-000 ou 00000000");
+        }
+
+        CepFaixa faixa = index.resolver(cep);
+        if (faixa == null) {
+            throw new ResourceNotFoundException("Nenhuma faixa de CEP encontrada para: " + codigo);
+        }
+
+        return new CepFaixaDTO(CepUtils.paraCodigo(faixa.getCepInicial()), CepUtils.paraCodigo(faixa.getCepFinal()),
+                faixa.getUf(), faixa.getCidade(), faixa.getIbge());
+    }
+
+    @Override
+    public Uf resolverUf(String codigo) {
+        return resolverUf(CepUtils.parse(codigo));
+    }
+
+    @Override
+    public Uf resolverUf(int cep) {
+        return cep == CepUtils.INVALIDO ? null : index.resolverUf(cep);
+    }
+}
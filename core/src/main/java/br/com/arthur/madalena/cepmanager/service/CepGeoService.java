@@ -0,0 +1,12 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dto.CepProximoDTO;
+
+import java.util.List;
+
+public interface CepGeoService {
+
+    List<CepProximoDTO> findProximos(double latitude, double longitude, double raioKm, int limite);
+
+    void recarregar();
+}
@@ -0,0 +1,69 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.dictionary.CepGeoIndex;
+import br.com.arthur.madalena.cepmanager.dto.CepProximoDTO;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CepGeoServiceImpl implements CepGeoService {
+
+    static final double RAIO_MAXIMO_KM = 50.0;
+    static final int LIMITE_MAXIMO = 100;
+
+    private final CepDAO cepDAO;
+
+    // Trocado por inteiro a cada recarga; até a primeira carga a busca retorna lista vazia
+    private volatile CepGeoIndex index = CepGeoIndex.VAZIO;
+
+    @Override
+    public List<CepProximoDTO> findProximos(double latitude, double longitude, double raioKm, int limite) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordenadas inválidas: latitude entre -90 e 90, longitude entre -180 e 180");
+        }
+        if (!(raioKm > 0) || raioKm > RAIO_MAXIMO_KM) {
+            throw new IllegalArgumentException("Raio deve estar entre 0 e " + RAIO_MAXIMO_KM + " km");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+
+        CepGeoIndex.Resultado[] resultados = index.buscar(latitude, longitude, raioKm, limite);
+        List<CepProximoDTO> proximos = new ArrayList<>(resultados.length);
+        for (CepGeoIndex.Resultado resultado : resultados) {
+            proximos.add(new CepProximoDTO(CepUtils.paraCodigo(resultado.codigo()),
+                    resultado.latitude(), resultado.longitude(), resultado.distanciaKm()));
+        }
+        return proximos;
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.geo.initial-delay-ms:0}", fixedDelayString = "${app.geo.refresh-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void recarregar() {
+        long inicio = System.nanoTime();
+        CepGeoIndex.Builder builder = new CepGeoIndex.Builder();
+        try (Stream<Object[]> coordenadas = cepDAO.streamCoordenadas()) {
+            coordenadas.forEach(linha -> {
+                int codigo = CepUtils.parse((String) linha[0]);
+                if (codigo != CepUtils.INVALIDO) {
+                    builder.adicionar(codigo, (Double) linha[1], (Double) linha[2]);
+                }
+            });
+        }
+        CepGeoIndex novo = builder.build();
+        index = novo;
+        log.info("Índice geográfico carregado com {} CEPs em {} ms", novo.tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
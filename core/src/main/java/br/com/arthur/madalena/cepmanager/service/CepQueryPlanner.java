@@ -0,0 +1,140 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.OperadorConsulta;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recusa consultas que só poderiam ser resolvidas por varredura (apenas "contém", prefixos curtos
+ * ou nenhum filtro indexável). Quem escolhe o índice é o planner do PostgreSQL: o índice do plano é
+ * o que o critério mais seletivo pode usar, registrado no log para conferir com o EXPLAIN.
+ * As seletividades são estimativas fixas a partir da distribuição típica da base dos Correios.
+ */
+@Component
+public class CepQueryPlanner {
+
+    static final Set<String> CAMPOS = Set.of("codigo", "logradouro", "bairro", "cidade", "uf", "ibge");
+
+    // A partir disso o critério escolhido não limita a varredura de forma útil
+    static final double SELETIVIDADE_MAXIMA = 0.05;
+
+    private static final int MINIMO_TRIGRAMA = 3;
+
+    // Prefixos menores que isso (depois de normalizados) selecionam boa parte de um estado
+    static final int MINIMO_PREFIXO_DIGITOS = 3;
+    static final int MINIMO_PREFIXO_TEXTO = 4;
+
+    public PlanoConsulta planejar(List<CriterioConsultaDTO> criterios, boolean permitirVarredura) {
+        if (criterios == null || criterios.isEmpty()) {
+            if (permitirVarredura) {
+                return new PlanoConsulta("varredura", 1.0, List.of());
+            }
+            throw new IllegalArgumentException("Informe ao menos um filtro para a consulta");
+        }
+
+        List<Avaliacao> avaliacoes = new ArrayList<>();
+        for (CriterioConsultaDTO criterio : criterios) {
+            avaliacoes.add(avaliar(validar(criterio)));
+        }
+
+        Avaliacao melhor = avaliacoes.stream().min(Comparator.comparingDouble(Avaliacao::seletividade)).orElseThrow();
+        // A partição da UF não limita a varredura (SP sozinho é cerca de um quarto da tabela):
+        // a consulta precisa de outro critério indexado
+        List<Avaliacao> limitantes = avaliacoes.stream().filter(a -> !a.criterio().getCampo().equals("uf")).toList();
+        Avaliacao melhorLimitante = limitantes.stream().min(Comparator.comparingDouble(Avaliacao::seletividade)).orElse(null);
+        boolean somenteContem = limitantes.stream()
+                .allMatch(a -> a.criterio().getOperador() == OperadorConsulta.CONTEM);
+        if (!permitirVarredura && (somenteContem || melhorLimitante.indice() == null
+                || melhorLimitante.seletividade() >= SELETIVIDADE_MAXIMA)) {
+            throw new IllegalArgumentException("Consulta exige varredura da tabela: informe um filtro exato ou por prefixo "
+                    + "(codigo, ibge, cidade, bairro, logradouro) além da UF ou use allowScan=true");
+        }
+
+        String indice = melhor.indice() != null ? melhor.indice() : "varredura";
+        return new PlanoConsulta(indice, melhor.seletividade(), List.copyOf(criterios));
+    }
+
+    private CriterioConsultaDTO validar(CriterioConsultaDTO criterio) {
+        if (criterio.getCampo() == null || !CAMPOS.contains(criterio.getCampo())) {
+            throw new IllegalArgumentException("Campo de consulta inválido: " + criterio.getCampo());
+        }
+        if (criterio.getOperador() == null) {
+            throw new IllegalArgumentException("Operador obrigatório para o campo " + criterio.getCampo());
+        }
+        if (criterio.getValor() == null || criterio.getValor().isBlank()) {
+            throw new IllegalArgumentException("Valor obrigatório para o campo " + criterio.getCampo());
+        }
+        if (criterio.getCampo().equals("uf") && criterio.getOperador() != OperadorConsulta.IGUAL) {
+            throw new IllegalArgumentException("UF aceita apenas comparação exata");
+        }
+        // Mesma normalização do CepSpecifications: "abc" no código viraria LIKE '%', sem filtro algum
+        if (valorNormalizado(criterio).isEmpty()) {
+            throw new IllegalArgumentException("Valor inválido para o campo " + criterio.getCampo() + ": " + criterio.getValor());
+        }
+        return criterio;
+    }
+
+    private static String valorNormalizado(CriterioConsultaDTO criterio) {
+        String valor = criterio.getValor().trim();
+        return criterio.getCampo().equals("codigo") ? CepUtils.somenteDigitos(valor) : valor;
+    }
+
+    private Avaliacao avaliar(CriterioConsultaDTO criterio) {
+        String campo = criterio.getCampo();
+        int tamanho = valorNormalizado(criterio).length();
+
+        return switch (criterio.getOperador()) {
+            case IGUAL -> switch (campo) {
+                case "codigo" -> new Avaliacao(criterio, "idx_cep_codigo", 1e-6);
+                case "logradouro" -> new Avaliacao(criterio, "idx_cep_logradouro_lower", 1e-4);
+                case "bairro" -> new Avaliacao(criterio, "idx_cep_bairro_lower", 1e-3);
+                case "cidade" -> new Avaliacao(criterio, "idx_cep_cidade_lower", 2e-3);
+                case "ibge" -> new Avaliacao(criterio, "idx_cep_ibge_pattern", 2e-3);
+                // UF não tem índice próprio: reduz a consulta a uma partição, mas não conta como limite
+                default -> new Avaliacao(criterio, "particao_uf", 1.0 / 27);
+            };
+            case PREFIXO -> {
+                if (campo.equals("codigo") || campo.equals("ibge")) {
+                    if (tamanho < MINIMO_PREFIXO_DIGITOS) {
+                        yield new Avaliacao(criterio, null, 1.0);
+                    }
+                    // Cada dígito do prefixo divide a faixa por dez
+                    yield new Avaliacao(criterio, "idx_cep_" + campo + "_pattern", Math.pow(10, -Math.min(tamanho, 7)));
+                }
+                // Bairros começam quase sempre por "Jardim", "Vila", "Parque": o prefixo não tem índice
+                if (campo.equals("bairro") || tamanho < MINIMO_PREFIXO_TEXTO) {
+                    yield new Avaliacao(criterio, null, 1.0);
+                }
+                // Logradouros e cidades também começam por palavras comuns ("Rua", "Avenida", "São"):
+                // cada caractere além do mínimo divide por quatro
+                yield new Avaliacao(criterio, "idx_cep_" + campo + "_lower_pattern",
+                        Math.pow(4, -(Math.min(tamanho, 12) - MINIMO_PREFIXO_TEXTO + 1)));
+            }
+            case CONTEM -> {
+                if (campo.equals("uf") || campo.equals("codigo") || campo.equals("ibge") || tamanho < MINIMO_TRIGRAMA) {
+                    yield new Avaliacao(criterio, null, 1.0);
+                }
+                yield new Avaliacao(criterio, "idx_cep_" + campo + "_trgm", 0.05 / (tamanho - 2));
+            }
+        };
+    }
+
+    private record Avaliacao(CriterioConsultaDTO criterio, String indice, double seletividade) {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PlanoConsulta {
+        private final String indice;
+        private final double seletividade;
+        private final List<CriterioConsultaDTO> criterios;
+    }
+}
@@ -1,25 +1,58 @@
 package br.com.arthur.madalena.cepmanager.service;
 
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.EstatisticasCepDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface CepService {
 
+    int MAX_CODIGOS_LOTE = 100;
+
     CepDTO findById(Long id);
 
     CepDTO findByCodigo(String codigo);
 
+    List<CepDTO> findByCodigos(List<String> codigos);
+
+    /**
+     * Consulta apenas o cache em memória, sem transação nem bulkhead.
+     */
+    Optional<CepDTO> findByCodigoEmCache(String codigo);
+
+    /**
+     * Devolve os CEPs na ordem pedida se todos os códigos válidos estiverem no cache em memória;
+     * vazio se faltar algum. Não abre transação nem ocupa o bulkhead.
+     */
+    Optional<List<CepDTO>> findByCodigosEmCache(List<String> codigos);
+
     Page<CepDTO> findByLogradouro(String logradouro, Pageable pageable);
 
     Page<CepDTO> findByCidade(String cidade, Pageable pageable);
 
+    Page<CepDTO> findByUf(String uf, Pageable pageable);
+
     Page<CepDTO> findByCidadeAndUf(String cidade, String uf, Pageable pageable);
 
+    Page<CepDTO> findByIntervalo(String inicio, String fim, Pageable pageable);
+
     Page<CepDTO> findAll(Pageable pageable);
 
+    List<CepDTO> findByFiltro(CepFiltroDTO filtro, Pageable pageable);
+
+    long countByFiltro(CepFiltroDTO filtro);
+
+    Page<CepDTO> query(List<CriterioConsultaDTO> criterios, boolean permitirVarredura, Pageable pageable);
+
     Page<CepDTO> search(String termo, Pageable pageable);
 
+    EstatisticasCepDTO estatisticas();
+
     CepDTO create(CepDTO cepDTO);
 
     CepDTO update(String codigo, CepDTO cepDTO);
@@ -1,28 +1,87 @@
 package br.com.arthur.madalena.cepmanager.service;
 
+import br.com.arthur.madalena.cepmanager.bulkhead.Bulkhead;
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
+import br.com.arthur.madalena.cepmanager.cache.CepCache;
+import br.com.arthur.madalena.cepmanager.cache.RefreshingCache;
+import br.com.arthur.madalena.cepmanager.cache.RefreshingCacheRegistry;
+import br.com.arthur.madalena.cepmanager.cache.SincronizacaoCepCache;
+import br.com.arthur.madalena.cepmanager.cache.SingleFlight;
+import br.com.arthur.madalena.cepmanager.cache.SingleFlightRegistry;
 import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.dao.CepSpecifications;
+import br.com.arthur.madalena.cepmanager.datasource.LeituraReplica;
+import br.com.arthur.madalena.cepmanager.dictionary.Uf;
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.EstatisticasCepDTO;
 import br.com.arthur.madalena.cepmanager.entity.Cep;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
 import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
 import br.com.arthur.madalena.cepmanager.mapper.CepMapper;
-import lombok.RequiredArgsConstructor;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
+// Timeouts por tipo de transação (em segundos), aplicados pelo Hibernate a cada comando como query timeout do JDBC
+@Transactional(readOnly = true, timeoutString = "${app.datasource.timeout.leitura:5}")
+@LeituraReplica
 @Slf4j
 public class CepServiceImpl implements CepService {
 
+    private static final Set<String> ORDENACAO_PERMITIDA = Set.of("codigo", "logradouro", "bairro", "cidade", "uf");
+    private static final String CHAVE_ESTATISTICAS = "todos";
+
     private final CepDAO cepDAO;
     private final CepMapper cepMapper;
+    private final CepQueryPlanner cepQueryPlanner;
+    private final CepCache cepCache;
+    private final CepCarregador cepCarregador;
+    private final SincronizacaoCepCache sincronizacaoCepCache;
+    // Chamadas simultâneas para o mesmo CEP ou termo compartilham uma única consulta no banco
+    private final SingleFlight<String, Optional<Cep>> consultasPorCodigo;
+    private final SingleFlight<ChaveBusca, Page<Cep>> buscasPorTermo;
+    // Listas e estatísticas vencem aos poucos e são atualizadas em segundo plano (ver RefreshingCache)
+    private final RefreshingCache<ChaveCidade, Page<Cep>> paginasPorCidade;
+    private final RefreshingCache<String, EstatisticasCepDTO> cacheEstatisticas;
+
+    public CepServiceImpl(CepDAO cepDAO, CepMapper cepMapper, CepQueryPlanner cepQueryPlanner, CepCache cepCache,
+                          CepCarregador cepCarregador, SincronizacaoCepCache sincronizacaoCepCache,
+                          SingleFlightRegistry singleFlightRegistry, RefreshingCacheRegistry refreshingCacheRegistry) {
+        this.cepDAO = cepDAO;
+        this.cepMapper = cepMapper;
+        this.cepQueryPlanner = cepQueryPlanner;
+        this.cepCache = cepCache;
+        this.cepCarregador = cepCarregador;
+        this.sincronizacaoCepCache = sincronizacaoCepCache;
+        this.consultasPorCodigo = singleFlightRegistry.criar("cep.codigo");
+        this.buscasPorTermo = singleFlightRegistry.criar("cep.busca");
+        this.paginasPorCidade = refreshingCacheRegistry.criar("cep.cidade-uf");
+        this.cacheEstatisticas = refreshingCacheRegistry.criar("cep.estatisticas");
+    }
 
     @Override
+    @Bulkhead(Carga.CONSULTA)
     public CepDTO findById(Long id) {
         log.debug("Buscando CEP por ID: {}", id);
         
@@ -33,16 +92,101 @@ public class CepServiceImpl implements CepService {
     }
 
     @Override
+    // Sem transação nem bulkhead aqui: só a carga no CepCarregador os ocupa, não quem a aguarda
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CepDTO findByCodigo(String codigo) {
         log.debug("Buscando CEP por código: {}", codigo);
         
-        Cep cep = cepDAO.findByCodigo(codigo)
+        int numero = CepUtils.parse(codigo);
+        CepDTO emCache = cepCache.get(numero);
+        if (emCache != null) {
+            return emCache;
+        }
+        if (numero == CepUtils.INVALIDO) {
+            throw new ResourceNotFoundException("CEP não encontrado: " + codigo);
+        }
+        
+        // 01310-100 e 01310100 compartilham a mesma consulta
+        String canonico = codigo.length() == 8 ? codigo : CepUtils.paraCodigo(numero);
+        Cep cep = consultasPorCodigo.executar(canonico, () -> cepCarregador.porCodigo(numero, canonico))
                 .orElseThrow(() -> new ResourceNotFoundException("CEP não encontrado: " + codigo));
         
-        return cepMapper.toDTO(cep);
+        CepDTO dto = cepMapper.toDTO(cep);
+        cepCache.put(dto);
+        return dto;
+    }
+
+    @Override
+    @Bulkhead(Carga.CONSULTA)
+    public List<CepDTO> findByCodigos(List<String> codigos) {
+        validarLote(codigos);
+        
+        // Com ou sem traço, o mesmo CEP é uma única chave numérica; códigos inválidos ficam de fora
+        int[] numeros = new int[codigos.size()];
+        Map<Integer, CepDTO> encontrados = new HashMap<>();
+        Set<String> faltantes = new LinkedHashSet<>();
+        for (int i = 0; i < numeros.length; i++) {
+            int numero = CepUtils.parse(codigos.get(i));
+            numeros[i] = numero;
+            if (numero == CepUtils.INVALIDO || encontrados.containsKey(numero)) {
+                continue;
+            }
+            CepDTO emCache = cepCache.get(numero);
+            if (emCache != null) {
+                encontrados.put(numero, emCache);
+            } else {
+                faltantes.add(CepUtils.paraCodigo(numero));
+            }
+        }
+        
+        if (!faltantes.isEmpty()) {
+            log.debug("Buscando {} CEPs fora do cache", faltantes.size());
+            for (Cep cep : cepDAO.findByCodigoIn(faltantes)) {
+                CepDTO dto = cepMapper.toDTO(cep);
+                cepCache.put(dto);
+                encontrados.put(CepUtils.parse(dto.getCodigo()), dto);
+            }
+        }
+        
+        // Mantém a ordem do pedido; códigos não encontrados ficam de fora
+        List<CepDTO> resultado = new ArrayList<>(numeros.length);
+        for (int numero : numeros) {
+            CepDTO dto = encontrados.get(numero);
+            if (dto != null) {
+                resultado.add(dto);
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<CepDTO> findByCodigoEmCache(String codigo) {
+        return Optional.ofNullable(cepCache.get(codigo));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<List<CepDTO>> findByCodigosEmCache(List<String> codigos) {
+        validarLote(codigos);
+        
+        List<CepDTO> resultado = new ArrayList<>(codigos.size());
+        for (String codigo : codigos) {
+            int numero = CepUtils.parse(codigo);
+            if (numero == CepUtils.INVALIDO) {
+                continue;
+            }
+            CepDTO cep = cepCache.get(numero);
+            if (cep == null) {
+                return Optional.empty();
+            }
+            resultado.add(cep);
+        }
+        return Optional.of(resultado);
+    }
+
+    @Override
+    @Bulkhead(Carga.BUSCA)
     public Page<CepDTO> findByLogradouro(String logradouro, Pageable pageable) {
         log.debug("Buscando CEPs por logradouro: {}", logradouro);
         
@@ -51,6 +195,7 @@ public class CepServiceImpl implements CepService {
     }
 
     @Override
+    @Bulkhead(Carga.BUSCA)
     public Page<CepDTO> findByCidade(String cidade, Pageable pageable) {
         log.debug("Buscando CEPs por cidade: {}", cidade);
         
@@ -59,14 +204,48 @@ public class CepServiceImpl implements CepService {
     }
 
     @Override
+    @Bulkhead(Carga.BUSCA)
+    public Page<CepDTO> findByUf(String uf, Pageable pageable) {
+        log.debug("Buscando CEPs por UF: {}", uf);
+        
+        Page<Cep> ceps = cepDAO.findByUf(normalizarUf(uf), pageable);
+        return ceps.map(cepMapper::toDTO);
+    }
+
+    @Override
+    // A carga também roda em segundo plano, fora deste proxy: transação, réplica e bulkhead ficam no CepCarregador
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<CepDTO> findByCidadeAndUf(String cidade, String uf, Pageable pageable) {
         log.debug("Buscando CEPs por cidade: {} e UF: {}", cidade, uf);
         
-        Page<Cep> ceps = cepDAO.findByCidadeAndUf(cidade, uf, pageable);
+        // A consulta ignora maiúsculas, então a chave também; a carga usa a mesma cidade da chave,
+        // para que variações que compartilham a entrada também tragam o mesmo resultado
+        String cidadeChave = cidade != null ? cidade.trim().toLowerCase(Locale.ROOT) : null;
+        ChaveCidade chave = new ChaveCidade(cidadeChave, normalizarUf(uf), pageable);
+        Page<Cep> ceps = paginasPorCidade.get(chave, c -> cepCarregador.porCidade(c.cidade(), c.uf(), c.pageable()));
         return ceps.map(cepMapper::toDTO);
     }
 
     @Override
+    @Bulkhead(Carga.BUSCA)
+    public Page<CepDTO> findByIntervalo(String inicio, String fim, Pageable pageable) {
+        log.debug("Buscando CEPs entre {} e {}", inicio, fim);
+        
+        int cepInicial = CepUtils.parse(inicio);
+        int cepFinal = CepUtils.parse(fim);
+        if (cepInicial == CepUtils.INVALIDO || cepFinal == CepUtils.INVALIDO) {
+            throw new IllegalArgumentException("CEP deve conter 8 dígitos no formato 00000-000 ou 00000000");
+        }
+        if (cepInicial > cepFinal) {
+            throw new IllegalArgumentException("CEP inicial deve ser menor ou igual ao CEP final");
+        }
+        
+        Page<Cep> ceps = cepDAO.findByCodigoBetween(CepUtils.paraCodigo(cepInicial), CepUtils.paraCodigo(cepFinal), pageable);
+        return ceps.map(cepMapper::toDTO);
+    }
+
+    @Override
+    @Bulkhead(Carga.BUSCA)
     public Page<CepDTO> findAll(Pageable pageable) {
         log.debug("Buscando todos os CEPs");
         
@@ -75,60 +254,170 @@ public class CepServiceImpl implements CepService {
     }
 
     @Override
+    @Bulkhead(Carga.BUSCA)
+    public List<CepDTO> findByFiltro(CepFiltroDTO filtro, Pageable pageable) {
+        log.debug("Buscando CEPs por filtro: {}", filtro);
+        
+        List<Cep> ceps = cepDAO.findPagina(CepSpecifications.porFiltro(filtro), ordenacaoEstavel(pageable));
+        return ceps.stream().map(cepMapper::toDTO).toList();
+    }
+
+    @Override
+    @Bulkhead(Carga.BUSCA)
+    public long countByFiltro(CepFiltroDTO filtro) {
+        // Sem filtro, o total das estatísticas em cache evita um COUNT(*) na tabela inteira
+        if (CepSpecifications.semFiltro(filtro)) {
+            return cacheEstatisticas.get(CHAVE_ESTATISTICAS, chave -> calcularEstatisticas()).getTotalCeps();
+        }
+        return cepDAO.count(CepSpecifications.porFiltro(filtro));
+    }
+
+    @Override
+    @Bulkhead(Carga.BUSCA)
+    public Page<CepDTO> query(List<CriterioConsultaDTO> criterios, boolean permitirVarredura, Pageable pageable) {
+        CepQueryPlanner.PlanoConsulta plano = cepQueryPlanner.planejar(criterios, permitirVarredura);
+        if (log.isDebugEnabled()) {
+            log.debug("Consulta de CEPs usando {} (seletividade estimada {})", plano.getIndice(), plano.getSeletividade());
+        }
+        
+        Page<Cep> ceps = cepDAO.findAll(CepSpecifications.porCriterios(plano.getCriterios()), ordenacaoEstavel(pageable));
+        return ceps.map(cepMapper::toDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<CepDTO> search(String termo, Pageable pageable) {
         log.debug("Pesquisando CEPs com termo: {}", termo);
         
-        Page<Cep> ceps = cepDAO.searchByTerm(termo, pageable);
+        Page<Cep> ceps = buscasPorTermo.executar(new ChaveBusca(termo, pageable), () -> cepCarregador.porTermo(termo, pageable));
         return ceps.map(cepMapper::toDTO);
     }
 
     @Override
-    @Transactional
+    @Bulkhead(Carga.BUSCA)
+    public EstatisticasCepDTO estatisticas() {
+        return cacheEstatisticas.get(CHAVE_ESTATISTICAS, chave -> calcularEstatisticas());
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeout.escrita:30}")
     public CepDTO create(CepDTO cepDTO) {
         log.debug("Criando CEP: {}", cepDTO.getCodigo());
         
-        if (cepDAO.existsByCodigo(cepDTO.getCodigo())) {
+        if (cepDAO.existsByCodigo(CepUtils.normalizar(cepDTO.getCodigo()))) {
             throw new BusinessException("CEP já cadastrado: " + cepDTO.getCodigo());
         }
         
         Cep cep = cepMapper.toEntity(cepDTO);
-        cep = cepDAO.save(cep);
+        try {
+            // Com id IDENTITY o INSERT sai aqui; a PK da cep_codigo barra o mesmo código em outra UF
+            // mesmo quando duas criações simultâneas passam pelo existsByCodigo
+            cep = cepDAO.save(cep);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("CEP já cadastrado: " + cepDTO.getCodigo(), e);
+        }
+        invalidarListas();
         
         log.info("CEP criado com sucesso: {}", cep.getCodigo());
         return cepMapper.toDTO(cep);
     }
 
     @Override
-    @Transactional
+    @Transactional(timeoutString = "${app.datasource.timeout.escrita:30}")
     public CepDTO update(String codigo, CepDTO cepDTO) {
         log.debug("Atualizando CEP: {}", codigo);
         
-        Cep cep = cepDAO.findByCodigo(codigo)
+        Cep cep = cepDAO.findByCodigo(CepUtils.normalizar(codigo))
                 .orElseThrow(() -> new ResourceNotFoundException("CEP não encontrado: " + codigo));
         
+        String codigoAnterior = cep.getCodigo();
         cepMapper.updateEntity(cepDTO, cep);
         cep = cepDAO.save(cep);
+        cepCache.invalidar(codigo);
+        cepCache.invalidar(cep.getCodigo());
+        invalidarListas();
+        sincronizacaoCepCache.registrar(cep.getId(), codigoAnterior);
+        if (!codigoAnterior.equals(cep.getCodigo())) {
+            sincronizacaoCepCache.registrar(cep.getId(), cep.getCodigo());
+        }
         
         log.info("CEP atualizado com sucesso: {}", cep.getCodigo());
         return cepMapper.toDTO(cep);
     }
 
     @Override
-    @Transactional
+    @Transactional(timeoutString = "${app.datasource.timeout.escrita:30}")
     public void delete(String codigo) {
         log.debug("Deletando CEP: {}", codigo);
         
-        Cep cep = cepDAO.findByCodigo(codigo)
+        Cep cep = cepDAO.findByCodigo(CepUtils.normalizar(codigo))
                 .orElseThrow(() -> new ResourceNotFoundException("CEP não encontrado: " + codigo));
         
         cepDAO.delete(cep);
+        cepCache.invalidar(codigo);
+        invalidarListas();
+        sincronizacaoCepCache.registrar(cep.getId(), cep.getCodigo());
         
         log.info("CEP deletado com sucesso: {}", codigo);
     }
 
     @Override
+    @Bulkhead(Carga.CONSULTA)
     public boolean existsByCodigo(String codigo) {
-        return cepDAO.existsByCodigo(codigo);
+        return cepDAO.existsByCodigo(CepUtils.normalizar(codigo));
     }
-}
 
+    private EstatisticasCepDTO calcularEstatisticas() {
+        Map<String, Long> porUf = new LinkedHashMap<>();
+        long total = 0;
+        for (Object[] linha : cepDAO.countPorUf()) {
+            long quantidade = ((Number) linha[1]).longValue();
+            porUf.put((String) linha[0], quantidade);
+            total += quantidade;
+        }
+        return new EstatisticasCepDTO(total, cepDAO.countCidades(), porUf.size(), Collections.unmodifiableMap(porUf));
+    }
+
+    private void validarLote(List<String> codigos) {
+        if (codigos.size() > MAX_CODIGOS_LOTE) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_CODIGOS_LOTE + " CEPs por consulta");
+        }
+    }
+
+    private void invalidarListas() {
+        paginasPorCidade.invalidarTudo();
+        cacheEstatisticas.invalidarTudo();
+    }
+
+    // Só colunas indexadas podem ordenar; o código desempata para a paginação não repetir linhas
+    private Pageable ordenacaoEstavel(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            throw new IllegalArgumentException("A busca por filtro exige paginação");
+        }
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!ORDENACAO_PERMITIDA.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Ordenação não permitida: " + order.getProperty());
+            }
+        }
+        if (sort.getOrderFor("codigo") == null) {
+            sort = sort.and(Sort.by("codigo"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    // A UF vai para o SQL já normalizada (sem UPPER na query) para o planner podar as partições
+    private String normalizarUf(String uf) {
+        Uf valor = Uf.fromSigla(uf);
+        if (valor != null) {
+            return valor.name();
+        }
+        return uf != null ? uf.trim().toUpperCase(Locale.ROOT) : null;
+    }
+
+    private record ChaveBusca(String termo, Pageable pageable) {
+    }
+
+    private record ChaveCidade(String cidade, String uf, Pageable pageable) {
+    }
+}
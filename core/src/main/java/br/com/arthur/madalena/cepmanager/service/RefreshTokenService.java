@@ -0,0 +1,24 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+
+public interface RefreshTokenService {
+
+    /**
+     * Gera um refresh token para o usuário. Apenas o hash é gravado; o valor retornado não pode ser recuperado depois.
+     */
+    String criar(Usuario usuario);
+
+    /**
+     * Troca o refresh token por um novo (uso único). A reutilização de um token já trocado
+     * revoga todas as sessões do usuário.
+     */
+    Rotacao rotacionar(String refreshToken);
+
+    void revogar(String refreshToken);
+
+    int removerExpirados();
+
+    record Rotacao(Usuario usuario, String refreshToken) {
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dao.RefreshTokenDAO;
+import br.com.arthur.madalena.cepmanager.dao.UsuarioDAO;
+import br.com.arthur.madalena.cepmanager.entity.RefreshToken;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
+import br.com.arthur.madalena.cepmanager.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenDAO refreshTokenDAO;
+    private final UsuarioDAO usuarioDAO;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jwt.refresh-duration:7d}")
+    private Duration validade;
+
+    @Override
+    public String criar(Usuario usuario) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant agora = Instant.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUsuario(usuario);
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setDatHoraCadastro(agora);
+        refreshToken.setDatHoraExpiracao(agora.plus(validade));
+        refreshTokenDAO.save(refreshToken);
+
+        return token;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BusinessException.class)
+    public Rotacao rotacionar(String token) {
+        RefreshToken refreshToken = refreshTokenDAO.findByTokenHash(hash(token))
+                .orElseThrow(() -> new BusinessException("Refresh token inválido"));
+        Usuario usuario = refreshToken.getUsuario();
+        Instant agora = Instant.now();
+
+        if (refreshToken.getDatHoraRevogacao() != null) {
+            throw reutilizado(usuario, agora);
+        }
+        if (!refreshToken.isValido(agora)) {
+            throw new BusinessException("Refresh token expirado");
+        }
+        if (!usuario.getAtivo()) {
+            throw new BusinessException("Usuário inativo");
+        }
+
+        // A leitura acima não trava a linha: duas rotações simultâneas veem o token ativo,
+        // mas só a primeira o revoga; a outra é tratada como reutilização
+        if (refreshTokenDAO.revogarSeAtivo(refreshToken.getId(), agora) == 0) {
+            throw reutilizado(usuario, agora);
+        }
+
+        return new Rotacao(usuario, criar(usuario));
+    }
+
+    // Token já trocado sendo usado de novo: possível vazamento, encerra todas as sessões
+    private BusinessException reutilizado(Usuario usuario, Instant agora) {
+        log.warn("Reutilização de refresh token do usuário {}", usuario.getUsername());
+        eventPublisher.publishEvent(new TokensRevogadosEvent(usuario.getUsername(), agora, true));
+        return new BusinessException("Refresh token inválido");
+    }
+
+    @Override
+    public void revogar(String token) {
+        refreshTokenDAO.findByTokenHash(hash(token)).ifPresent(refreshToken -> {
+            if (refreshToken.getDatHoraRevogacao() == null) {
+                refreshToken.setDatHoraRevogacao(Instant.now());
+                refreshTokenDAO.save(refreshToken);
+            }
+        });
+    }
+
+    @Override
+    public int removerExpirados() {
+        return refreshTokenDAO.deleteExpirados(Instant.now());
+    }
+
+    @EventListener
+    public void onTokensRevogados(TokensRevogadosEvent event) {
+        if (!event.encerrarSessoes()) {
+            return;
+        }
+        usuarioDAO.findByUsername(event.username()).ifPresent(usuario -> {
+            int revogados = refreshTokenDAO.revogarDoUsuario(usuario.getId(), event.instante());
+            log.info("{} refresh tokens do usuário {} revogados", revogados, usuario.getUsername());
+        });
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package br.com.arthur.madalena.cepmanager.service;
 
+import br.com.arthur.madalena.cepmanager.bulkhead.Bulkhead;
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
 import br.com.arthur.madalena.cepmanager.dao.UsuarioDAO;
 import br.com.arthur.madalena.cepmanager.dto.RegistroUsuarioDTO;
 import br.com.arthur.madalena.cepmanager.dto.UsuarioDTO;
 import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
 import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
 import br.com.arthur.madalena.cepmanager.mapper.UsuarioMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -30,8 +35,10 @@ public class UsuarioServiceImpl implements UsuarioService {
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
     private final UsuarioMapper usuarioMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Bulkhead(Carga.AUTENTICACAO)
     public UsuarioDTO registrarUsuario(RegistroUsuarioDTO registroDTO) {
         log.info("Iniciando registro de usuário: {}", registroDTO.getUsername());
 
@@ -155,7 +162,7 @@ public class UsuarioServiceImpl implements UsuarioService {
     public UsuarioDTO atualizarUsuario(Long id, UsuarioDTO usuarioDTO, String usuarioLogado) {
         log.info("Atualizando usuário ID: {} por {}", id, usuarioLogado);
 
-        Usuario usuario = usuarioDAO.findById(id)
+        Usuario usuario = usuarioDAO.findByIdSemCache(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
 
         usuario.setNomeCompleto(usuarioDTO.getNomeCompleto());
@@ -172,7 +179,7 @@ public class UsuarioServiceImpl implements UsuarioService {
     public void adicionarPermissao(Long usuarioId, String permissao, String adminUsername) {
         log.info("Adicionando permissão {} ao usuário ID: {} por {}", permissao, usuarioId, adminUsername);
 
-        Usuario usuario = usuarioDAO.findById(usuarioId)
+        Usuario usuario = usuarioDAO.findByIdSemCache(usuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + usuarioId));
 
         if (usuario.getPermissoes().contains(permissao)) {
@@ -185,6 +192,7 @@ public class UsuarioServiceImpl implements UsuarioService {
         usuarioDAO.save(usuario);
 
         emailService.enviarEmailAlteracaoPermissao(usuario.getEmail(), usuario.getNomeCompleto(), permissao, true);
+        revogarTokens(usuario, false);
 
         log.info("Permissão {} adicionada ao usuário {}", permissao, usuario.getUsername());
     }
@@ -193,7 +201,7 @@ public class UsuarioServiceImpl implements UsuarioService {
     public void removerPermissao(Long usuarioId, String permissao, String adminUsername) {
         log.info("Removendo permissão {} do usuário ID: {} por {}", permissao, usuarioId, adminUsername);
 
-        Usuario usuario = usuarioDAO.findById(usuarioId)
+        Usuario usuario = usuarioDAO.findByIdSemCache(usuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + usuarioId));
 
         if (!usuario.getPermissoes().contains(permissao)) {
@@ -210,6 +218,7 @@ public class UsuarioServiceImpl implements UsuarioService {
         usuarioDAO.save(usuario);
 
         emailService.enviarEmailAlteracaoPermissao(usuario.getEmail(), usuario.getNomeCompleto(), permissao, false);
+        revogarTokens(usuario, false);
 
         log.info("Permissão {} removida do usuário {}", permissao, usuario.getUsername());
     }
@@ -218,7 +227,7 @@ public class UsuarioServiceImpl implements UsuarioService {
     public void ativarDesativarUsuario(Long usuarioId, Boolean ativo, String adminUsername) {
         log.info("Alterando status do usuário ID: {} para ativo={} por {}", usuarioId, ativo, adminUsername);
 
-        Usuario usuario = usuarioDAO.findById(usuarioId)
+        Usuario usuario = usuarioDAO.findByIdSemCache(usuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + usuarioId));
 
         if (usuario.getUsername().equals("admin")) {
@@ -230,14 +239,19 @@ public class UsuarioServiceImpl implements UsuarioService {
 
         usuarioDAO.save(usuario);
 
+        if (!ativo) {
+            revogarTokens(usuario, true);
+        }
+
         log.info("Status do usuário {} alterado para ativo={}", usuario.getUsername(), ativo);
     }
 
     @Override
+    @Bulkhead(Carga.AUTENTICACAO)
     public void alterarSenha(Long usuarioId, String senhaAtual, String novaSenha) {
         log.info("Alterando senha do usuário ID: {}", usuarioId);
 
-        Usuario usuario = usuarioDAO.findById(usuarioId)
+        Usuario usuario = usuarioDAO.findByIdSemCache(usuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + usuarioId));
 
         if (!passwordEncoder.matches(senhaAtual, usuario.getPassword())) {
@@ -248,11 +262,13 @@ public class UsuarioServiceImpl implements UsuarioService {
         usuario.setUsuarioAlteracao(usuario.getUsername());
 
         usuarioDAO.save(usuario);
+        revogarTokens(usuario, true);
 
         log.info("Senha alterada com sucesso para usuário: {}", usuario.getUsername());
     }
 
     @Override
+    @Bulkhead(Carga.AUTENTICACAO)
     public void resetarSenha(String email) {
         log.info("Resetando senha para email: {}", email);
 
@@ -264,12 +280,18 @@ public class UsuarioServiceImpl implements UsuarioService {
         usuario.setUsuarioAlteracao("sistema");
 
         usuarioDAO.save(usuario);
+        revogarTokens(usuario, true);
 
         emailService.enviarEmailResetSenha(usuario.getEmail(), usuario.getNomeCompleto(), novaSenha);
 
         log.info("Senha resetada para usuário: {}", usuario.getUsername());
     }
 
+    // Tokens emitidos antes da alteração deixam de ser aceitos
+    private void revogarTokens(Usuario usuario, boolean encerrarSessoes) {
+        eventPublisher.publishEvent(new TokensRevogadosEvent(usuario.getUsername(), Instant.now(), encerrarSessoes));
+    }
+
     private String gerarSenhaAleatoria() {
         String caracteres = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
         StringBuilder senha = new StringBuilder();
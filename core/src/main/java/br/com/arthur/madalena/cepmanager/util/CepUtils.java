@@ -0,0 +1,127 @@
+package br.com.arthur.madalena.cepmanager.util;
+
+/**
+ * Representação canônica do CEP como int (01310-100 -> 1310100), sem regex nem Strings intermediárias.
+ * Consultas, caches e a API em lote comparam CEPs por esse valor; o texto com 8 dígitos é o que vai para o banco.
+ */
+public final class CepUtils {
+
+    public static final int INVALIDO = -1;
+    public static final int MAXIMO = 99_999_999;
+
+    private CepUtils() {
+    }
+
+    /**
+     * Aceita 00000000 ou 00000-000; retorna {@link #INVALIDO} para qualquer outro formato.
+     */
+    public static int parse(CharSequence codigo) {
+        if (codigo == null) {
+            return INVALIDO;
+        }
+        int tamanho = codigo.length();
+        if (tamanho != 8 && (tamanho != 9 || codigo.charAt(5) != '-')) {
+            return INVALIDO;
+        }
+        int cep = 0;
+        for (int i = 0; i < tamanho; i++) {
+            if (i == 5 && tamanho == 9) {
+                continue;
+            }
+            char c = codigo.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALIDO;
+            }
+            cep = cep * 10 + (c - '0');
+        }
+        return cep;
+    }
+
+    /**
+     * Considera apenas os dígitos do texto (máscaras, espaços, pontos); válido quando há exatamente 8.
+     */
+    public static int parseDigitos(CharSequence valor) {
+        if (valor == null) {
+            return INVALIDO;
+        }
+        int cep = 0;
+        int digitos = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 8) {
+                    return INVALIDO;
+                }
+                cep = cep * 10 + (c - '0');
+            }
+        }
+        return digitos == 8 ? cep : INVALIDO;
+    }
+
+    /**
+     * Apenas os dígitos do texto, para CEPs parciais (busca por prefixo). Nulo vira "".
+     */
+    public static String somenteDigitos(CharSequence valor) {
+        if (valor == null) {
+            return "";
+        }
+        StringBuilder digitos = null;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            boolean digito = c >= '0' && c <= '9';
+            if (!digito && digitos == null) {
+                digitos = new StringBuilder(8).append(valor, 0, i);
+            } else if (digito && digitos != null) {
+                digitos.append(c);
+            }
+        }
+        // Sem nada a remover, o próprio texto é devolvido
+        return digitos != null ? digitos.toString() : valor.toString();
+    }
+
+    public static boolean isValido(CharSequence codigo) {
+        return parse(codigo) != INVALIDO;
+    }
+
+    /**
+     * Texto de 8 dígitos usado no banco. Devolve a própria instância quando ela já está nesse formato
+     * ou quando não é um CEP (a validação ou a consulta rejeitam o valor como veio).
+     */
+    public static String normalizar(String codigo) {
+        if (codigo == null || codigo.length() != 9) {
+            return codigo;
+        }
+        int cep = parse(codigo);
+        return cep == INVALIDO ? codigo : paraCodigo(cep);
+    }
+
+    /**
+     * 1310100 -> "01310100"
+     */
+    public static String paraCodigo(int cep) {
+        return escrever(cep, false);
+    }
+
+    /**
+     * 1310100 -> "01310-100"
+     */
+    public static String formatar(int cep) {
+        return escrever(cep, true);
+    }
+
+    private static String escrever(int cep, boolean comTraco) {
+        if (cep < 0 || cep > MAXIMO) {
+            throw new IllegalArgumentException("CEP fora do intervalo: " + cep);
+        }
+        char[] texto = new char[comTraco ? 9 : 8];
+        int posicao = texto.length;
+        for (int i = 0; i < 8; i++) {
+            if (comTraco && i == 3) {
+                texto[--posicao] = '-';
+            }
+            texto[--posicao] = (char) ('0' + cep % 10);
+            cep /= 10;
+        }
+        return new String(texto);
+    }
+}
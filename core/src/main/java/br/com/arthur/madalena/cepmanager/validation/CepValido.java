@@ -0,0 +1,35 @@
+package br.com.arthur.madalena.cepmanager.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * CEP com 8 dígitos, validado por {@link br.com.arthur.madalena.cepmanager.util.CepUtils} sem regex.
+ * Valores nulos são aceitos; combine com @NotBlank quando o campo for obrigatório.
+ */
+@Documented
+@Constraint(validatedBy = CepValidoValidator.class)
+@Target({FIELD, METHOD, PARAMETER, ANNOTATION_TYPE, TYPE_USE})
+@Retention(RUNTIME)
+public @interface CepValido {
+
+    String message() default "CEP deve conter 8 dígitos no formato 00000-000 ou 00000000";
+
+    // false aceita apenas os 8 dígitos sem traço, formato gravado no banco
+    boolean permitirTraco() default true;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,23 @@
+package br.com.arthur.madalena.cepmanager.validation;
+
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CepValidoValidator implements ConstraintValidator<CepValido, CharSequence> {
+
+    private boolean permitirTraco;
+
+    @Override
+    public void initialize(CepValido anotacao) {
+        permitirTraco = anotacao.permitirTraco();
+    }
+
+    @Override
+    public boolean isValid(CharSequence valor, ConstraintValidatorContext context) {
+        if (valor == null) {
+            return true;
+        }
+        return (permitirTraco || valor.length() == 8) && CepUtils.isValido(valor);
+    }
+}
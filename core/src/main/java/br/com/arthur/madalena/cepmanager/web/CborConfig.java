@@ -0,0 +1,21 @@
+package br.com.arthur.madalena.cepmanager.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Accept: application/cbor devolve os mesmos DTOs em CBOR (RFC 8949), com os mesmos campos do JSON.
+ * O ObjectMapper vem do builder do Spring Boot para datas e demais ajustes (spring.jackson.*)
+ * serem iguais nos dois formatos. Esquema em schema/cep.cddl. Compartilhada por webapp e lookup-api.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
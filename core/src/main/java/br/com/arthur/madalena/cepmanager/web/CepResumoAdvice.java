@@ -0,0 +1,68 @@
+package br.com.arthur.madalena.cepmanager.web;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepResumoDTO;
+import br.com.arthur.madalena.cepmanager.dto.PaginaDTO;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.List;
+
+/**
+ * Formato resumido das listas de CEP, pedido com Accept: application/vnd.cepfinder.resumo+json.
+ * O conversor JSON já atende application/*+json; aqui Page&lt;CepDTO&gt; vira PaginaDTO&lt;CepResumoDTO&gt;
+ * e List&lt;CepDTO&gt; vira List&lt;CepResumoDTO&gt;. Sem esse Accept a resposta não muda.
+ * <p>
+ * Toda resposta do Jackson depende do Accept (JSON, CBOR ou resumo), então recebe Vary: Accept para que
+ * proxies e CDNs não entreguem a representação de um cliente a outro. Compartilhado por webapp e lookup-api.
+ */
+@RestControllerAdvice
+public class CepResumoAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final MediaType RESUMO = MediaType.valueOf(CepResumoDTO.MEDIA_TYPE);
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!response.getHeaders().getVary().contains(HttpHeaders.ACCEPT)) {
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        if (!RESUMO.equalsTypeAndSubtype(selectedContentType)
+                || !isListaDeCeps(ResolvableType.forMethodParameter(returnType))) {
+            return body;
+        }
+        if (body instanceof Page<?> page) {
+            return PaginaDTO.de((Page<CepDTO>) page, CepResumoDTO::de);
+        }
+        if (body instanceof List<?> lista) {
+            return ((List<CepDTO>) lista).stream().map(CepResumoDTO::de).toList();
+        }
+        return body;
+    }
+
+    static boolean isListaDeCeps(ResolvableType tipo) {
+        if (HttpEntity.class.isAssignableFrom(tipo.toClass())) {
+            tipo = tipo.getGeneric(0);
+        }
+        Class<?> classe = tipo.toClass();
+        return (Page.class.isAssignableFrom(classe) || List.class.isAssignableFrom(classe))
+                && tipo.getGeneric(0).toClass() == CepDTO.class;
+    }
+}
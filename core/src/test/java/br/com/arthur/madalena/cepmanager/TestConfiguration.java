@@ -16,12 +16,16 @@ import org.springframework.context.annotation.FilterType;
         basePackages = "br.com.arthur.madalena.cepmanager",
         excludeFilters = @ComponentScan.Filter(
                 type = FilterType.REGEX,
-                pattern = "br\\.com\\.arthur\\.madalena\\.cepmanager\\.service\\..*ServiceImpl"
+                pattern = {
+                        "br\\.com\\.arthur\\.madalena\\.cepmanager\\.service\\..*ServiceImpl",
+                        "br\\.com\\.arthur\\.madalena\\.cepmanager\\.web\\..*"
+                }
         )
 )
 public class TestConfiguration {
     // Classe de configuração para testes do módulo core
     // Liquibase e MailSender desabilitados para testes
     // EmailServiceImpl excluído do scan pois depende de JavaMailSender
+    // Pacote web excluído: CborConfig depende do Jackson2ObjectMapperBuilder do contexto web
 }
 
@@ -0,0 +1,219 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.dao.UsuarioDAO;
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.entity.CepAlteracao;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cada chamada ao DAO roda na própria transação (e sessão), como numa requisição real:
+ * a partir da segunda leitura nada pode ir ao banco.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheSegundoNivelTest {
+
+    @Autowired
+    private CepDAO cepDAO;
+
+    @Autowired
+    private UsuarioDAO usuarioDAO;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheSegundoNivel cacheSegundoNivel;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transacao;
+    private Statistics estatisticas;
+    private Long cepId;
+
+    @BeforeEach
+    void setUp() {
+        transacao = new TransactionTemplate(transactionManager);
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Cep cep = new Cep();
+        cep.setCodigo("30130010");
+        cep.setLogradouro("Praça Sete de Setembro");
+        cep.setBairro("Centro");
+        cep.setCidade("Belo Horizonte");
+        cep.setUf("MG");
+        cepId = transacao.execute(status -> cepDAO.save(cep)).getId();
+
+        Usuario usuario = new Usuario();
+        usuario.setUsername("cache");
+        usuario.setEmail("cache@test.com");
+        usuario.setPassword("$2a$10$hashedPassword");
+        usuario.setNomeCompleto("Usuario Cache");
+        usuario.setPermissoes(Set.of("ROLE_USER", "ROLE_ADMIN"));
+        transacao.executeWithoutResult(status -> usuarioDAO.save(usuario));
+
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transacao.executeWithoutResult(status -> {
+            cepDAO.deleteAll();
+            usuarioDAO.deleteAll();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void deveBuscarCepPorIdSemSqlNaSegundaLeitura() {
+        assertThat(cepDAO.findById(cepId)).isPresent();
+        estatisticas.clear();
+
+        Optional<Cep> resultado = cepDAO.findById(cepId);
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getLogradouro()).isEqualTo("Praça Sete de Setembro");
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void deveBuscarCepPorCodigoPeloNaturalIdSemSqlNaSegundaLeitura() {
+        assertThat(cepDAO.findByCodigo("30130010")).isPresent();
+        estatisticas.clear();
+
+        Optional<Cep> resultado = cepDAO.findByCodigo("30130010");
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getId()).isEqualTo(cepId);
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        assertThat(estatisticas.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void deveRetornarVazioParaCodigoInexistente() {
+        assertThat(cepDAO.findByCodigo("99999999")).isEmpty();
+        assertThat(cepDAO.findByCodigo(null)).isEmpty();
+    }
+
+    @Test
+    void deveConsultarCodigoEUfPeloCacheDeConsultas() {
+        assertThat(cepDAO.findByCodigoAndUf("30130010", "MG")).isPresent();
+        estatisticas.clear();
+
+        Optional<Cep> resultado = cepDAO.findByCodigoAndUf("30130010", "MG");
+
+        assertThat(resultado).isPresent();
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        assertThat(estatisticas.getQueryCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void deveBuscarUsuarioComPermissoesSemSqlNaSegundaLeitura() {
+        assertThat(usuarioDAO.findByUsername("cache")).isPresent();
+        estatisticas.clear();
+
+        Optional<Usuario> resultado = usuarioDAO.findByUsername("cache");
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getPermissoes()).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        assertThat(estatisticas.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void deveRefletirAtualizacaoSemVoltarAoBanco() {
+        assertThat(cepDAO.findById(cepId)).isPresent();
+        transacao.executeWithoutResult(status -> {
+            Cep cep = cepDAO.findById(cepId).orElseThrow();
+            cep.setLogradouro("Avenida Afonso Pena");
+        });
+        estatisticas.clear();
+
+        Optional<Cep> resultado = cepDAO.findById(cepId);
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getLogradouro()).isEqualTo("Avenida Afonso Pena");
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void deveVoltarAoBancoDepoisDeLimparCeps() {
+        assertThat(cepDAO.findByCodigo("30130010")).isPresent();
+
+        cacheSegundoNivel.limparCeps();
+        estatisticas.clear();
+
+        assertThat(cepDAO.findByCodigo("30130010")).isPresent();
+        assertThat(estatisticas.getPrepareStatementCount()).isPositive();
+    }
+
+    @Test
+    void deveLerCepAlteradoPorOutroNoDepoisDeInvalidar() {
+        assertThat(cepDAO.findByCodigo("30130010")).isPresent();
+        assertThat(cepDAO.findByCodigoAndUf("30130010", "MG")).isPresent();
+        // Alteração feita por outro nó, registrada em cep_alteracao e lida na sincronização
+        jdbcTemplate.update("UPDATE cep SET logradouro = 'Avenida Amazonas' WHERE codigo = '30130010'");
+        CepAlteracao alteracao = new CepAlteracao();
+        alteracao.setCepId(cepId);
+        alteracao.setCodigo("30130010");
+
+        cacheSegundoNivel.invalidarCeps(List.of(alteracao));
+
+        assertThat(cepDAO.findByCodigo("30130010").orElseThrow().getLogradouro()).isEqualTo("Avenida Amazonas");
+        assertThat(cepDAO.findByCodigoAndUf("30130010", "MG").orElseThrow().getLogradouro()).isEqualTo("Avenida Amazonas");
+    }
+
+    @Test
+    void deveVoltarAoBancoDepoisDeLimparUsuarios() {
+        assertThat(usuarioDAO.findByUsername("cache")).isPresent();
+
+        cacheSegundoNivel.limparUsuarios();
+        estatisticas.clear();
+
+        assertThat(usuarioDAO.findByUsername("cache")).isPresent();
+        assertThat(estatisticas.getPrepareStatementCount()).isPositive();
+    }
+
+    @Test
+    void deveLerUsuarioAlteradoPorOutroNoNasBuscasSemCache() {
+        assertThat(usuarioDAO.findByUsername("cache")).isPresent();
+        // Alteração feita por outro nó: o cache de segundo nível deste nó não fica sabendo
+        jdbcTemplate.update("UPDATE usuario SET ativo = false WHERE username = 'cache'");
+        jdbcTemplate.update("DELETE FROM usuario_permissao WHERE permissao = 'ROLE_ADMIN'"
+                + " AND usuario_id = (SELECT id FROM usuario WHERE username = 'cache')");
+        assertThat(usuarioDAO.findByUsername("cache").orElseThrow().getAtivo()).isTrue();
+
+        Usuario atual = usuarioDAO.findByUsernameSemCache("cache").orElseThrow();
+
+        assertThat(atual.getAtivo()).isFalse();
+        assertThat(atual.getPermissoes()).containsExactly("ROLE_USER");
+        assertThat(usuarioDAO.findByUsername("cache").orElseThrow().getAtivo()).isFalse();
+    }
+}
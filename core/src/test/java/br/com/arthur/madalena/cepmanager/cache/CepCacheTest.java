@@ -0,0 +1,86 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CepCacheTest {
+
+    private CepCache cache;
+    private CepDTO cep;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CepCache(Duration.ofMinutes(1));
+        cep = new CepDTO();
+        cep.setCodigo("01310100");
+        cep.setLogradouro("Avenida Paulista");
+    }
+
+    @Test
+    void deveEncontrarComOuSemHifen() {
+        cache.put(cep);
+
+        assertThat(cache.get("01310100")).isEqualTo(cep);
+        assertThat(cache.get("01310-100")).isEqualTo(cep);
+    }
+
+    @Test
+    void deveDevolverCopiaDoValorEmCache() {
+        cache.put(cep);
+
+        cache.get("01310100").setLogradouro("Alterado");
+        cep.setLogradouro("Alterado também");
+
+        assertThat(cache.get("01310100").getLogradouro()).isEqualTo("Avenida Paulista");
+    }
+
+    @Test
+    void deveInvalidarCep() {
+        cache.put(cep);
+
+        cache.invalidar("01310-100");
+
+        assertThat(cache.get("01310100")).isNull();
+    }
+
+    @Test
+    void deveIgnorarCodigoInvalido() {
+        assertThat(cache.get("abc")).isNull();
+        assertThat(cache.get(null)).isNull();
+    }
+
+    @Test
+    void naoDeveRepovoarCepLogoAposInvalidacao() {
+        cache.put(cep);
+        cache.invalidar("01310100");
+
+        // Leitura de uma réplica atrasada, ainda com o valor antigo
+        cache.put(cep);
+
+        assertThat(cache.get("01310100")).isNull();
+    }
+
+    @Test
+    void naoDeveRepovoarLogoAposLimpeza() {
+        cache.limpar();
+
+        cache.put(cep);
+
+        assertThat(cache.get("01310100")).isNull();
+    }
+
+    @Test
+    void deveRepovoarAposJanelaDeInvalidacao() {
+        cache = new CepCache(Duration.ZERO);
+        cache.invalidar("01310100");
+
+        cache.put(cep);
+
+        assertThat(cache.get("01310100")).isEqualTo(cep);
+    }
+}
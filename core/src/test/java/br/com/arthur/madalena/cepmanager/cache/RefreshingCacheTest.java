@@ -0,0 +1,139 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshingCacheTest {
+
+    private static final long SEGUNDO = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong agora = new AtomicLong();
+    private final List<Runnable> tarefas = new ArrayList<>();
+    private final AtomicInteger cargas = new AtomicInteger();
+    private double sorteio;
+    private RefreshingCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        sorteio = 0.999;
+        cache = new RefreshingCache<>("teste", Duration.ofSeconds(60), Duration.ofSeconds(30), 1.0, 100,
+                Duration.ofSeconds(5), tarefas::add, agora::get, () -> sorteio);
+    }
+
+    private Integer carregar(String chave) {
+        // Cada carga leva 1s no relógio de teste
+        agora.addAndGet(SEGUNDO);
+        return cargas.incrementAndGet();
+    }
+
+    @Test
+    void deveCarregarNaPrimeiraLeituraEServirDoCacheDepois() {
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+
+        assertThat(cargas.get()).isEqualTo(1);
+        assertThat(tarefas).isEmpty();
+        assertThat(cache.getAcertos()).isEqualTo(1);
+    }
+
+    @Test
+    void deveAtualizarAntesDoVencimentoConformeSorteio() {
+        cache.get("a", this::carregar);
+        agora.addAndGet(55 * SEGUNDO);
+
+        // -delta * ln(0.999) ~ 1ms: ainda longe do vencimento
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+        assertThat(tarefas).isEmpty();
+
+        // -delta * ln(0.001) ~ 6.9s: antecipa a atualização
+        sorteio = 0.001;
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+        assertThat(tarefas).hasSize(1);
+    }
+
+    @Test
+    void deveServirValorVencidoEnquantoAtualizaUmaUnicaVez() {
+        cache.get("a", this::carregar);
+        agora.addAndGet(70 * SEGUNDO);
+
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+        assertThat(tarefas).hasSize(1);
+        assertThat(cache.getVencidosServidos()).isEqualTo(2);
+
+        tarefas.get(0).run();
+
+        assertThat(cache.get("a", this::carregar)).isEqualTo(2);
+        assertThat(cache.getAtualizacoes()).isEqualTo(1);
+    }
+
+    @Test
+    void deveCarregarDeFormaSincronaAposMaxStaleness() {
+        cache.get("a", this::carregar);
+        agora.addAndGet(100 * SEGUNDO);
+
+        assertThat(cache.get("a", this::carregar)).isEqualTo(2);
+        assertThat(tarefas).isEmpty();
+        assertThat(cache.getFaltas()).isEqualTo(2);
+    }
+
+    @Test
+    void deveManterValorAtualQuandoAtualizacaoFalha() {
+        cache.get("a", this::carregar);
+        agora.addAndGet(70 * SEGUNDO);
+        cache.get("a", chave -> {
+            throw new IllegalStateException("banco indisponível");
+        });
+
+        tarefas.get(0).run();
+
+        assertThat(cache.get("a", this::carregar)).isEqualTo(1);
+        assertThat(cache.getFalhasAtualizacao()).isEqualTo(1);
+        assertThat(tarefas).hasSize(2);
+    }
+
+    @Test
+    void deveDescartarEntradasAoInvalidar() {
+        cache.get("a", this::carregar);
+
+        cache.invalidarTudo();
+
+        assertThat(cache.get("a", this::carregar)).isEqualTo(2);
+    }
+
+    @Test
+    void naoDeveGravarAtualizacaoIniciadaAntesDaInvalidacao() {
+        cache.get("a", this::carregar);
+        agora.addAndGet(70 * SEGUNDO);
+        // A invalidação chega enquanto a atualização em segundo plano lê o banco
+        cache.get("a", chave -> {
+            cache.invalidarTudo();
+            return carregar(chave);
+        });
+
+        tarefas.get(0).run();
+
+        assertThat(cache.getDescartadas()).isEqualTo(1);
+        assertThat(cache.get("a", this::carregar)).isEqualTo(3);
+    }
+
+    @Test
+    void naoDeveGravarCargaSincronaInvalidadaDuranteALeitura() {
+        Integer valor = cache.get("a", chave -> {
+            cache.invalidarTudo();
+            return carregar(chave);
+        });
+
+        assertThat(valor).isEqualTo(1);
+        assertThat(cache.getDescartadas()).isEqualTo(1);
+        assertThat(cache.get("a", this::carregar)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dao.CepAlteracaoDAO;
+import br.com.arthur.madalena.cepmanager.entity.CepAlteracao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SincronizacaoCepCacheTest {
+
+    private static final Instant AGORA = Instant.parse("2024-06-01T12:00:00Z");
+
+    private CepAlteracaoDAO cepAlteracaoDAO;
+    private CacheSegundoNivel cacheSegundoNivel;
+    private SincronizacaoCepCache sincronizacao;
+
+    @BeforeEach
+    void setUp() {
+        cepAlteracaoDAO = mock(CepAlteracaoDAO.class);
+        cacheSegundoNivel = mock(CacheSegundoNivel.class);
+        sincronizacao = new SincronizacaoCepCache(cepAlteracaoDAO, cacheSegundoNivel, Clock.fixed(AGORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    void deveGravarAlteracaoNaTransacaoDeQuemEscreveu() {
+        when(cepAlteracaoDAO.save(any())).thenAnswer(invocacao -> comId(invocacao.getArgument(0), 1L));
+
+        sincronizacao.registrar(10L, "01310100");
+
+        ArgumentCaptor<CepAlteracao> captor = ArgumentCaptor.forClass(CepAlteracao.class);
+        verify(cepAlteracaoDAO).save(captor.capture());
+        assertThat(captor.getValue().getCepId()).isEqualTo(10L);
+        assertThat(captor.getValue().getCodigo()).isEqualTo("01310100");
+        assertThat(captor.getValue().getDatHoraAlteracao()).isEqualTo(AGORA);
+    }
+
+    @Test
+    void deveInvalidarCepsAlteradosPorOutroNo() {
+        CepAlteracao alteracao = alteracao(1L, "01310100");
+        when(cepAlteracaoDAO.findAlteradosDesde(AGORA.minus(SincronizacaoCepCache.SOBREPOSICAO))).thenReturn(List.of(alteracao));
+
+        sincronizacao.sincronizar();
+
+        verify(cacheSegundoNivel).invalidarCeps(List.of(alteracao));
+    }
+
+    @Test
+    void naoDeveInvalidarDeNovoNaReleituraDaSobreposicao() {
+        CepAlteracao alteracao = alteracao(1L, "01310100");
+        when(cepAlteracaoDAO.findAlteradosDesde(any())).thenReturn(List.of(alteracao));
+
+        sincronizacao.sincronizar();
+        sincronizacao.sincronizar();
+
+        verify(cacheSegundoNivel).invalidarCeps(List.of(alteracao));
+        verify(cacheSegundoNivel).invalidarCeps(List.of());
+    }
+
+    @Test
+    void naoDeveAplicarAlteracaoFeitaPeloProprioNo() {
+        when(cepAlteracaoDAO.save(any())).thenAnswer(invocacao -> comId(invocacao.getArgument(0), 1L));
+        sincronizacao.registrar(10L, "01310100");
+        when(cepAlteracaoDAO.findAlteradosDesde(any())).thenReturn(List.of(alteracao(1L, "01310100")));
+
+        sincronizacao.sincronizar();
+
+        verify(cacheSegundoNivel).invalidarCeps(List.of());
+    }
+
+    @Test
+    void deveReaplicarQuandoAInvalidacaoFalha() {
+        CepAlteracao alteracao = alteracao(1L, "01310100");
+        when(cepAlteracaoDAO.findAlteradosDesde(any())).thenReturn(List.of(alteracao));
+        doThrow(new IllegalStateException("falha")).doNothing()
+                .when(cacheSegundoNivel).invalidarCeps(List.of(alteracao));
+
+        sincronizacao.sincronizar();
+        sincronizacao.sincronizar();
+
+        assertThat(sincronizacao.getTotalAplicadas()).isEqualTo(1);
+        verify(cacheSegundoNivel, times(2)).invalidarCeps(List.of(alteracao));
+    }
+
+    private static CepAlteracao alteracao(Long id, String codigo) {
+        CepAlteracao alteracao = new CepAlteracao();
+        alteracao.setId(id);
+        alteracao.setCepId(id * 10);
+        alteracao.setCodigo(codigo);
+        alteracao.setDatHoraAlteracao(AGORA.minusSeconds(1));
+        return alteracao;
+    }
+
+    private static CepAlteracao comId(CepAlteracao alteracao, Long id) {
+        alteracao.setId(id);
+        return alteracao;
+    }
+}
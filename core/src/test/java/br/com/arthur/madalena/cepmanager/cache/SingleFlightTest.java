@@ -0,0 +1,138 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class SingleFlightTest {
+
+    private SingleFlight<String, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlightRegistry(5).criar("teste");
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void deveCompartilharCargaEntreChamadasConcorrentes() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger cargas = new AtomicInteger();
+
+        Future<String> lider = executor.submit(() -> singleFlight.executar("01310100", () -> {
+            cargas.incrementAndGet();
+            iniciou.countDown();
+            aguardar(liberar);
+            return "Avenida Paulista";
+        }));
+        assertThat(iniciou.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> seguidores = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            seguidores.add(executor.submit(() -> singleFlight.executar("01310100", () -> {
+                cargas.incrementAndGet();
+                return "outra carga";
+            })));
+        }
+        aguardarCoalescidas(3);
+        liberar.countDown();
+
+        assertThat(lider.get(5, TimeUnit.SECONDS)).isEqualTo("Avenida Paulista");
+        for (Future<String> seguidor : seguidores) {
+            assertThat(seguidor.get(5, TimeUnit.SECONDS)).isEqualTo("Avenida Paulista");
+        }
+        assertThat(cargas.get()).isEqualTo(1);
+        assertThat(singleFlight.getExecucoes()).isEqualTo(1);
+        assertThat(singleFlight.getEmAndamento()).isZero();
+    }
+
+    @Test
+    void deveExecutarNovamenteAposConcluir() {
+        singleFlight.executar("a", () -> "1");
+
+        assertThat(singleFlight.executar("a", () -> "2")).isEqualTo("2");
+        assertThat(singleFlight.getExecucoes()).isEqualTo(2);
+        assertThat(singleFlight.getCoalescidas()).isZero();
+    }
+
+    @Test
+    void deveRepassarExcecaoDaCargaEmAndamento() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Future<String> lider = executor.submit(() -> singleFlight.executar("a", () -> {
+            iniciou.countDown();
+            aguardar(liberar);
+            throw new IllegalStateException("banco indisponível");
+        }));
+        assertThat(iniciou.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> seguidor = executor.submit(() -> singleFlight.executar("a", () -> "não executa"));
+        aguardarCoalescidas(1);
+        liberar.countDown();
+
+        assertThatThrownBy(() -> seguidor.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> lider.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void deveDesistirDeAguardarAposMaxEspera() throws Exception {
+        SingleFlight<String, String> curto = new SingleFlight<>("curto", Duration.ofMillis(50));
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Future<String> lider = executor.submit(() -> curto.executar("a", () -> {
+            iniciou.countDown();
+            aguardar(liberar);
+            return "lento";
+        }));
+        assertThat(iniciou.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> curto.executar("a", () -> "não executa"))
+                        .isInstanceOf(SobrecargaException.class));
+        assertThat(curto.getEsgotadas()).isEqualTo(1);
+
+        liberar.countDown();
+        assertThat(lider.get(5, TimeUnit.SECONDS)).isEqualTo("lento");
+    }
+
+    private void aguardarCoalescidas(long esperadas) {
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (singleFlight.getCoalescidas() < esperadas) {
+                Thread.onSpinWait();
+            }
+        });
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package br.com.arthur.madalena.cepmanager.dao;
 
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.OperadorConsulta;
 import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.entity.CepCodigo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -67,6 +76,119 @@ class CepDAOTest {
         assertThat(resultado.getContent().get(0).getLogradouro()).contains("Paulista");
     }
 
+    @Test
+    void deveBuscarPorCodigoEUf() {
+        assertThat(cepDAO.findByCodigoAndUf("01310100", "SP")).isPresent();
+        assertThat(cepDAO.findByCodigoAndUf("01310100", "RJ")).isEmpty();
+    }
+
+    @Test
+    void deveRejeitarMesmoCodigoEmOutraUf() {
+        Cep duplicado = new Cep();
+        duplicado.setCodigo("01310100");
+        duplicado.setLogradouro("Rua Qualquer");
+        duplicado.setBairro("Centro");
+        duplicado.setCidade("Rio de Janeiro");
+        duplicado.setUf("RJ");
+
+        assertThatThrownBy(() -> cepDAO.saveAndFlush(duplicado))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void deveResolverUfPelaTabelaDeCodigos() {
+        // No PostgreSQL a trigger trg_cep_codigo grava esta linha; no H2 ela é inserida pelo teste
+        entityManager.persist(new CepCodigo("01310100", "SP"));
+        entityManager.flush();
+
+        assertThat(cepDAO.findUfByCodigo("01310100")).contains("SP");
+        assertThat(cepDAO.findUfByCodigo("99999999")).isEmpty();
+    }
+
+    @Test
+    void deveBuscarVariosCodigosDeUmaVez() {
+        List<Cep> resultado = cepDAO.findByCodigoIn(List.of("01310100", "99999999"));
+
+        assertThat(resultado).extracting(Cep::getCodigo).containsExactly("01310100");
+    }
+
+    @Test
+    void deveContarCepsPorUfECidades() {
+        List<Object[]> porUf = cepDAO.countPorUf();
+
+        assertThat(porUf).hasSize(1);
+        assertThat(porUf.get(0)[0]).isEqualTo("SP");
+        assertThat(((Number) porUf.get(0)[1]).longValue()).isEqualTo(1L);
+        assertThat(cepDAO.countCidades()).isEqualTo(1L);
+    }
+
+    @Test
+    void deveListarApenasCepsComCoordenadas() {
+        Cep comCoordenadas = new Cep();
+        comCoordenadas.setCodigo("20040020");
+        comCoordenadas.setLogradouro("Rua Primeiro de Março");
+        comCoordenadas.setBairro("Centro");
+        comCoordenadas.setCidade("Rio de Janeiro");
+        comCoordenadas.setUf("RJ");
+        comCoordenadas.setLatitude(-22.90354);
+        comCoordenadas.setLongitude(-43.175865);
+        entityManager.persist(comCoordenadas);
+        entityManager.flush();
+
+        try (Stream<Object[]> coordenadas = cepDAO.streamCoordenadas()) {
+            assertThat(coordenadas.map(linha -> linha[0])).containsExactly("20040020");
+        }
+    }
+
+    @Test
+    void deveFiltrarPorEspecificacao() {
+        CepFiltroDTO filtro = new CepFiltroDTO("01310", "paulista", "bela", null, "sp", null);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("codigo"));
+
+        assertThat(cepDAO.findPagina(CepSpecifications.porFiltro(filtro), pageable)).hasSize(1);
+        assertThat(cepDAO.count(CepSpecifications.porFiltro(filtro))).isEqualTo(1);
+
+        filtro.setUf("RJ");
+        assertThat(cepDAO.findPagina(CepSpecifications.porFiltro(filtro), pageable)).isEmpty();
+    }
+
+    @Test
+    void deveTratarCuringasDoFiltroComoTextoLiteral() {
+        CepFiltroDTO filtro = new CepFiltroDTO(null, "%", null, null, null, null);
+
+        assertThat(cepDAO.count(CepSpecifications.porFiltro(filtro))).isZero();
+    }
+
+    @Test
+    void devePesquisarTermoEmVariosCampos() {
+        CepFiltroDTO filtro = new CepFiltroDTO(null, null, null, null, null, "bela vista");
+
+        assertThat(cepDAO.count(CepSpecifications.porFiltro(filtro))).isEqualTo(1);
+    }
+
+    @Test
+    void deveCombinarCriteriosDeConsulta() {
+        Pageable pageable = PageRequest.of(0, 10);
+        List<CriterioConsultaDTO> criterios = List.of(
+                new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "sp"),
+                new CriterioConsultaDTO("bairro", OperadorConsulta.IGUAL, "BELA VISTA"),
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "avenida pa"),
+                new CriterioConsultaDTO("codigo", OperadorConsulta.PREFIXO, "01310-"));
+
+        assertThat(cepDAO.findAll(CepSpecifications.porCriterios(criterios), pageable).getContent()).hasSize(1);
+
+        List<CriterioConsultaDTO> semResultado = List.of(new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "paulista"));
+        assertThat(cepDAO.findAll(CepSpecifications.porCriterios(semResultado), pageable).getContent()).isEmpty();
+    }
+
+    @Test
+    void deveBuscarPorIntervaloDeCodigos() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThat(cepDAO.findByCodigoBetween("01000000", "01999999", pageable).getContent()).hasSize(1);
+        assertThat(cepDAO.findByCodigoBetween("01310101", "01999999", pageable).getContent()).isEmpty();
+    }
+
     @Test
     void deveBuscarPorCidade() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -0,0 +1,88 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+import br.com.arthur.madalena.cepmanager.entity.CepFaixa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CepFaixaIndexTest {
+
+    private CepFaixaIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CepFaixaIndex(List.of(
+                new CepFaixa(1L, 1000000, 19999999, "SP", null, null),
+                new CepFaixa(2L, 20000000, 28999999, "RJ", null, null),
+                new CepFaixa(3L, 69000000, 69299999, "AM", null, null),
+                new CepFaixa(4L, 69400000, 69899999, "AM", null, null),
+                new CepFaixa(5L, 1000000, 5999999, "SP", "São Paulo", "3550308"),
+                new CepFaixa(6L, 20000000, 23799999, "RJ", "Rio de Janeiro", "3304557")
+        ));
+    }
+
+    @Test
+    void deveResolverFaixaDaCidade() {
+        CepFaixa faixa = index.resolver("01310-100");
+
+        assertThat(faixa.getCidade()).isEqualTo("São Paulo");
+        assertThat(faixa.getIbge()).isEqualTo("3550308");
+    }
+
+    @Test
+    void deveResolverFaixaDaUfQuandoCidadeNaoConhecida() {
+        CepFaixa faixa = index.resolver("13010000");
+
+        assertThat(faixa.getUf()).isEqualTo("SP");
+        assertThat(faixa.getCidade()).isNull();
+    }
+
+    @Test
+    void deveResolverLimitesDaFaixa() {
+        assertThat(index.resolver(1000000).getUf()).isEqualTo("SP");
+        assertThat(index.resolver(19999999).getUf()).isEqualTo("SP");
+        assertThat(index.resolver(20000000).getUf()).isEqualTo("RJ");
+        assertThat(index.resolver(28999999).getUf()).isEqualTo("RJ");
+    }
+
+    @Test
+    void deveRetornarNuloForaDasFaixas() {
+        assertThat(index.resolver(999999)).isNull();
+        assertThat(index.resolver(69350000)).isNull();
+        assertThat(index.resolver(99999999)).isNull();
+        assertThat(index.resolverUf(69350000)).isNull();
+    }
+
+    @Test
+    void deveResolverUfComFaixasDescontinuas() {
+        assertThat(index.resolverUf(69050000)).isEqualTo(Uf.AM);
+        assertThat(index.resolverUf(69500000)).isEqualTo(Uf.AM);
+    }
+
+    @Test
+    void deveIgnorarCodigoInvalido() {
+        assertThat(index.resolver("0131010")).isNull();
+        assertThat(index.resolver("0131A100")).isNull();
+        assertThat(index.resolver((String) null)).isNull();
+    }
+
+    @Test
+    void deveRejeitarFaixasSobrepostasNoMesmoNivel() {
+        List<CepFaixa> faixas = List.of(
+                new CepFaixa(1L, 1000000, 19999999, "SP", null, null),
+                new CepFaixa(2L, 19000000, 28999999, "RJ", null, null));
+
+        assertThatThrownBy(() -> new CepFaixaIndex(faixas))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveContarFaixasDosDoisNiveis() {
+        assertThat(index.totalFaixas()).isEqualTo(6);
+        assertThat(CepFaixaIndex.VAZIO.resolver(1310100)).isNull();
+    }
+}
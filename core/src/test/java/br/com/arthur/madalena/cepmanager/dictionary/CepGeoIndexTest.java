@@ -0,0 +1,98 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CepGeoIndexTest {
+
+    private CepGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CepGeoIndex.Builder()
+                .adicionar(1310100, -23.561414, -46.655881)
+                .adicionar(1310200, -23.563000, -46.654000)
+                .adicionar(1451000, -23.578000, -46.688000)
+                .adicionar(20040020, -22.903540, -43.175865)
+                .adicionar(80020190, -25.431290, -49.271460)
+                .build();
+    }
+
+    @Test
+    void deveRetornarPontosOrdenadosPorDistancia() {
+        CepGeoIndex.Resultado[] resultado = index.buscar(-23.561414, -46.655881, 10, 10);
+
+        assertThat(resultado).extracting(CepGeoIndex.Resultado::codigo)
+                .containsExactly(1310100, 1310200, 1451000);
+        assertThat(resultado[0].distanciaKm()).isCloseTo(0.0, within(0.01));
+    }
+
+    @Test
+    void deveRespeitarRaio() {
+        CepGeoIndex.Resultado[] resultado = index.buscar(-23.561414, -46.655881, 1, 10);
+
+        assertThat(resultado).extracting(CepGeoIndex.Resultado::codigo).containsExactly(1310100, 1310200);
+    }
+
+    @Test
+    void deveRespeitarLimite() {
+        CepGeoIndex.Resultado[] resultado = index.buscar(-23.561414, -46.655881, 10, 1);
+
+        assertThat(resultado).hasSize(1);
+        assertThat(resultado[0].codigo()).isEqualTo(1310100);
+    }
+
+    @Test
+    void deveRetornarVazioSemPontosProximos() {
+        assertThat(index.buscar(-3.731862, -38.526669, 50, 10)).isEmpty();
+        assertThat(CepGeoIndex.VAZIO.buscar(-23.56, -46.65, 10, 10)).isEmpty();
+    }
+
+    @Test
+    void deveIgnorarCoordenadasInvalidas() {
+        CepGeoIndex invalido = new CepGeoIndex.Builder()
+                .adicionar(1, 95.0, 10.0)
+                .adicionar(2, 10.0, 190.0)
+                .build();
+
+        assertThat(invalido.tamanho()).isZero();
+    }
+
+    @Test
+    void deveEncontrarPontosEmCelulasVizinhas() {
+        // Pontos dos dois lados da borda de uma célula de 0,1 grau
+        CepGeoIndex borda = new CepGeoIndex.Builder()
+                .adicionar(1, -23.0001, -46.0001)
+                .adicionar(2, -22.9999, -45.9999)
+                .build();
+
+        assertThat(borda.buscar(-23.0, -46.0, 1, 10)).hasSize(2);
+    }
+
+    @Test
+    void deveCoincidirComBuscaExaustiva() {
+        Random random = new Random(42);
+        CepGeoIndex.Builder builder = new CepGeoIndex.Builder();
+        double[][] pontos = new double[5000][];
+        for (int i = 0; i < pontos.length; i++) {
+            pontos[i] = new double[]{-24 + random.nextDouble(), -47 + random.nextDouble()};
+            builder.adicionar(i, pontos[i][0], pontos[i][1]);
+        }
+        CepGeoIndex grande = builder.build();
+
+        CepGeoIndex.Resultado[] resultado = grande.buscar(-23.5, -46.5, 5, 1000);
+
+        long esperado = 0;
+        for (double[] ponto : pontos) {
+            if (CepGeoIndex.distanciaKm(-23.5, -46.5, (float) ponto[0], (float) ponto[1]) <= 5) {
+                esperado++;
+            }
+        }
+        assertThat(resultado).hasSize((int) esperado);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.arthur.madalena.cepmanager.dictionary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalidadeDictionaryTest {
+
+    private LocalidadeDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new LocalidadeDictionary();
+    }
+
+    @Test
+    void deveRetornarInstanciaCanonicaDaUf() {
+        String uf1 = dictionary.uf(new String("SP"));
+        String uf2 = dictionary.uf(new String("sp"));
+
+        assertThat(uf1).isEqualTo("SP");
+        assertThat(uf1).isSameAs(uf2);
+        assertThat(uf1).isSameAs(Uf.SP.name());
+    }
+
+    @Test
+    void deveManterUfDesconhecidaSemAlteracao() {
+        assertThat(dictionary.uf("XX")).isEqualTo("XX");
+        assertThat(dictionary.uf(null)).isNull();
+    }
+
+    @Test
+    void deveRetornarCodigoIbgeDaUf() {
+        assertThat(dictionary.ufId("SP")).isEqualTo(35);
+        assertThat(dictionary.ufId("df")).isEqualTo(53);
+        assertThat(dictionary.ufId("XX")).isZero();
+    }
+
+    @Test
+    void deveDeduplicarCidadePeloCodigoIbge() {
+        String cidade1 = dictionary.cidade(new String("São Paulo"), "3550308");
+        String cidade2 = dictionary.cidade(new String("São Paulo"), "3550308");
+
+        assertThat(cidade1).isSameAs(cidade2);
+        assertThat(dictionary.cidadeNome(3550308)).isSameAs(cidade1);
+    }
+
+    @Test
+    void deveDeduplicarCidadeSemCodigoIbge() {
+        String cidade1 = dictionary.cidade(new String("Campinas"), null);
+        String cidade2 = dictionary.cidade(new String("Campinas"), "");
+
+        assertThat(cidade1).isSameAs(cidade2);
+    }
+
+    @Test
+    void naoDeveTrocarNomeDiferenteParaMesmoIbge() {
+        dictionary.cidade("São Paulo", "3550308");
+
+        String outroNome = dictionary.cidade("Sao Paulo", "3550308");
+
+        assertThat(outroNome).isEqualTo("Sao Paulo");
+    }
+
+    @Test
+    void deveIgnorarCodigoIbgeInvalido() {
+        assertThat(dictionary.cidadeId("35503")).isZero();
+        assertThat(dictionary.cidadeId("35503AB")).isZero();
+        assertThat(dictionary.cidadeId(null)).isZero();
+        assertThat(dictionary.cidadeId("3550308")).isEqualTo(3550308);
+    }
+
+    @Test
+    void deveDeduplicarBairro() {
+        String bairro1 = dictionary.bairro(new String("Centro"));
+        String bairro2 = dictionary.bairro(new String("Centro"));
+
+        assertThat(bairro1).isSameAs(bairro2);
+        assertThat(dictionary.totalBairros()).isEqualTo(1);
+    }
+
+    @Test
+    void deveLimparDicionario() {
+        dictionary.bairro("Centro");
+        dictionary.cidade("São Paulo", "3550308");
+
+        dictionary.clear();
+
+        assertThat(dictionary.totalBairros()).isZero();
+        assertThat(dictionary.totalCidades()).isZero();
+        assertThat(dictionary.cidadeNome(3550308)).isNull();
+    }
+}
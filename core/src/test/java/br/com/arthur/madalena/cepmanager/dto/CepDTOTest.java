@@ -276,5 +276,31 @@ class CepDTOTest {
         assertThat(violations).isNotEmpty();
         assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("ibge"));
     }
-}
 
+    @Test
+    void deveAceitarCepComTraco() {
+        CepDTO dto = new CepDTO();
+        dto.setCodigo("01310-100");
+        dto.setLogradouro("Avenida Paulista");
+        dto.setBairro("Bela Vista");
+        dto.setCidade("São Paulo");
+        dto.setUf("SP");
+
+        assertThat(validator.validate(dto)).isEmpty();
+    }
+
+    @Test
+    void deveRejeitarCepComTracoForaDaPosicao() {
+        CepDTO dto = new CepDTO();
+        dto.setCodigo("0131-0100");
+        dto.setLogradouro("Avenida Paulista");
+        dto.setBairro("Bela Vista");
+        dto.setCidade("São Paulo");
+        dto.setUf("SP");
+
+        Set<ConstraintViolation<CepDTO>> violations = validator.validate(dto);
+
+        assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("codigo")
+                && v.getMessage().equals("CEP deve conter 8 dígitos no formato 00000-000 ou 00000000"));
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.arthur.madalena.cepmanager.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CEPs de teste em sequência a partir de 01310100, com complemento em um a cada cinco.
+ */
+public final class CepDTOs {
+
+    private CepDTOs() {
+    }
+
+    public static CepDTO cep(int i) {
+        CepDTO cep = new CepDTO();
+        cep.setId((long) i + 1);
+        cep.setCodigo(String.format("%08d", 1310100 + i));
+        cep.setLogradouro("Avenida Paulista " + i);
+        cep.setComplemento(i % 5 == 0 ? "lado ímpar" : null);
+        cep.setBairro("Bela Vista");
+        cep.setCidade("São Paulo");
+        cep.setUf("SP");
+        cep.setIbge("3550308");
+        cep.setLatitude(-23.5613 + i * 0.0001);
+        cep.setLongitude(-46.6565 - i * 0.0001);
+        cep.setDatHoraCadastro(LocalDateTime.of(2024, 1, 15, 10, 30));
+        return cep;
+    }
+
+    public static List<CepDTO> ceps(int quantidade) {
+        List<CepDTO> ceps = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            ceps.add(cep(i));
+        }
+        return ceps;
+    }
+}
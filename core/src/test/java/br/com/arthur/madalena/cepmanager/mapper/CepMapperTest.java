@@ -1,5 +1,6 @@
 package br.com.arthur.madalena.cepmanager.mapper;
 
+import br.com.arthur.madalena.cepmanager.dictionary.LocalidadeDictionary;
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
 import br.com.arthur.madalena.cepmanager.entity.Cep;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +16,7 @@ class CepMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new CepMapper();
+        mapper = new CepMapper(new LocalidadeDictionary());
     }
 
     @Test
@@ -199,6 +200,46 @@ class CepMapperTest {
         assertThat(dto.getLogradouro()).isEqualTo("Avenida Paulista");
     }
 
+    @Test
+    void deveCompartilharInstanciasDeCidadeBairroEUfEntreDTOs() {
+        Cep primeiro = new Cep();
+        primeiro.setCodigo("01310100");
+        primeiro.setBairro(new String("Bela Vista"));
+        primeiro.setCidade(new String("São Paulo"));
+        primeiro.setUf(new String("SP"));
+        primeiro.setIbge("3550308");
+
+        Cep segundo = new Cep();
+        segundo.setCodigo("01310200");
+        segundo.setBairro(new String("Bela Vista"));
+        segundo.setCidade(new String("São Paulo"));
+        segundo.setUf(new String("SP"));
+        segundo.setIbge("3550308");
+
+        CepDTO dto1 = mapper.toDTO(primeiro);
+        CepDTO dto2 = mapper.toDTO(segundo);
+
+        assertThat(dto1.getBairro()).isSameAs(dto2.getBairro());
+        assertThat(dto1.getCidade()).isSameAs(dto2.getCidade());
+        assertThat(dto1.getUf()).isSameAs(dto2.getUf());
+    }
+
+    @Test
+    void deveCopiarCoordenadas() {
+        CepDTO dto = new CepDTO();
+        dto.setCodigo("01310100");
+        dto.setLatitude(-23.561414);
+        dto.setLongitude(-46.655881);
+
+        Cep entity = mapper.toEntity(dto);
+        CepDTO convertido = mapper.toDTO(entity);
+
+        assertThat(entity.getLatitude()).isEqualTo(-23.561414);
+        assertThat(entity.getLongitude()).isEqualTo(-46.655881);
+        assertThat(convertido.getLatitude()).isEqualTo(-23.561414);
+        assertThat(convertido.getLongitude()).isEqualTo(-46.655881);
+    }
+
     @Test
     void naoDeveFazerNadaQuandoAmbosSaoNullNoUpdate() {
         mapper.updateEntity(null, null);
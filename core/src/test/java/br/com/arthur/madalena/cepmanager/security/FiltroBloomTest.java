@@ -0,0 +1,50 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FiltroBloomTest {
+
+    @Test
+    void naoDeveTerFalsoNegativo() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        List<String> jtis = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            jtis.add(jti);
+            filtro.adicionar(jti);
+        }
+
+        assertThat(jtis).allMatch(filtro::talvezContenha);
+    }
+
+    @Test
+    void deveManterFalsosPositivosProximosDaTaxaConfigurada() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar(UUID.randomUUID().toString());
+        }
+
+        int falsosPositivos = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtro.talvezContenha(UUID.randomUUID().toString())) {
+                falsosPositivos++;
+            }
+        }
+
+        assertThat(falsosPositivos / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void filtroVazioNaoDeveConterNada() {
+        FiltroBloom filtro = new FiltroBloom(100, 0.01);
+
+        assertThat(filtro.talvezContenha(UUID.randomUUID().toString())).isFalse();
+        assertThat(filtro.getFuncoes()).isPositive();
+    }
+}
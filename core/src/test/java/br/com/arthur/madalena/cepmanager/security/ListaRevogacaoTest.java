@@ -0,0 +1,130 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import br.com.arthur.madalena.cepmanager.dao.TokenRevogadoDAO;
+import br.com.arthur.madalena.cepmanager.entity.TokenRevogado;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ListaRevogacaoTest {
+
+    private static final Instant AGORA = Instant.parse("2024-06-01T12:00:00Z");
+
+    private TokenRevogadoDAO tokenRevogadoDAO;
+    private ListaRevogacao listaRevogacao;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevogadoDAO = mock(TokenRevogadoDAO.class);
+        listaRevogacao = new ListaRevogacao(tokenRevogadoDAO, Duration.ofMinutes(15), Clock.fixed(AGORA, ZoneOffset.UTC));
+    }
+
+    @Test
+    void deveGravarERecusarTokenRevogadoNoLogout() {
+        Jwt jwt = jwt("jti-1", "admin", AGORA.minusSeconds(60));
+
+        listaRevogacao.revogarToken(jwt);
+
+        ArgumentCaptor<TokenRevogado> captor = ArgumentCaptor.forClass(TokenRevogado.class);
+        verify(tokenRevogadoDAO).save(captor.capture());
+        assertThat(captor.getValue().getJti()).isEqualTo("jti-1");
+        assertThat(captor.getValue().getDatHoraExpiracao()).isEqualTo(jwt.getExpiresAt());
+        assertThat(listaRevogacao.isRevogado(jwt)).isTrue();
+        assertThat(listaRevogacao.isRevogado(jwt("jti-2", "admin", AGORA.minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void deveRecusarTokensDoUsuarioEmitidosAteARevogacao() {
+        listaRevogacao.onTokensRevogados(new TokensRevogadosEvent("admin", AGORA, true));
+
+        assertThat(listaRevogacao.isRevogado(jwt("a", "admin", AGORA.minusSeconds(30)))).isTrue();
+        assertThat(listaRevogacao.isRevogado(jwt("b", "admin", AGORA))).isTrue();
+        assertThat(listaRevogacao.isRevogado(jwt("c", "admin", AGORA.plusSeconds(1)))).isFalse();
+        assertThat(listaRevogacao.isRevogado(jwt("d", "user", AGORA.minusSeconds(30)))).isFalse();
+    }
+
+    @Test
+    void deveGravarCorteValidoAteAExpiracaoDoAccessToken() {
+        listaRevogacao.onTokensRevogados(new TokensRevogadosEvent("admin", AGORA, true));
+
+        ArgumentCaptor<TokenRevogado> captor = ArgumentCaptor.forClass(TokenRevogado.class);
+        verify(tokenRevogadoDAO).save(captor.capture());
+        assertThat(captor.getValue().getJti()).isNull();
+        assertThat(captor.getValue().getDatHoraExpiracao()).isEqualTo(AGORA.plus(Duration.ofMinutes(15)).plusSeconds(1));
+    }
+
+    @Test
+    void deveRecusarTokenRevogadoNoValidadorDoDecoder() {
+        RevogacaoJwtValidator validator = new RevogacaoJwtValidator(listaRevogacao);
+        Jwt revogado = jwt("jti-1", "admin", AGORA.minusSeconds(60));
+        listaRevogacao.revogarToken(revogado);
+
+        assertThat(validator.validate(revogado).hasErrors()).isTrue();
+        assertThat(validator.validate(jwt("jti-2", "admin", AGORA.minusSeconds(60))).hasErrors()).isFalse();
+    }
+
+    @Test
+    void deveAplicarRevogacoesGravadasPorOutroNo() {
+        TokenRevogado logout = new TokenRevogado();
+        logout.setJti("jti-outro-no");
+        logout.setUsername("user");
+        logout.setDatHoraRevogacao(AGORA.minusSeconds(1));
+        logout.setDatHoraExpiracao(AGORA.plusSeconds(600));
+        when(tokenRevogadoDAO.findRevogadosDesde(Instant.EPOCH, AGORA)).thenReturn(List.of(logout));
+
+        listaRevogacao.sincronizar();
+
+        assertThat(listaRevogacao.isRevogado(jwt("jti-outro-no", "user", AGORA.minusSeconds(60)))).isTrue();
+    }
+
+    @Test
+    void deveRelerAJanelaDeSobreposicaoNasSincronizacoesSeguintes() {
+        when(tokenRevogadoDAO.findRevogadosDesde(any(), any())).thenReturn(List.of());
+
+        listaRevogacao.sincronizar();
+        listaRevogacao.sincronizar();
+
+        verify(tokenRevogadoDAO).findRevogadosDesde(Instant.EPOCH, AGORA);
+        verify(tokenRevogadoDAO).findRevogadosDesde(AGORA.minusSeconds(30), AGORA);
+    }
+
+    @Test
+    void deveRemoverDaMemoriaRevogacoesDeTokensJaExpirados() {
+        TokenRevogado expirado = new TokenRevogado();
+        expirado.setJti("jti-expirado");
+        expirado.setUsername("admin");
+        expirado.setDatHoraRevogacao(AGORA.minus(Duration.ofHours(1)));
+        expirado.setDatHoraExpiracao(AGORA.minusSeconds(1));
+        listaRevogacao.aplicar(expirado);
+        listaRevogacao.revogarToken(jwt("jti-valido", "admin", AGORA.minusSeconds(60)));
+
+        listaRevogacao.removerExpirados();
+
+        assertThat(listaRevogacao.getTotalJtis()).isEqualTo(1);
+        assertThat(listaRevogacao.isRevogado(jwt("jti-valido", "admin", AGORA.minusSeconds(60)))).isTrue();
+    }
+
+    private Jwt jwt(String jti, String username, Instant emitidoEm) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .jti(jti)
+                .subject(username)
+                .issuedAt(emitidoEm)
+                .expiresAt(emitidoEm.plus(Duration.ofMinutes(15)))
+                .build();
+    }
+}
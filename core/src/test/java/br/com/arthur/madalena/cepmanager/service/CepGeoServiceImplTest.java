@@ -0,0 +1,57 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.dto.CepProximoDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CepGeoServiceImplTest {
+
+    @Mock
+    private CepDAO cepDAO;
+
+    @InjectMocks
+    private CepGeoServiceImpl cepGeoService;
+
+    @Test
+    void deveRetornarVazioAntesDaPrimeiraCarga() {
+        assertThat(cepGeoService.findProximos(-23.56, -46.65, 5, 10)).isEmpty();
+    }
+
+    @Test
+    void deveBuscarCepsProximosAposRecarga() {
+        when(cepDAO.streamCoordenadas()).thenReturn(Stream.of(
+                new Object[]{"01310100", -23.561414, -46.655881},
+                new Object[]{"20040020", -22.903540, -43.175865}));
+
+        cepGeoService.recarregar();
+        List<CepProximoDTO> proximos = cepGeoService.findProximos(-23.56, -46.65, 5, 10);
+
+        assertThat(proximos).hasSize(1);
+        assertThat(proximos.get(0).getCodigo()).isEqualTo("01310100");
+        assertThat(proximos.get(0).getDistanciaKm()).isLessThan(1.0);
+    }
+
+    @Test
+    void deveRejeitarParametrosForaDosLimites() {
+        assertThatThrownBy(() -> cepGeoService.findProximos(-91, 0, 5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cepGeoService.findProximos(0, 0, CepGeoServiceImpl.RAIO_MAXIMO_KM + 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cepGeoService.findProximos(0, 0, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cepGeoService.findProximos(0, 0, 5, CepGeoServiceImpl.LIMITE_MAXIMO + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
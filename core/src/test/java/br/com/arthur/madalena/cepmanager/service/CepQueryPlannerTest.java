@@ -0,0 +1,174 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.OperadorConsulta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CepQueryPlannerTest {
+
+    private CepQueryPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new CepQueryPlanner();
+    }
+
+    @Test
+    void deveEscolherIndiceMaisSeletivo() {
+        CepQueryPlanner.PlanoConsulta plano = planner.planejar(List.of(
+                new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "SP"),
+                new CriterioConsultaDTO("bairro", OperadorConsulta.IGUAL, "Centro"),
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "Rua Augusta")), false);
+
+        assertThat(plano.getIndice()).isEqualTo("idx_cep_logradouro_lower_pattern");
+        // A ordem dos predicados não muda o plano do PostgreSQL: os critérios seguem como vieram
+        assertThat(plano.getCriterios()).extracting(CriterioConsultaDTO::getCampo)
+                .containsExactly("uf", "bairro", "logradouro");
+    }
+
+    @Test
+    void devePreferirCodigoExato() {
+        CepQueryPlanner.PlanoConsulta plano = planner.planejar(List.of(
+                new CriterioConsultaDTO("cidade", OperadorConsulta.IGUAL, "São Paulo"),
+                new CriterioConsultaDTO("codigo", OperadorConsulta.IGUAL, "01310100")), false);
+
+        assertThat(plano.getIndice()).isEqualTo("idx_cep_codigo");
+    }
+
+    @Test
+    void deveAceitarContemComFiltroIndexado() {
+        CepQueryPlanner.PlanoConsulta plano = planner.planejar(List.of(
+                new CriterioConsultaDTO("cidade", OperadorConsulta.IGUAL, "Campinas"),
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.CONTEM, "ouro")), false);
+
+        assertThat(plano.getIndice()).isEqualTo("idx_cep_cidade_lower");
+    }
+
+    @Test
+    void deveRecusarConsultaSomenteComContem() {
+        List<CriterioConsultaDTO> criterios = List.of(
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.CONTEM, "paulista"),
+                new CriterioConsultaDTO("bairro", OperadorConsulta.CONTEM, "vista"));
+
+        assertThatThrownBy(() -> planner.planejar(criterios, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planner.planejar(criterios, true).getIndice()).isEqualTo("idx_cep_logradouro_trgm");
+    }
+
+    @Test
+    void deveRecusarConsultaSomentePorUf() {
+        List<CriterioConsultaDTO> criterios = List.of(new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "SP"));
+
+        assertThatThrownBy(() -> planner.planejar(criterios, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planner.planejar(criterios, true).getIndice()).isEqualTo("particao_uf");
+    }
+
+    @Test
+    void deveRecusarUfComFiltroSemIndice() {
+        List<CriterioConsultaDTO> criterios = List.of(
+                new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "SP"),
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.CONTEM, "a"));
+
+        assertThatThrownBy(() -> planner.planejar(criterios, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planner.planejar(criterios, true).getIndice()).isEqualTo("particao_uf");
+    }
+
+    @Test
+    void deveRecusarUfComSomenteContem() {
+        assertThatThrownBy(() -> planner.planejar(List.of(
+                new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "SP"),
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.CONTEM, "paulista")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveAceitarUfComFiltroIndexado() {
+        CepQueryPlanner.PlanoConsulta plano = planner.planejar(List.of(
+                new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "SP"),
+                new CriterioConsultaDTO("cidade", OperadorConsulta.IGUAL, "Campinas")), false);
+
+        assertThat(plano.getIndice()).isEqualTo("idx_cep_cidade_lower");
+    }
+
+    @Test
+    void deveRecusarPrefixoCurtoDemais() {
+        List<CriterioConsultaDTO> criterios = List.of(new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "R"));
+
+        assertThatThrownBy(() -> planner.planejar(criterios, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveRecusarPrefixoDeTextoComum() {
+        List<CriterioConsultaDTO> criterios = List.of(new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "rua"));
+
+        assertThatThrownBy(() -> planner.planejar(criterios, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "rua d")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planner.planejar(criterios, true).getIndice()).isEqualTo("varredura");
+    }
+
+    @Test
+    void deveRecusarPrefixoDeBairro() {
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("bairro", OperadorConsulta.PREFIXO, "Jardim Paulista")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveRecusarPrefixoDeCodigoSemDigitos() {
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("codigo", OperadorConsulta.PREFIXO, "abc")), true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Valor inválido");
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("codigo", OperadorConsulta.PREFIXO, "01")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveAceitarPrefixoDeCodigoComTraco() {
+        CepQueryPlanner.PlanoConsulta plano = planner.planejar(
+                List.of(new CriterioConsultaDTO("codigo", OperadorConsulta.PREFIXO, "01310-1")), false);
+
+        assertThat(plano.getIndice()).isEqualTo("idx_cep_codigo_pattern");
+        assertThat(plano.getSeletividade()).isLessThan(CepQueryPlanner.SELETIVIDADE_MAXIMA);
+    }
+
+    @Test
+    void deveTratarContemCurtoComoVarredura() {
+        CepQueryPlanner.PlanoConsulta plano = planner.planejar(
+                List.of(new CriterioConsultaDTO("bairro", OperadorConsulta.CONTEM, "ab")), true);
+
+        assertThat(plano.getIndice()).isEqualTo("varredura");
+    }
+
+    @Test
+    void deveRecusarConsultaSemFiltros() {
+        assertThatThrownBy(() -> planner.planejar(List.of(), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveValidarCampoEOperador() {
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("complemento", OperadorConsulta.IGUAL, "x")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("uf", OperadorConsulta.PREFIXO, "S")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planner.planejar(
+                List.of(new CriterioConsultaDTO("cidade", OperadorConsulta.IGUAL, " ")), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
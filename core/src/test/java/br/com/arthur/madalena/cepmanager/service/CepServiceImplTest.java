@@ -1,7 +1,16 @@
 package br.com.arthur.madalena.cepmanager.service;
 
+import br.com.arthur.madalena.cepmanager.cache.CepCache;
+import br.com.arthur.madalena.cepmanager.cache.RefreshingCacheRegistry;
+import br.com.arthur.madalena.cepmanager.cache.SincronizacaoCepCache;
+import br.com.arthur.madalena.cepmanager.cache.SingleFlightRegistry;
 import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.dictionary.Uf;
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.EstatisticasCepDTO;
+import br.com.arthur.madalena.cepmanager.dto.OperadorConsulta;
 import br.com.arthur.madalena.cepmanager.entity.Cep;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
 import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
@@ -9,15 +18,24 @@ import br.com.arthur.madalena.cepmanager.mapper.CepMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,7 +52,24 @@ class CepServiceImplTest {
     @Mock
     private CepMapper cepMapper;
 
-    @InjectMocks
+    @Mock
+    private CepFaixaService cepFaixaService;
+
+    @Mock
+    private SincronizacaoCepCache sincronizacaoCepCache;
+
+    @Spy
+    private CepQueryPlanner cepQueryPlanner = new CepQueryPlanner();
+
+    @Spy
+    private CepCache cepCache = new CepCache(Duration.ofSeconds(10));
+
+    @Spy
+    private SingleFlightRegistry singleFlightRegistry = new SingleFlightRegistry(5);
+
+    @Spy
+    private RefreshingCacheRegistry refreshingCacheRegistry = new RefreshingCacheRegistry(Duration.ofMinutes(1), Duration.ofMinutes(5), 1.0, 5);
+
     private CepServiceImpl cepService;
 
     private Cep cep;
@@ -42,6 +77,9 @@ class CepServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        cepService = new CepServiceImpl(cepDAO, cepMapper, cepQueryPlanner, cepCache,
+                new CepCarregador(cepDAO, cepFaixaService), sincronizacaoCepCache, singleFlightRegistry, refreshingCacheRegistry);
+
         cep = new Cep();
         cep.setId(1L);
         cep.setCodigo("01310100");
@@ -61,20 +99,124 @@ class CepServiceImplTest {
 
     @Test
     void testFindByCodigo_Success() {
-        when(cepDAO.findByCodigo("01310100")).thenReturn(Optional.of(cep));
+        when(cepDAO.findUfByCodigo("01310100")).thenReturn(Optional.of("SP"));
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.of(cep));
         when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
 
         CepDTO result = cepService.findByCodigo("01310100");
 
         assertNotNull(result);
         assertEquals("01310100", result.getCodigo());
-        verify(cepDAO).findByCodigo("01310100");
+        verify(cepDAO).findByCodigoAndUf("01310100", "SP");
         verify(cepMapper).toDTO(cep);
     }
 
+    @Test
+    void testFindByCodigo_SegundaChamadaUsaCache() {
+        when(cepDAO.findUfByCodigo("01310100")).thenReturn(Optional.of("SP"));
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.of(cep));
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        cepService.findByCodigo("01310100");
+        CepDTO result = cepService.findByCodigo("01310-100");
+
+        assertEquals("Avenida Paulista", result.getLogradouro());
+        assertNotSame(cepDTO, result);
+        verify(cepDAO, times(1)).findByCodigoAndUf("01310100", "SP");
+    }
+
+    @Test
+    void testFindByCodigos_BuscaNoBancoSoOsFaltantes() {
+        CepDTO emCache = new CepDTO();
+        emCache.setCodigo("20040020");
+        cepCache.put(emCache);
+        when(cepDAO.findByCodigoIn(any())).thenReturn(List.of(cep));
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        List<CepDTO> result = cepService.findByCodigos(List.of("01310100", "99999999", "20040020"));
+
+        assertEquals(2, result.size());
+        assertEquals("01310100", result.get(0).getCodigo());
+        assertEquals("20040020", result.get(1).getCodigo());
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(cepDAO).findByCodigoIn(captor.capture());
+        assertEquals(List.of("01310100", "99999999"), List.copyOf(captor.getValue()));
+    }
+
+    @Test
+    void testFindByCodigos_MesmoCepComESemTracoBuscaUmaVez() {
+        when(cepDAO.findByCodigoIn(any())).thenReturn(List.of(cep));
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        List<CepDTO> result = cepService.findByCodigos(List.of("01310-100", "01310100", "abc"));
+
+        assertEquals(2, result.size());
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(cepDAO).findByCodigoIn(captor.capture());
+        assertEquals(List.of("01310100"), List.copyOf(captor.getValue()));
+    }
+
+    @Test
+    void testFindByCodigo_CodigoInvalidoNaoConsultaBanco() {
+        assertThrows(ResourceNotFoundException.class, () -> cepService.findByCodigo("0131-0100"));
+
+        verifyNoInteractions(cepDAO);
+    }
+
+    @Test
+    void testFindByCodigos_LimiteDoLote() {
+        List<String> codigos = Collections.nCopies(101, "01310100");
+
+        assertThrows(IllegalArgumentException.class, () -> cepService.findByCodigos(codigos));
+        verify(cepDAO, never()).findByCodigoIn(any());
+    }
+
+    @Test
+    void testFindByCodigosEmCache_TodosEmCache() {
+        CepDTO outro = new CepDTO();
+        outro.setCodigo("20040020");
+        cepCache.put(cepDTO);
+        cepCache.put(outro);
+
+        Optional<List<CepDTO>> result = cepService.findByCodigosEmCache(List.of("20040-020", "invalido", "01310100"));
+
+        assertTrue(result.isPresent());
+        assertEquals(List.of("20040020", "01310100"), result.get().stream().map(CepDTO::getCodigo).toList());
+        verifyNoInteractions(cepDAO);
+    }
+
+    @Test
+    void testFindByCodigosEmCache_FaltandoUmNaoConsultaOBanco() {
+        cepCache.put(cepDTO);
+
+        Optional<List<CepDTO>> result = cepService.findByCodigosEmCache(List.of("01310100", "20040020"));
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(cepDAO);
+    }
+
+    @Test
+    void testFindByCodigosEmCache_LimiteDoLote() {
+        List<String> codigos = Collections.nCopies(101, "01310100");
+
+        assertThrows(IllegalArgumentException.class, () -> cepService.findByCodigosEmCache(codigos));
+    }
+
+    @Test
+    void testUpdate_InvalidaCache() {
+        cepCache.put(cepDTO);
+        when(cepDAO.findByCodigo("01310100")).thenReturn(Optional.of(cep));
+        when(cepDAO.save(cep)).thenReturn(cep);
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        cepService.update("01310100", cepDTO);
+
+        assertNull(cepCache.get("01310100"));
+    }
+
     @Test
     void testFindByCodigo_NotFound() {
-        when(cepDAO.findByCodigo(anyString())).thenReturn(Optional.empty());
+        when(cepDAO.findUfByCodigo(anyString())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             cepService.findByCodigo("00000000");
@@ -111,6 +253,111 @@ class CepServiceImplTest {
         verify(cepDAO).findByCidade("São Paulo", pageable);
     }
 
+    @Test
+    void testFindByUf_NormalizaUfParaPodaDeParticoes() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Cep> page = new PageImpl<>(Arrays.asList(cep));
+
+        when(cepDAO.findByUf("SP", pageable)).thenReturn(page);
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        Page<CepDTO> result = cepService.findByUf(" sp", pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(cepDAO).findByUf("SP", pageable);
+    }
+
+    @Test
+    void testFindByCidadeAndUf_NormalizaUf() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Cep> page = new PageImpl<>(Arrays.asList(cep));
+
+        when(cepDAO.findByCidadeAndUf("são paulo", "SP", pageable)).thenReturn(page);
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        Page<CepDTO> result = cepService.findByCidadeAndUf("São Paulo", "sp", pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(cepDAO).findByCidadeAndUf("são paulo", "SP", pageable);
+    }
+
+    @Test
+    void testFindByCidadeAndUf_CargaUsaCidadeDaChave() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(cepDAO.findByCidadeAndUf("são paulo", "SP", pageable)).thenReturn(new PageImpl<>(Arrays.asList(cep)));
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        // Com espaços a consulta pelo valor original não acharia nada e a página vazia ficaria em cache
+        Page<CepDTO> result = cepService.findByCidadeAndUf(" São Paulo ", "SP", pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(cepDAO).findByCidadeAndUf("são paulo", "SP", pageable);
+    }
+
+    @Test
+    void testFindByCidadeAndUf_UsaCacheParaMesmaPagina() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Cep> page = new PageImpl<>(Arrays.asList(cep));
+        when(cepDAO.findByCidadeAndUf(anyString(), eq("SP"), eq(pageable))).thenReturn(page);
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        cepService.findByCidadeAndUf("São Paulo", "SP", pageable);
+        Page<CepDTO> result = cepService.findByCidadeAndUf("são paulo", "sp", pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(cepDAO, times(1)).findByCidadeAndUf(anyString(), eq("SP"), eq(pageable));
+    }
+
+    @Test
+    void testEstatisticas() {
+        when(cepDAO.countPorUf()).thenReturn(List.of(new Object[]{"RJ", 2L}, new Object[]{"SP", 3L}));
+        when(cepDAO.countCidades()).thenReturn(4L);
+
+        EstatisticasCepDTO result = cepService.estatisticas();
+        cepService.estatisticas();
+
+        assertEquals(5, result.getTotalCeps());
+        assertEquals(4, result.getTotalCidades());
+        assertEquals(2, result.getTotalEstados());
+        assertEquals(List.of("RJ", "SP"), List.copyOf(result.getCepsPorUf().keySet()));
+        verify(cepDAO, times(1)).countPorUf();
+    }
+
+    @Test
+    void testCountByFiltro_SemFiltroUsaTotalDasEstatisticas() {
+        when(cepDAO.countPorUf()).thenReturn(List.of(new Object[]{"RJ", 2L}, new Object[]{"SP", 3L}));
+
+        assertEquals(5, cepService.countByFiltro(new CepFiltroDTO()));
+        assertEquals(5, cepService.countByFiltro(new CepFiltroDTO(" ", null, "", null, null, null)));
+
+        verify(cepDAO, times(1)).countPorUf();
+        verify(cepDAO, never()).count(ArgumentMatchers.<Specification<Cep>>any());
+    }
+
+    @Test
+    void testCountByFiltro_ComFiltroContaNoBanco() {
+        when(cepDAO.count(ArgumentMatchers.<Specification<Cep>>any())).thenReturn(7L);
+
+        assertEquals(7, cepService.countByFiltro(new CepFiltroDTO(null, null, null, null, "SP", null)));
+
+        verify(cepDAO, never()).countPorUf();
+    }
+
+    @Test
+    void testCreate_InvalidaEstatisticas() {
+        when(cepDAO.countPorUf()).thenReturn(List.<Object[]>of(new Object[]{"SP", 1L}));
+        cepService.estatisticas();
+        when(cepDAO.existsByCodigo("01310100")).thenReturn(false);
+        when(cepMapper.toEntity(cepDTO)).thenReturn(cep);
+        when(cepDAO.save(cep)).thenReturn(cep);
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        cepService.create(cepDTO);
+        cepService.estatisticas();
+
+        verify(cepDAO, times(2)).countPorUf();
+    }
+
     @Test
     void testCreate_Success() {
         when(cepDAO.existsByCodigo("01310100")).thenReturn(false);
@@ -137,6 +384,18 @@ class CepServiceImplTest {
         verify(cepDAO, never()).save(any());
     }
 
+    @Test
+    void testCreate_MesmoCodigoEmOutraUfCriadoEmParalelo() {
+        // existsByCodigo passou, mas outra transação gravou o código em outra UF antes do INSERT
+        when(cepDAO.existsByCodigo("01310100")).thenReturn(false);
+        when(cepMapper.toEntity(cepDTO)).thenReturn(cep);
+        when(cepDAO.save(cep)).thenThrow(new DataIntegrityViolationException("pk_cep_codigo"));
+
+        BusinessException erro = assertThrows(BusinessException.class, () -> cepService.create(cepDTO));
+
+        assertEquals("CEP já cadastrado: 01310100", erro.getMessage());
+    }
+
     @Test
     void testUpdate_Success() {
         when(cepDAO.findByCodigo("01310100")).thenReturn(Optional.of(cep));
@@ -148,6 +407,23 @@ class CepServiceImplTest {
         assertNotNull(result);
         verify(cepMapper).updateEntity(cepDTO, cep);
         verify(cepDAO).save(cep);
+        verify(sincronizacaoCepCache).registrar(1L, "01310100");
+    }
+
+    @Test
+    void testUpdate_TrocaDeCodigoRegistraOsDoisCodigos() {
+        when(cepDAO.findByCodigo("01310100")).thenReturn(Optional.of(cep));
+        doAnswer(invocacao -> {
+            cep.setCodigo("01310200");
+            return null;
+        }).when(cepMapper).updateEntity(cepDTO, cep);
+        when(cepDAO.save(cep)).thenReturn(cep);
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        cepService.update("01310100", cepDTO);
+
+        verify(sincronizacaoCepCache).registrar(1L, "01310100");
+        verify(sincronizacaoCepCache).registrar(1L, "01310200");
     }
 
     @Test
@@ -166,6 +442,7 @@ class CepServiceImplTest {
         cepService.delete("01310100");
 
         verify(cepDAO).delete(cep);
+        verify(sincronizacaoCepCache).registrar(1L, "01310100");
     }
 
     @Test
@@ -177,6 +454,146 @@ class CepServiceImplTest {
         });
     }
 
+    @Test
+    void testFindByCodigo_UsaUfDaFaixa() {
+        when(cepFaixaService.resolverUf(1310100)).thenReturn(Uf.SP);
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.of(cep));
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        CepDTO result = cepService.findByCodigo("01310100");
+
+        assertEquals("01310100", result.getCodigo());
+        verify(cepDAO, never()).findByCodigo(anyString());
+    }
+
+    @Test
+    void testFindByCodigo_NaFaixaCustaUmaConsulta() {
+        when(cepFaixaService.resolverUf(1310100)).thenReturn(Uf.SP);
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.of(cep));
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        assertEquals("01310100", cepService.findByCodigo("01310100").getCodigo());
+
+        verify(cepDAO).findByCodigoAndUf("01310100", "SP");
+        verify(cepDAO, never()).findUfByCodigo(anyString());
+    }
+
+    @Test
+    void testFindByCodigo_InexistenteNaFaixaConfereNaTabelaDeCodigos() {
+        when(cepFaixaService.resolverUf(1310100)).thenReturn(Uf.SP);
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.empty());
+        when(cepDAO.findUfByCodigo("01310100")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> cepService.findByCodigo("01310100"));
+
+        verify(cepDAO, times(1)).findByCodigoAndUf(anyString(), anyString());
+        verify(cepDAO, never()).findByCodigo(anyString());
+    }
+
+    @Test
+    void testFindByCodigo_CadastradoEmUfDiferenteDaFaixa() {
+        cep.setUf("RJ");
+        cepDTO.setUf("RJ");
+        when(cepFaixaService.resolverUf(1310100)).thenReturn(Uf.SP);
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.empty());
+        when(cepDAO.findUfByCodigo("01310100")).thenReturn(Optional.of("RJ"));
+        when(cepDAO.findByCodigoAndUf("01310100", "RJ")).thenReturn(Optional.of(cep));
+        when(cepMapper.toDTO(cep)).thenReturn(cepDTO);
+
+        CepDTO result = cepService.findByCodigo("01310100");
+
+        assertEquals("RJ", result.getUf());
+    }
+
+    @Test
+    void testFindByCodigo_UfDaTabelaIgualAFaixaNaoRepeteConsulta() {
+        when(cepFaixaService.resolverUf(1310100)).thenReturn(Uf.SP);
+        when(cepDAO.findByCodigoAndUf("01310100", "SP")).thenReturn(Optional.empty());
+        when(cepDAO.findUfByCodigo("01310100")).thenReturn(Optional.of("SP"));
+
+        assertThrows(ResourceNotFoundException.class, () -> cepService.findByCodigo("01310100"));
+
+        verify(cepDAO, times(1)).findByCodigoAndUf("01310100", "SP");
+    }
+
+    @Test
+    void testFindByCodigo_SemFaixaUsaUfDaTabelaDeCodigos() {
+        when(cepDAO.findUfByCodigo("01310100")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> cepService.findByCodigo("01310100"));
+
+        verify(cepDAO, never()).findByCodigoAndUf(anyString(), anyString());
+    }
+
+    @Test
+    void testFindByIntervalo() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Cep> page = new PageImpl<>(Arrays.asList(cep));
+
+        when(cepDAO.findByCodigoBetween("01000000", "01999999", pageable)).thenReturn(page);
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        Page<CepDTO> result = cepService.findByIntervalo("01000-000", "01999999", pageable);
+
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void testFindByIntervalo_Invalido() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> cepService.findByIntervalo("02000000", "01000000", pageable));
+        assertThrows(IllegalArgumentException.class, () -> cepService.findByIntervalo("0100", "01999999", pageable));
+        verifyNoInteractions(cepDAO);
+    }
+
+    @Test
+    void testFindByFiltro_AdicionaDesempatePorCodigo() {
+        when(cepDAO.findPagina(any(), any(Pageable.class))).thenReturn(Arrays.asList(cep));
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        List<CepDTO> result = cepService.findByFiltro(new CepFiltroDTO(), PageRequest.of(1, 15, Sort.by("cidade")));
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(cepDAO).findPagina(any(), captor.capture());
+        assertEquals(1, result.size());
+        assertEquals(Sort.by("cidade").and(Sort.by("codigo")), captor.getValue().getSort());
+        assertEquals(15, captor.getValue().getOffset());
+    }
+
+    @Test
+    void testFindByFiltro_OrdenacaoNaoPermitida() {
+        Pageable pageable = PageRequest.of(0, 15, Sort.by("complemento"));
+
+        assertThrows(IllegalArgumentException.class, () -> cepService.findByFiltro(new CepFiltroDTO(), pageable));
+        verifyNoInteractions(cepDAO);
+    }
+
+    @Test
+    void testQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Cep> page = new PageImpl<>(Arrays.asList(cep));
+        List<CriterioConsultaDTO> criterios = List.of(
+                new CriterioConsultaDTO("uf", OperadorConsulta.IGUAL, "SP"),
+                new CriterioConsultaDTO("logradouro", OperadorConsulta.PREFIXO, "Avenida Pa"));
+
+        when(cepDAO.findAll(ArgumentMatchers.<Specification<Cep>>any(), any(Pageable.class))).thenReturn(page);
+        when(cepMapper.toDTO(any(Cep.class))).thenReturn(cepDTO);
+
+        Page<CepDTO> result = cepService.query(criterios, false, pageable);
+
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void testQuery_SomenteContemSemPermissao() {
+        List<CriterioConsultaDTO> criterios = List.of(new CriterioConsultaDTO("logradouro", OperadorConsulta.CONTEM, "paulista"));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> cepService.query(criterios, false, pageable));
+        verifyNoInteractions(cepDAO);
+    }
+
     @Test
     void testExistsByCodigo() {
         when(cepDAO.existsByCodigo("01310100")).thenReturn(true);
@@ -0,0 +1,97 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Timeouts por tipo de transação lidos de app.datasource.timeout.*, como o proxy transacional resolve.
+ * As consultas agrupadas por SingleFlight abrem a transação no CepCarregador, não no serviço.
+ */
+class CepServiceImplTransacaoTest {
+
+    private AnnotationTransactionAttributeSource source;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        source = new AnnotationTransactionAttributeSource();
+        source.setEmbeddedValueResolver(environment::resolvePlaceholders);
+    }
+
+    @Test
+    void deveUsarTimeoutDeLeituraNasConsultas() throws NoSuchMethodException {
+        environment.setProperty("app.datasource.timeout.leitura", "2");
+
+        TransactionAttribute atributo = atributoCarregador("porCodigo", int.class, String.class);
+
+        assertThat(atributo.isReadOnly()).isTrue();
+        assertThat(atributo.getTimeout()).isEqualTo(2);
+        assertThat(atributo("findByCodigos", List.class).getTimeout()).isEqualTo(2);
+    }
+
+    @Test
+    void naoDeveAbrirTransacaoAoAguardarConsultaAgrupada() throws NoSuchMethodException {
+        assertThat(atributo("findByCodigo", String.class).getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        assertThat(atributo("search", String.class, Pageable.class).getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        assertThat(atributo("findByCidadeAndUf", String.class, String.class, Pageable.class).getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    @Test
+    void deveUsarTimeoutDeLeituraNaCargaPorCidade() throws NoSuchMethodException {
+        environment.setProperty("app.datasource.timeout.leitura", "2");
+
+        TransactionAttribute atributo = atributoCarregador("porCidade", String.class, String.class, Pageable.class);
+
+        assertThat(atributo.isReadOnly()).isTrue();
+        assertThat(atributo.getTimeout()).isEqualTo(2);
+    }
+
+    @Test
+    void deveUsarTimeoutProprioNaBuscaPorTexto() throws NoSuchMethodException {
+        environment.setProperty("app.datasource.timeout.leitura", "5");
+        environment.setProperty("app.datasource.timeout.busca-texto", "1");
+
+        TransactionAttribute atributo = atributoCarregador("porTermo", String.class, Pageable.class);
+
+        assertThat(atributo.isReadOnly()).isTrue();
+        assertThat(atributo.getTimeout()).isEqualTo(1);
+    }
+
+    @Test
+    void deveUsarTimeoutDeEscritaNasAlteracoes() throws NoSuchMethodException {
+        environment.setProperty("app.datasource.timeout.escrita", "45");
+
+        assertThat(atributo("create", CepDTO.class).getTimeout()).isEqualTo(45);
+        assertThat(atributo("update", String.class, CepDTO.class).getTimeout()).isEqualTo(45);
+        assertThat(atributo("delete", String.class).isReadOnly()).isFalse();
+    }
+
+    @Test
+    void deveUsarPadroesSemConfiguracao() throws NoSuchMethodException {
+        assertThat(atributoCarregador("porCodigo", int.class, String.class).getTimeout()).isEqualTo(5);
+        assertThat(atributoCarregador("porTermo", String.class, Pageable.class).getTimeout()).isEqualTo(3);
+        assertThat(atributo("delete", String.class).getTimeout()).isEqualTo(30);
+    }
+
+    private TransactionAttribute atributo(String metodo, Class<?>... parametros) throws NoSuchMethodException {
+        return source.getTransactionAttribute(CepServiceImpl.class.getMethod(metodo, parametros), CepServiceImpl.class);
+    }
+
+    private TransactionAttribute atributoCarregador(String metodo, Class<?>... parametros) throws NoSuchMethodException {
+        return source.getTransactionAttribute(CepCarregador.class.getMethod(metodo, parametros), CepCarregador.class);
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dao.RefreshTokenDAO;
+import br.com.arthur.madalena.cepmanager.dao.UsuarioDAO;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rotações do mesmo refresh token em transações separadas, como duas requisições de refresh simultâneas:
+ * só uma pode emitir um novo par de tokens.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RefreshTokenServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenRotacaoConcorrenteTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenDAO refreshTokenDAO;
+
+    @Autowired
+    private UsuarioDAO usuarioDAO;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        transacao = new TransactionTemplate(transactionManager);
+
+        Usuario usuario = new Usuario();
+        usuario.setUsername("rotacao");
+        usuario.setEmail("rotacao@test.com");
+        usuario.setPassword("$2a$10$hashedPassword");
+        usuario.setNomeCompleto("Usuario Rotacao");
+        usuario.setPermissoes(Set.of("ROLE_USER"));
+        token = transacao.execute(status -> refreshTokenService.criar(usuarioDAO.save(usuario)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transacao.executeWithoutResult(status -> {
+            refreshTokenDAO.deleteAll();
+            usuarioDAO.deleteAll();
+        });
+    }
+
+    @Test
+    void deveEmitirUmUnicoParQuandoOMesmoTokenForRotacionadoAoMesmoTempo() throws Exception {
+        int requisicoes = 2;
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requisicoes);
+        List<Future<String>> resultados = new ArrayList<>();
+        try {
+            for (int i = 0; i < requisicoes; i++) {
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        return refreshTokenService.rotacionar(token).refreshToken();
+                    } catch (BusinessException e) {
+                        return null;
+                    }
+                }));
+            }
+            largada.countDown();
+
+            List<String> emitidos = new ArrayList<>();
+            for (Future<String> resultado : resultados) {
+                String emitido = resultado.get(10, TimeUnit.SECONDS);
+                if (emitido != null) {
+                    emitidos.add(emitido);
+                }
+            }
+
+            assertThat(emitidos).hasSize(1);
+            // O token original e o único token novo
+            assertThat(refreshTokenDAO.count()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deveRecusarRotacaoDeTokenJaRevogadoPorOutraTransacao() {
+        Long id = refreshTokenDAO.findByTokenHash(RefreshTokenServiceImpl.hash(token)).orElseThrow().getId();
+
+        int primeira = transacao.execute(status -> refreshTokenDAO.revogarSeAtivo(id, Instant.now()));
+        int segunda = transacao.execute(status -> refreshTokenDAO.revogarSeAtivo(id, Instant.now()));
+
+        assertThat(primeira).isEqualTo(1);
+        assertThat(segunda).isZero();
+    }
+}
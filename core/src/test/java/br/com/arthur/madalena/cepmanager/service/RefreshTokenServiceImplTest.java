@@ -0,0 +1,168 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+import br.com.arthur.madalena.cepmanager.dao.RefreshTokenDAO;
+import br.com.arthur.madalena.cepmanager.dao.UsuarioDAO;
+import br.com.arthur.madalena.cepmanager.entity.RefreshToken;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
+import br.com.arthur.madalena.cepmanager.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenDAO refreshTokenDAO;
+
+    @Mock
+    private UsuarioDAO usuarioDAO;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "validade", Duration.ofDays(7));
+
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setUsername("user");
+        usuario.setAtivo(true);
+    }
+
+    @Test
+    void deveGravarApenasOHashDoRefreshToken() {
+        String token = refreshTokenService.criar(usuario);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenDAO).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash())
+                .hasSize(64)
+                .isEqualTo(RefreshTokenServiceImpl.hash(token))
+                .isNotEqualTo(token);
+        assertThat(captor.getValue().getDatHoraExpiracao()).isAfter(Instant.now().plus(Duration.ofDays(6)));
+    }
+
+    @Test
+    void deveRotacionarRefreshTokenValido() {
+        RefreshToken atual = refreshToken(Instant.now().plusSeconds(3600), null);
+        when(refreshTokenDAO.findByTokenHash(RefreshTokenServiceImpl.hash("token-atual"))).thenReturn(Optional.of(atual));
+        when(refreshTokenDAO.revogarSeAtivo(eq(10L), any(Instant.class))).thenReturn(1);
+
+        RefreshTokenService.Rotacao rotacao = refreshTokenService.rotacionar("token-atual");
+
+        assertThat(rotacao.usuario()).isSameAs(usuario);
+        assertThat(rotacao.refreshToken()).isNotEqualTo("token-atual");
+        verify(refreshTokenDAO).revogarSeAtivo(eq(10L), any(Instant.class));
+        verify(refreshTokenDAO).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void deveTratarComoReutilizacaoQuandoOutraRotacaoRevogouAntes() {
+        RefreshToken atual = refreshToken(Instant.now().plusSeconds(3600), null);
+        when(refreshTokenDAO.findByTokenHash(anyString())).thenReturn(Optional.of(atual));
+        when(refreshTokenDAO.revogarSeAtivo(eq(10L), any(Instant.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token-atual"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Refresh token inválido");
+
+        verify(eventPublisher).publishEvent(argThat((Object evento) ->
+                evento instanceof TokensRevogadosEvent revogados && revogados.encerrarSessoes()));
+        verify(refreshTokenDAO, never()).save(any());
+    }
+
+    @Test
+    void deveEncerrarSessoesQuandoRefreshTokenForReutilizado() {
+        RefreshToken trocado = refreshToken(Instant.now().plusSeconds(3600), Instant.now().minusSeconds(10));
+        when(refreshTokenDAO.findByTokenHash(anyString())).thenReturn(Optional.of(trocado));
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token-trocado"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Refresh token inválido");
+
+        verify(eventPublisher).publishEvent(argThat((Object evento) ->
+                evento instanceof TokensRevogadosEvent revogados && revogados.encerrarSessoes()));
+        verify(refreshTokenDAO, never()).save(any());
+    }
+
+    @Test
+    void deveRecusarRefreshTokenExpirado() {
+        when(refreshTokenDAO.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(refreshToken(Instant.now().minusSeconds(1), null)));
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token-expirado"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Refresh token expirado");
+    }
+
+    @Test
+    void deveRecusarRefreshTokenDeUsuarioInativo() {
+        usuario.setAtivo(false);
+        when(refreshTokenDAO.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(refreshToken(Instant.now().plusSeconds(3600), null)));
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Usuário inativo");
+    }
+
+    @Test
+    void deveRecusarRefreshTokenDesconhecido() {
+        when(refreshTokenDAO.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("desconhecido"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Refresh token inválido");
+    }
+
+    @Test
+    void deveRevogarRefreshTokensQuandoSessoesForemEncerradas() {
+        Instant instante = Instant.now();
+        when(usuarioDAO.findByUsername("user")).thenReturn(Optional.of(usuario));
+
+        refreshTokenService.onTokensRevogados(new TokensRevogadosEvent("user", instante, true));
+
+        verify(refreshTokenDAO).revogarDoUsuario(1L, instante);
+    }
+
+    @Test
+    void naoDeveRevogarRefreshTokensQuandoApenasPermissoesMudarem() {
+        refreshTokenService.onTokensRevogados(new TokensRevogadosEvent("user", Instant.now(), false));
+
+        verifyNoInteractions(refreshTokenDAO, usuarioDAO);
+    }
+
+    private RefreshToken refreshToken(Instant expiracao, Instant revogacao) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setId(10L);
+        refreshToken.setUsuario(usuario);
+        refreshToken.setTokenHash("hash");
+        refreshToken.setDatHoraCadastro(Instant.now().minusSeconds(60));
+        refreshToken.setDatHoraExpiracao(expiracao);
+        refreshToken.setDatHoraRevogacao(revogacao);
+        return refreshToken;
+    }
+}
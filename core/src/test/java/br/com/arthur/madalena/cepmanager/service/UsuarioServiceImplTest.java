@@ -4,6 +4,7 @@ import br.com.arthur.madalena.cepmanager.dao.UsuarioDAO;
 import br.com.arthur.madalena.cepmanager.dto.RegistroUsuarioDTO;
 import br.com.arthur.madalena.cepmanager.dto.UsuarioDTO;
 import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
 import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
 import br.com.arthur.madalena.cepmanager.mapper.UsuarioMapper;
@@ -14,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -45,6 +47,9 @@ class UsuarioServiceImplTest {
     @Mock
     private UsuarioMapper usuarioMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UsuarioServiceImpl usuarioService;
 
@@ -317,7 +322,7 @@ class UsuarioServiceImplTest {
         dadosAtualizados.setNomeCompleto("Nome Atualizado");
         dadosAtualizados.setEmail("novo@test.com");
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(usuarioDAO.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(usuarioMapper.toDTO(any(Usuario.class))).thenReturn(dadosAtualizados);
 
@@ -333,7 +338,7 @@ class UsuarioServiceImplTest {
     void deveAdicionarPermissao() {
         usuario.setPermissoes(new java.util.HashSet<>(Set.of("ROLE_USER")));
         
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(usuarioDAO.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         usuarioService.adicionarPermissao(1L, "ROLE_ADMIN", "admin");
@@ -346,7 +351,7 @@ class UsuarioServiceImplTest {
     void deveLancarExcecaoAoAdicionarPermissaoJaExistente() {
         usuario.setPermissoes(new java.util.HashSet<>(Set.of("ROLE_USER", "ROLE_ADMIN")));
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
 
         assertThatThrownBy(() -> usuarioService.adicionarPermissao(1L, "ROLE_ADMIN", "admin"))
                 .isInstanceOf(BusinessException.class)
@@ -359,7 +364,7 @@ class UsuarioServiceImplTest {
     void deveRemoverPermissao() {
         usuario.setPermissoes(new java.util.HashSet<>(Set.of("ROLE_USER", "ROLE_ADMIN")));
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(usuarioDAO.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         usuarioService.removerPermissao(1L, "ROLE_ADMIN", "admin");
@@ -371,7 +376,7 @@ class UsuarioServiceImplTest {
 
     @Test
     void deveLancarExcecaoAoRemoverPermissaoInexistente() {
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
 
         assertThatThrownBy(() -> usuarioService.removerPermissao(1L, "ROLE_ADMIN", "admin"))
                 .isInstanceOf(BusinessException.class)
@@ -384,7 +389,7 @@ class UsuarioServiceImplTest {
     void deveLancarExcecaoAoRemoverUltimaPermissao() {
         usuario.setPermissoes(new java.util.HashSet<>(Set.of("ROLE_USER")));
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
 
         assertThatThrownBy(() -> usuarioService.removerPermissao(1L, "ROLE_USER", "admin"))
                 .isInstanceOf(BusinessException.class)
@@ -397,7 +402,7 @@ class UsuarioServiceImplTest {
     void deveAtivarUsuario() {
         usuario.setAtivo(false);
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(usuarioDAO.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         usuarioService.ativarDesativarUsuario(1L, true, "admin");
@@ -405,6 +410,7 @@ class UsuarioServiceImplTest {
         assertThat(usuario.getAtivo()).isTrue();
         assertThat(usuario.getUsuarioAlteracao()).isEqualTo("admin");
         verify(usuarioDAO).save(usuario);
+        verify(eventPublisher, never()).publishEvent(any(TokensRevogadosEvent.class));
     }
 
     @Test
@@ -412,20 +418,23 @@ class UsuarioServiceImplTest {
         usuario.setUsername("otheruser");
         usuario.setAtivo(true);
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(usuarioDAO.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         usuarioService.ativarDesativarUsuario(1L, false, "admin");
 
         assertThat(usuario.getAtivo()).isFalse();
         verify(usuarioDAO).save(usuario);
+        verify(eventPublisher).publishEvent(argThat((Object evento) ->
+                evento instanceof TokensRevogadosEvent revogados && revogados.username().equals("otheruser")
+                        && revogados.encerrarSessoes()));
     }
 
     @Test
     void deveLancarExcecaoAoDesativarAdmin() {
         usuario.setUsername("admin");
 
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
 
         assertThatThrownBy(() -> usuarioService.ativarDesativarUsuario(1L, false, "admin"))
                 .isInstanceOf(BusinessException.class)
@@ -436,7 +445,7 @@ class UsuarioServiceImplTest {
 
     @Test
     void deveAlterarSenha() {
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(passwordEncoder.matches("senhaatual", usuario.getPassword())).thenReturn(true);
         when(passwordEncoder.encode("novasenha")).thenReturn("$2a$10$newencoded");
         when(usuarioDAO.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -447,11 +456,12 @@ class UsuarioServiceImplTest {
         verify(passwordEncoder).encode("novasenha");
         assertThat(usuario.getPassword()).isEqualTo("$2a$10$newencoded");
         verify(usuarioDAO).save(usuario);
+        verify(eventPublisher).publishEvent(any(TokensRevogadosEvent.class));
     }
 
     @Test
     void deveLancarExcecaoQuandoSenhaAtualIncorreta() {
-        when(usuarioDAO.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByIdSemCache(1L)).thenReturn(Optional.of(usuario));
         when(passwordEncoder.matches("senhaerrada", usuario.getPassword())).thenReturn(false);
 
         assertThatThrownBy(() -> usuarioService.alterarSenha(1L, "senhaerrada", "novasenha"))
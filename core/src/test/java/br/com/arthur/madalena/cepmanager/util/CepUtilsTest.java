@@ -0,0 +1,79 @@
+package br.com.arthur.madalena.cepmanager.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CepUtilsTest {
+
+    @Test
+    void deveConverterCepComESemTraco() {
+        assertThat(CepUtils.parse("01310100")).isEqualTo(1310100);
+        assertThat(CepUtils.parse("01310-100")).isEqualTo(1310100);
+        assertThat(CepUtils.parse("99999999")).isEqualTo(CepUtils.MAXIMO);
+        assertThat(CepUtils.parse("00000000")).isZero();
+    }
+
+    @Test
+    void deveRejeitarFormatosInvalidos() {
+        assertThat(CepUtils.parse(null)).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parse("")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parse("0131010")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parse("013101000")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parse("013101-00")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parse("0131A100")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parse("01310 100")).isEqualTo(CepUtils.INVALIDO);
+    }
+
+    @Test
+    void deveConsiderarApenasDigitosNoTextoComMascara() {
+        assertThat(CepUtils.parseDigitos("013.10-100@#$")).isEqualTo(1310100);
+        assertThat(CepUtils.parseDigitos(" 01310 100 ")).isEqualTo(1310100);
+        assertThat(CepUtils.parseDigitos("0131010")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parseDigitos("013101001")).isEqualTo(CepUtils.INVALIDO);
+        assertThat(CepUtils.parseDigitos(null)).isEqualTo(CepUtils.INVALIDO);
+    }
+
+    @Test
+    void deveFormatarComZerosAEsquerda() {
+        assertThat(CepUtils.paraCodigo(1310100)).isEqualTo("01310100");
+        assertThat(CepUtils.formatar(1310100)).isEqualTo("01310-100");
+        assertThat(CepUtils.paraCodigo(0)).isEqualTo("00000000");
+        assertThat(CepUtils.formatar(CepUtils.MAXIMO)).isEqualTo("99999-999");
+    }
+
+    @Test
+    void deveRejeitarNumeroForaDoIntervaloAoFormatar() {
+        assertThatThrownBy(() -> CepUtils.formatar(CepUtils.INVALIDO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CepUtils.paraCodigo(100_000_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deveIrEVoltarSemPerderInformacao() {
+        for (int cep = 0; cep <= CepUtils.MAXIMO; cep += 9_973) {
+            assertThat(CepUtils.parse(CepUtils.formatar(cep))).isEqualTo(cep);
+            assertThat(CepUtils.parse(CepUtils.paraCodigo(cep))).isEqualTo(cep);
+        }
+    }
+
+    @Test
+    void deveNormalizarSemAlocarQuandoJaEstaNoFormatoDoBanco() {
+        String codigo = "01310100";
+
+        assertThat(CepUtils.normalizar(codigo)).isSameAs(codigo);
+        assertThat(CepUtils.normalizar("01310-100")).isEqualTo("01310100");
+        assertThat(CepUtils.normalizar("abc")).isEqualTo("abc");
+        assertThat(CepUtils.normalizar(null)).isNull();
+    }
+
+    @Test
+    void deveManterApenasDigitosDeCepParcial() {
+        String digitos = "0131";
+
+        assertThat(CepUtils.somenteDigitos(digitos)).isSameAs(digitos);
+        assertThat(CepUtils.somenteDigitos("013-1")).isEqualTo("0131");
+        assertThat(CepUtils.somenteDigitos("-")).isEmpty();
+        assertThat(CepUtils.somenteDigitos(null)).isEmpty();
+    }
+}
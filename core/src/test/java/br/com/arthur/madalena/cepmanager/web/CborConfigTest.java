@@ -0,0 +1,92 @@
+package br.com.arthur.madalena.cepmanager.web;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static br.com.arthur.madalena.cepmanager.dto.CepDTOs.cep;
+import static br.com.arthur.madalena.cepmanager.dto.CepDTOs.ceps;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborConfigTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+    private static final Type LISTA = new ParameterizedTypeReference<List<CepDTO>>() {}.getType();
+
+    private final MappingJackson2CborHttpMessageConverter cbor = new CborConfig().cborHttpMessageConverter(builder());
+    private final MappingJackson2HttpMessageConverter json = new MappingJackson2HttpMessageConverter(builder().build());
+
+    @Test
+    void deveNegociarApplicationCbor() {
+        assertThat(cbor.canWrite(CepDTO.class, CBOR)).isTrue();
+        assertThat(cbor.canRead(CepDTO.class, CBOR)).isTrue();
+        assertThat(cbor.canWrite(CepDTO.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void deveFazerIdaEVoltaDoCep() throws IOException {
+        CepDTO cep = cep(1);
+
+        CepDTO lido = (CepDTO) cbor.read(CepDTO.class, entrada(escrever(cbor, cep)));
+
+        assertThat(lido).isEqualTo(cep);
+    }
+
+    @Test
+    void deveFazerIdaEVoltaDoLote() throws IOException {
+        List<CepDTO> lote = ceps(5);
+
+        Object lido = cbor.read(LISTA, null, entrada(escrever(cbor, lote)));
+
+        assertThat(lido).isEqualTo(lote);
+    }
+
+    @Test
+    void deveTerOsMesmosCamposEValoresDoJson() throws IOException {
+        CepDTO cep = cep(1);
+
+        JsonNode arvoreCbor = new ObjectMapper(new CBORFactory()).readTree(escrever(cbor, cep));
+        JsonNode arvoreJson = new ObjectMapper().readTree(escrever(json, cep));
+
+        assertThat(arvoreCbor).isEqualTo(arvoreJson);
+        assertThat(arvoreCbor.get("datHoraCadastro").isTextual()).isTrue();
+        assertThat(arvoreCbor.get("complemento").isNull()).isTrue();
+    }
+
+    @Test
+    void deveSerMenorQueJson() throws IOException {
+        List<CepDTO> lote = ceps(20);
+
+        assertThat(escrever(cbor, lote).length).isLessThan(escrever(json, lote).length);
+    }
+
+    // Como o JacksonAutoConfiguration do Spring Boot: datas em ISO-8601
+    private static Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static byte[] escrever(AbstractJackson2HttpMessageConverter conversor, Object valor) throws IOException {
+        MockHttpOutputMessage saida = new MockHttpOutputMessage();
+        conversor.write(valor, null, saida);
+        return saida.getBodyAsBytes();
+    }
+
+    private static MockHttpInputMessage entrada(byte[] corpo) {
+        return new MockHttpInputMessage(corpo);
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.arthur.madalena.cepmanager.web;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFaixaDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepResumoDTO;
+import br.com.arthur.madalena.cepmanager.dto.PaginaDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static br.com.arthur.madalena.cepmanager.dto.CepDTOs.cep;
+import static br.com.arthur.madalena.cepmanager.dto.CepDTOs.ceps;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CepResumoAdviceTest {
+
+    private final CepResumoAdvice advice = new CepResumoAdvice();
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void deveReconhecerSomenteListasDeCep() throws NoSuchMethodException {
+        assertThat(listaDeCeps("pagina")).isTrue();
+        assertThat(listaDeCeps("lote")).isTrue();
+        assertThat(listaDeCeps("cep")).isFalse();
+        assertThat(listaDeCeps("faixas")).isFalse();
+    }
+
+    @Test
+    void deveAtenderOsConversoresDoJackson() {
+        assertThat(advice.supports(null, MappingJackson2HttpMessageConverter.class)).isTrue();
+        assertThat(advice.supports(null, MappingJackson2CborHttpMessageConverter.class)).isTrue();
+        assertThat(advice.supports(null, StringHttpMessageConverter.class)).isFalse();
+    }
+
+    @Test
+    void deveIncluirVaryAcceptEmQualquerFormato() throws NoSuchMethodException {
+        ServletServerHttpResponse json = resposta();
+        ServletServerHttpResponse resumo = resposta();
+
+        advice.beforeBodyWrite(cep(1), retorno("cep"), MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, null, json);
+        advice.beforeBodyWrite(pagina(3), retorno("pagina"), CepResumoAdvice.RESUMO,
+                MappingJackson2HttpMessageConverter.class, null, resumo);
+        advice.beforeBodyWrite(pagina(3), retorno("pagina"), CepResumoAdvice.RESUMO,
+                MappingJackson2HttpMessageConverter.class, null, resumo);
+
+        assertThat(json.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(resumo.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void deveManterPageQuandoAcceptForJson() throws NoSuchMethodException {
+        Page<CepDTO> page = pagina(3);
+
+        Object resposta = escrever(page, "pagina", MediaType.APPLICATION_JSON);
+
+        assertThat(resposta).isSameAs(page);
+    }
+
+    @Test
+    void deveConverterPageEmPaginaResumida() throws NoSuchMethodException {
+        Object resposta = escrever(pagina(3), "pagina", CepResumoAdvice.RESUMO);
+
+        assertThat(resposta).isInstanceOf(PaginaDTO.class);
+        PaginaDTO<?> pagina = (PaginaDTO<?>) resposta;
+        assertThat(pagina.conteudo()).hasSize(3).allMatch(CepResumoDTO.class::isInstance);
+        assertThat(pagina.pagina()).isZero();
+        assertThat(pagina.tamanho()).isEqualTo(3);
+        assertThat(pagina.totalElementos()).isEqualTo(1_000_000);
+        assertThat(pagina.totalPaginas()).isEqualTo(333_334);
+    }
+
+    @Test
+    void deveConverterLote() throws NoSuchMethodException {
+        Object resposta = escrever(ceps(2), "lote", CepResumoAdvice.RESUMO);
+
+        assertThat(resposta).asList().hasSize(2).allMatch(CepResumoDTO.class::isInstance);
+    }
+
+    @Test
+    void deveOmitirCamposNulos() throws Exception {
+        CepDTO cep = cep(1);
+        cep.setComplemento(null);
+        cep.setLatitude(null);
+
+        JsonNode json = objectMapper.valueToTree(CepResumoDTO.de(cep));
+
+        assertThat(json.has("complemento")).isFalse();
+        assertThat(json.has("latitude")).isFalse();
+        assertThat(json.has("datHoraCadastro")).isFalse();
+        assertThat(json.get("codigo").asText()).isEqualTo("01310101");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {20, 100, 1000})
+    void deveReduzirPayloadDaPagina(int tamanho) throws Exception {
+        Page<CepDTO> page = pagina(tamanho);
+
+        int bytesPage = objectMapper.writeValueAsBytes(page).length;
+        int bytesResumo = objectMapper.writeValueAsBytes(escrever(page, "pagina", CepResumoAdvice.RESUMO)).length;
+
+        assertThat(bytesResumo).isLessThan(bytesPage);
+    }
+
+    private Object escrever(Object corpo, String metodo, MediaType tipo) throws NoSuchMethodException {
+        return advice.beforeBodyWrite(corpo, retorno(metodo), tipo, MappingJackson2HttpMessageConverter.class,
+                null, resposta());
+    }
+
+    private static boolean listaDeCeps(String metodo) throws NoSuchMethodException {
+        return CepResumoAdvice.isListaDeCeps(ResolvableType.forMethodParameter(retorno(metodo)));
+    }
+
+    private static MethodParameter retorno(String metodo) throws NoSuchMethodException {
+        return new MethodParameter(Controlador.class.getMethod(metodo), -1);
+    }
+
+    private static ServletServerHttpResponse resposta() {
+        return new ServletServerHttpResponse(new MockHttpServletResponse());
+    }
+
+    private static Page<CepDTO> pagina(int tamanho) {
+        return new PageImpl<>(ceps(tamanho), PageRequest.of(0, tamanho), 1_000_000);
+    }
+
+    interface Controlador {
+
+        ResponseEntity<Page<CepDTO>> pagina();
+
+        ResponseEntity<List<CepDTO>> lote();
+
+        ResponseEntity<CepDTO> cep();
+
+        ResponseEntity<List<CepFaixaDTO>> faixas();
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.arthur.madalena.cepmanager.lookup;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFaixaDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepResumoDTO;
+import br.com.arthur.madalena.cepmanager.dto.PaginaDTO;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Serviço somente de consulta de CEPs (GET /api/ceps/**), sem JSF, cadastro de usuários ou email.
+ * Usa os serviços do core e valida os tokens emitidos pela webapp com o mesmo segredo.
+ * Os aspectos de bulkhead e de leitura em réplica ficam na webapp: aqui @Bulkhead e @LeituraReplica
+ * não têm efeito, e a concorrência no banco é limitada só pelo pool do Hikari e pelos timeouts.
+ * O agendamento mantém a ListaRevogacao e os caches de CEP sincronizados com as revogações e
+ * alterações gravadas pela webapp.
+ */
+@SpringBootApplication
+@ComponentScan(
+        basePackages = {
+                "br.com.arthur.madalena.cepmanager.lookup",
+                "br.com.arthur.madalena.cepmanager.service",
+                "br.com.arthur.madalena.cepmanager.mapper",
+                "br.com.arthur.madalena.cepmanager.cache",
+                "br.com.arthur.madalena.cepmanager.dictionary",
+                "br.com.arthur.madalena.cepmanager.security",
+                "br.com.arthur.madalena.cepmanager.web"
+        },
+        excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX,
+                pattern = "br\\.com\\.arthur\\.madalena\\.cepmanager\\.(service|mapper)\\.(Usuario|Email|CepGeo|RefreshToken).*")
+)
+@EntityScan("br.com.arthur.madalena.cepmanager.entity")
+@EnableJpaRepositories("br.com.arthur.madalena.cepmanager.dao")
+@EnableScheduling
+@ImportRuntimeHints(LookupRuntimeHints.class)
+@RegisterReflectionForBinding({CepDTO.class, CepFaixaDTO.class, CepResumoDTO.class, PaginaDTO.class, PageImpl.class})
+public class CepLookupApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(CepLookupApplication.class, args);
+    }
+}
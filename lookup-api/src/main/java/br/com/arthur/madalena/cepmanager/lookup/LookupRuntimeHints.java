@@ -0,0 +1,42 @@
+package br.com.arthur.madalena.cepmanager.lookup;
+
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.entity.CepAlteracao;
+import br.com.arthur.madalena.cepmanager.entity.CepCodigo;
+import br.com.arthur.madalena.cepmanager.entity.CepFaixa;
+import br.com.arthur.madalena.cepmanager.entity.TokenRevogado;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.lookup.rest.LookupExceptionHandler;
+import br.com.arthur.madalena.cepmanager.validation.CepValidoValidator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Hints da imagem nativa que o processamento AOT não deduz sozinho.
+ */
+public class LookupRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Hibernate instancia as entidades e acessa os campos por reflexão
+        for (Class<?> entidade : new Class<?>[]{Cep.class, CepAlteracao.class, CepCodigo.class, CepFaixa.class, TokenRevogado.class, Usuario.class}) {
+            hints.reflection().registerType(entidade,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+
+        // Corpo de erro serializado pelo Jackson
+        hints.reflection().registerType(LookupExceptionHandler.ErrorResponse.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Validador customizado, instanciado pelo Hibernate Validator
+        hints.reflection().registerType(CepValidoValidator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Mensagens de validação e consultas nomeadas do Spring Data, lidas como recurso do classpath
+        hints.resources().registerPattern("ValidationMessages*.properties");
+        hints.resources().registerPattern("META-INF/jpa-named-queries.properties");
+    }
+}
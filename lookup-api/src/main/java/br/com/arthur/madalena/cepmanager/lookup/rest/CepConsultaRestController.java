@@ -0,0 +1,66 @@
+package br.com.arthur.madalena.cepmanager.lookup.rest;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFaixaDTO;
+import br.com.arthur.madalena.cepmanager.service.CepFaixaService;
+import br.com.arthur.madalena.cepmanager.service.CepService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Endpoints de leitura de /api/ceps, com os mesmos caminhos e respostas da webapp.
+ * Cadastro, alteração e exclusão continuam apenas na webapp.
+ */
+@RestController
+@RequestMapping("/api/ceps")
+@RequiredArgsConstructor
+public class CepConsultaRestController {
+
+    private final CepService cepService;
+    private final CepFaixaService cepFaixaService;
+
+    @GetMapping("/id/{id}")
+    public ResponseEntity<CepDTO> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(cepService.findById(id));
+    }
+
+    @GetMapping("/{codigo}")
+    public ResponseEntity<CepDTO> findByCodigo(@PathVariable String codigo) {
+        return ResponseEntity.ok(cepService.findByCodigo(codigo));
+    }
+
+    @PostMapping("/lote")
+    public ResponseEntity<List<CepDTO>> findByCodigos(@RequestBody List<String> codigos) {
+        return ResponseEntity.ok(cepService.findByCodigos(codigos));
+    }
+
+    @GetMapping("/faixa/{codigo}")
+    public ResponseEntity<CepFaixaDTO> findFaixa(@PathVariable String codigo) {
+        return ResponseEntity.ok(cepFaixaService.findByCodigo(codigo));
+    }
+
+    @GetMapping("/uf/{uf}")
+    public ResponseEntity<Page<CepDTO>> findByUf(@PathVariable String uf,
+                                                 @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(cepService.findByUf(uf, pageable));
+    }
+
+    @GetMapping("/cidade/{cidade}/uf/{uf}")
+    public ResponseEntity<Page<CepDTO>> findByCidadeAndUf(@PathVariable String cidade,
+                                                          @PathVariable String uf,
+                                                          @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(cepService.findByCidadeAndUf(cidade, uf, pageable));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<CepDTO>> search(@RequestParam String termo,
+                                               @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(cepService.search(termo, pageable));
+    }
+}
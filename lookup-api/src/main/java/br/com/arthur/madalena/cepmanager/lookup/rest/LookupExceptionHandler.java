@@ -0,0 +1,70 @@
+package br.com.arthur.madalena.cepmanager.lookup.rest;
+
+import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestControllerAdvice
+public class LookupExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return resposta(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return resposta(HttpStatus.BAD_REQUEST, ex.getMessage() != null ? ex.getMessage() : "Argumento inválido");
+    }
+
+    @ExceptionHandler(SobrecargaException.class)
+    public ResponseEntity<ErrorResponse> handleSobrecargaException(SobrecargaException ex) {
+        return indisponivel(ex.getMessage());
+    }
+
+    // Timeout de comando/transação ou pool do Hikari sem conexão livre dentro do connection-timeout
+    @ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class,
+            CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleBancoIndisponivel(Exception ex) {
+        log.warn("Banco de dados sem capacidade para a consulta: {}", ex.getMessage());
+        return indisponivel("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        log.error("Erro ao processar consulta de CEP", ex);
+        return resposta(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor");
+    }
+
+    private ResponseEntity<ErrorResponse> indisponivel(String mensagem) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), mensagem, LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    private ResponseEntity<ErrorResponse> resposta(HttpStatus status, String mensagem) {
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), mensagem, LocalDateTime.now()));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ErrorResponse {
+        private int status;
+        private String message;
+        private LocalDateTime timestamp;
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.arthur.madalena.cepmanager.lookup.security;
+
+import br.com.arthur.madalena.cepmanager.security.ListaRevogacao;
+import br.com.arthur.madalena.cepmanager.security.RevogacaoJwtValidator;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Apenas resource server: valida os tokens HS256 emitidos pelo login da webapp (mesmo jwt.secret).
+ * Não há login, sessão nem consulta ao usuário no banco: logout, troca de senha e desativação chegam
+ * pela ListaRevogacao, sincronizada de token_revogado como na webapp.
+ */
+@Configuration
+@EnableWebSecurity
+public class LookupSecurityConfig {
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .anyRequest().authenticated()
+                )
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                        )
+                        .authenticationEntryPoint((request, response, authException) ->
+                                erro(response, HttpServletResponse.SC_UNAUTHORIZED,
+                                        "Autenticação necessária. Por favor, forneça um token válido."))
+                        .accessDeniedHandler((request, response, accessDeniedException) ->
+                                erro(response, HttpServletResponse.SC_FORBIDDEN,
+                                        "Acesso negado. Você não tem permissão para acessar este recurso."))
+                )
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .build();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(ListaRevogacao listaRevogacao) {
+        final SecretKey key = new SecretKeySpec(jwtSecret.getBytes(), "HmacSHA256");
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(), new RevogacaoJwtValidator(listaRevogacao)));
+        return decoder;
+    }
+
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        grantedAuthoritiesConverter.setAuthoritiesClaimName("authorities");
+        grantedAuthoritiesConverter.setAuthorityPrefix("");
+
+        JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
+        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
+        return jwtAuthenticationConverter;
+    }
+
+    private static void erro(HttpServletResponse response, int status, String mensagem) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(status);
+        response.getWriter().write(
+                "{\"status\":" + status + ",\"message\":\"" + mensagem + "\",\"timestamp\":\"" + LocalDateTime.now() + "\"}"
+        );
+    }
+}
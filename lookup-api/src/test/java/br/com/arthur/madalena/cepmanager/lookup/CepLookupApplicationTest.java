@@ -0,0 +1,86 @@
+package br.com.arthur.madalena.cepmanager.lookup;
+
+import br.com.arthur.madalena.cepmanager.lookup.rest.CepConsultaRestController;
+import br.com.arthur.madalena.cepmanager.security.ListaRevogacao;
+import br.com.arthur.madalena.cepmanager.service.CepService;
+import br.com.arthur.madalena.cepmanager.service.EmailService;
+import br.com.arthur.madalena.cepmanager.service.UsuarioService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Sobe o contexto completo da API de consulta com H2, para pegar beans do core que
+ * dependem de algo que só existe na webapp.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CepLookupApplicationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private ListaRevogacao listaRevogacao;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Test
+    void deveCarregarContextoComServicosDeConsulta() {
+        assertThat(context.getBean(CepService.class)).isNotNull();
+        assertThat(context.getBean(CepConsultaRestController.class)).isNotNull();
+        assertThat(context.getBean(JwtDecoder.class)).isNotNull();
+    }
+
+    @Test
+    void naoDeveCarregarServicosDeUsuarioNemEmail() {
+        assertThat(context.getBeanNamesForType(UsuarioService.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(EmailService.class)).isEmpty();
+    }
+
+    @Test
+    void deveRecusarNoDecoderTokenRevogado() {
+        String token = token();
+        Jwt jwt = jwtDecoder.decode(token);
+
+        listaRevogacao.revogarToken(jwt);
+
+        assertThatThrownBy(() -> jwtDecoder.decode(token)).isInstanceOf(JwtValidationException.class);
+    }
+
+    private String token() {
+        Instant agora = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
+                .subject("admin")
+                .issuedAt(agora)
+                .expiresAt(agora.plusSeconds(900))
+                .build();
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(
+                new ImmutableSecret<>(new SecretKeySpec(jwtSecret.getBytes(), "HmacSHA256")));
+        return encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims)).getTokenValue();
+    }
+}
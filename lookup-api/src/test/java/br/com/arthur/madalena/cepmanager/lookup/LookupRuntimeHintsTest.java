@@ -0,0 +1,45 @@
+package br.com.arthur.madalena.cepmanager.lookup;
+
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.entity.CepFaixa;
+import br.com.arthur.madalena.cepmanager.lookup.rest.LookupExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LookupRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new LookupRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void deveRegistrarEntidadesParaReflexao() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Cep.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CepFaixa.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+    }
+
+    @Test
+    void deveRegistrarCorpoDeErroParaJackson() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(LookupExceptionHandler.ErrorResponse.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    void deveRegistrarMensagensDeValidacao() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("ValidationMessages.properties")).accepts(hints);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.arthur.madalena.cepmanager.lookup.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LookupExceptionHandlerTest {
+
+    private final LookupExceptionHandler handler = new LookupExceptionHandler();
+
+    @Test
+    void deveResponder503ComRetryAfterQuandoOBancoNaoResponde() {
+        List<Exception> erros = List.of(
+                new QueryTimeoutException("canceling statement due to statement timeout"),
+                new TransactionTimedOutException("Transaction timed out"),
+                new CannotCreateTransactionException("Connection is not available, request timed out after 2000ms"));
+
+        for (Exception erro : erros) {
+            ResponseEntity<LookupExceptionHandler.ErrorResponse> resposta = handler.handleBancoIndisponivel(erro);
+
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(resposta.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        }
+    }
+}
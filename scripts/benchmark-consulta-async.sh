@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# ============================================================================
+# Benchmark: consulta de CEP síncrona x assíncrona com 10k conexões simultâneas
+# ============================================================================
+# Mede vazão/latência (wrk) e, durante a carga, threads vivas e memória da JVM
+# (actuator). Requer wrk, curl, jq e a aplicação rodando com o usuário admin.
+#
+# Suba a aplicação sem os limites de requisição, para medir apenas o servidor:
+#   ulimit -n 65535
+#   java -jar webapp/target/cep-manager.jar \
+#        --app.rate-limit.enabled=false --app.limite-adaptativo.enabled=false
+#
+# Uso: ./scripts/benchmark-consulta-async.sh [conexoes] [duracao]
+# ============================================================================
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080/cep-manager}
+CONEXOES=${1:-10000}
+DURACAO=${2:-60s}
+THREADS_WRK=${THREADS_WRK:-16}
+CEP=${CEP:-01310100}
+
+TOKEN=$(curl -s -X POST "$BASE_URL/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d '{"username":"admin","password":"admin123"}' | jq -r .token)
+
+metrica() {
+    curl -s -H "Authorization: Bearer $TOKEN" "$BASE_URL/actuator/metrics/$1" \
+        | jq -r '.measurements[] | select(.statistic == "VALUE") | .value'
+}
+
+amostrar() {
+    local rotulo=$1
+    while sleep 5; do
+        printf '%s threads=%s heap_mb=%s\n' "$rotulo" \
+            "$(metrica jvm.threads.live)" \
+            "$(metrica 'jvm.memory.used?tag=area:heap' | awk '{printf "%.0f", $1 / 1048576}')"
+    done
+}
+
+executar() {
+    local rotulo=$1 caminho=$2
+    echo "== $rotulo ($CONEXOES conexões, $DURACAO) =="
+    # Aquece o cache com o CEP consultado
+    curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE_URL$caminho"
+    amostrar "$rotulo" &
+    local amostrador=$!
+    wrk -t "$THREADS_WRK" -c "$CONEXOES" -d "$DURACAO" --latency \
+        -H "Authorization: Bearer $TOKEN" "$BASE_URL$caminho"
+    kill "$amostrador"
+}
+
+executar "sincrono" "/api/ceps/$CEP"
+executar "assincrono" "/api/ceps/async/$CEP"
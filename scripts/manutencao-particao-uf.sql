@@ -0,0 +1,59 @@
+-- ============================================================================
+-- Manutenção da tabela cep particionada por UF (changeset-009)
+-- ============================================================================
+-- A tabela cep possui uma partição por estado (cep_sp, cep_rj, ...) e uma
+-- partição DEFAULT (cep_outros). Vacuum, reindex e recargas podem ser feitos
+-- um estado por vez, sem bloquear consultas dos demais estados.
+--
+-- Substitua "sp" / 'SP' pela UF desejada.
+-- ============================================================================
+
+-- ============================================================================
+-- VACUUM / ANALYZE DE UM ESTADO
+-- ============================================================================
+VACUUM (ANALYZE) cep_sp;
+
+-- ============================================================================
+-- REINDEX DE UM ESTADO (sem bloquear escrita, PostgreSQL 12+)
+-- ============================================================================
+REINDEX TABLE CONCURRENTLY cep_sp;
+
+-- ============================================================================
+-- RECARGA COMPLETA DE UM ESTADO
+-- ============================================================================
+-- 1. Carrega os dados novos em uma tabela com a mesma estrutura da partição
+CREATE TABLE cep_sp_carga (LIKE cep INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+
+-- COPY cep_sp_carga (codigo, logradouro, complemento, bairro, cidade, uf, ibge, dat_hora_cadastro)
+--     FROM '/caminho/dne_sp.csv' WITH (FORMAT csv, HEADER true);
+
+-- Garante que a tabela só contém a UF da partição (evita varredura no ATTACH)
+ALTER TABLE cep_sp_carga ADD CONSTRAINT chk_cep_sp_carga_uf CHECK (uf = 'SP');
+
+-- 2. Troca a partição antiga pela nova. DETACH/ATTACH não disparam a trigger trg_cep_codigo,
+--    então a cep_codigo (unicidade global do código, changeset-009) é refeita para a UF na mesma
+--    transação; o INSERT falha, e a troca inteira é desfeita, se um código já existir em outra UF
+BEGIN;
+ALTER TABLE cep DETACH PARTITION cep_sp;
+ALTER TABLE cep ATTACH PARTITION cep_sp_carga FOR VALUES IN ('SP');
+ALTER TABLE cep_sp RENAME TO cep_sp_antiga;
+ALTER TABLE cep_sp_carga RENAME TO cep_sp;
+DELETE FROM cep_codigo WHERE uf = 'SP';
+INSERT INTO cep_codigo (codigo, uf) SELECT codigo, uf FROM cep_sp;
+COMMIT;
+
+-- 3. Remove a partição antiga após validar a carga
+DROP TABLE cep_sp_antiga;
+ANALYZE cep_sp;
+
+-- 4. A carga não passa pelo Hibernate: limpe o cache de CEPs de cada nó da webapp
+--    DELETE /cep-manager/api/admin/cache/ceps (ADMIN); sem isso as entradas expiram em até 10 minutos
+
+-- ============================================================================
+-- CONFERÊNCIA DA PODA DE PARTIÇÕES
+-- ============================================================================
+-- O plano deve listar apenas a partição cep_sp
+EXPLAIN SELECT * FROM cep WHERE uf = 'SP' AND LOWER(cidade) = LOWER('São Paulo');
+
+-- Códigos sem UF na cep_codigo (deve retornar zero linhas)
+SELECT c.codigo FROM cep c LEFT JOIN cep_codigo k ON k.codigo = c.codigo WHERE k.codigo IS NULL;
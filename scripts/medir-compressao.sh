@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# ============================================================================
+# Bytes trafegados e latência de uma página com 1000 CEPs
+# ============================================================================
+# Compara HTTP/1.1 sem compressão, HTTP/1.1 com gzip e h2c com gzip contra a
+# aplicação já em execução (server.compression e server.http2 ligados).
+# Requer curl com suporte a HTTP/2 e um usuário com acesso à API.
+#
+# Uso: ./scripts/medir-compressao.sh [repeticoes]
+# ============================================================================
+set -euo pipefail
+
+REPETICOES=${1:-20}
+BASE_URL=${BASE_URL:-http://localhost:8080/cep-manager}
+USUARIO=${USUARIO:-admin}
+SENHA=${SENHA:-admin123}
+URL="$BASE_URL/api/ceps?page=0&size=1000"
+
+TOKEN=$(curl -s -X POST "$BASE_URL/api/auth/login" \
+        -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$USUARIO\",\"password\":\"$SENHA\"}" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+if [ -z "$TOKEN" ]; then
+    echo "Login falhou para $USUARIO" >&2
+    exit 1
+fi
+
+medir() {
+    local nome=$1
+    shift
+    local bytes=0 total_ms=0
+    for i in $(seq 1 "$REPETICOES"); do
+        read -r tamanho tempo < <(curl -s -o /dev/null -w '%{size_download} %{time_total}\n' \
+                                       -H "Authorization: Bearer $TOKEN" "$@" "$URL")
+        bytes=$tamanho
+        total_ms=$(awk -v t="$total_ms" -v s="$tempo" 'BEGIN { printf "%.3f", t + s * 1000 }')
+    done
+    awk -v n="$nome" -v b="$bytes" -v t="$total_ms" -v r="$REPETICOES" \
+        'BEGIN { printf "%-16s bytes=%d latencia_media_ms=%.1f\n", n, b, t / r }'
+}
+
+# Sem --compressed o curl não descomprime: size_download é o tamanho que passou pela rede
+medir "http1.1"      --http1.1 -H 'Accept-Encoding: identity'
+medir "http1.1+gzip" --http1.1 -H 'Accept-Encoding: gzip'
+medir "h2c+gzip"     --http2-prior-knowledge -H 'Accept-Encoding: gzip'
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# ============================================================================
+# Tempo até a primeira requisição: inicialização padrão x perfil fast-start
+# ============================================================================
+# Sobe a aplicação, mede o tempo entre o início do processo e o primeiro login
+# com resposta 200 e encerra. Requer curl, o banco já migrado e o build:
+#   mvn -Pfast-start package            (gera webapp/target/fast-start)
+#   java @cep-manager.classpath br.com.arthur.madalena.cepmanager.migracao.MigracaoApplication
+#
+# Uso: ./scripts/medir-inicializacao.sh [padrao|fast-start] [repeticoes]
+# ============================================================================
+set -euo pipefail
+
+MODO=${1:-fast-start}
+REPETICOES=${2:-5}
+BASE_URL=${BASE_URL:-http://localhost:8080/cep-manager}
+DIR=${DIR:-webapp/target/fast-start}
+MAIN=br.com.arthur.madalena.cepmanager.CepManagerApplication
+
+case "$MODO" in
+    padrao)
+        ARGS=(@cep-manager.classpath "$MAIN")
+        ;;
+    fast-start)
+        ARGS=(-XX:SharedArchiveFile=cep-manager.jsa -Dspring.aot.enabled=true
+              -Dspring.profiles.active=fast-start @cep-manager.classpath "$MAIN")
+        ;;
+    *)
+        echo "Modo inválido: $MODO (use padrao ou fast-start)" >&2
+        exit 1
+        ;;
+esac
+
+for i in $(seq 1 "$REPETICOES"); do
+    inicio=$(date +%s%N)
+    (cd "$DIR" && exec java "${ARGS[@]}") > /tmp/medir-inicializacao.log 2>&1 &
+    pid=$!
+
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST "$BASE_URL/api/auth/login" \
+            -H 'Content-Type: application/json' \
+            -d '{"username":"admin","password":"admin123"}')" = "200" ]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "A aplicação encerrou antes de responder, veja /tmp/medir-inicializacao.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+
+    fim=$(date +%s%N)
+    printf '%s execucao=%d primeira_requisicao_ms=%d\n' "$MODO" "$i" $(( (fim - inicio) / 1000000 ))
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
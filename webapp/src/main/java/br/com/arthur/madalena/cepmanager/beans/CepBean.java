@@ -1,14 +1,17 @@
 package br.com.arthur.madalena.cepmanager.beans;
 
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.dto.EstatisticasCepDTO;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
 import br.com.arthur.madalena.cepmanager.service.CepService;
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
 import jakarta.annotation.PostConstruct;
 import jakarta.faces.application.FacesMessage;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.view.ViewScoped;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -26,7 +29,7 @@ public class CepBean implements Serializable {
     private final CepService cepService;
 
     private CepDTO cepSelecionado;
-    private List<CepDTO> ceps;
+    private CepLazyDataModel ceps;
     
     private String filtroCodigo;
     private String filtroLogradouro;
@@ -44,8 +47,6 @@ public class CepBean implements Serializable {
     private List<Map.Entry<String, Long>> cepsPorEstado;
     private Long maxCepsPorEstado;
     
-    private int currentPage = 0;
-    private int pageSize = 10;
     private long totalElements;
 
     @PostConstruct
@@ -57,21 +58,13 @@ public class CepBean implements Serializable {
     
     public void loadDashboardData() {
         try {
-            Pageable pageable = PageRequest.of(0, Integer.MAX_VALUE);
-            List<CepDTO> allCeps = cepService.findAll(pageable).getContent();
+            EstatisticasCepDTO estatisticas = cepService.estatisticas();
             
-            totalCeps = (long) allCeps.size();
-            totalCidades = allCeps.stream().map(CepDTO::getCidade).distinct().count();
-            totalEstados = allCeps.stream().map(CepDTO::getUf).distinct().count();
-            
-            Map<String, Long> estadoMap = allCeps.stream()
-                .collect(Collectors.groupingBy(CepDTO::getUf, Collectors.counting()));
-            
-            cepsPorEstado = estadoMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .collect(Collectors.toList());
-            
-            maxCepsPorEstado = estadoMap.values().stream()
+            totalCeps = estatisticas.getTotalCeps();
+            totalCidades = estatisticas.getTotalCidades();
+            totalEstados = estatisticas.getTotalEstados();
+            cepsPorEstado = new ArrayList<>(estatisticas.getCepsPorUf().entrySet());
+            maxCepsPorEstado = estatisticas.getCepsPorUf().values().stream()
                 .max(Long::compare)
                 .orElse(1L);
                 
@@ -84,71 +77,29 @@ public class CepBean implements Serializable {
         }
     }
 
+    // Sem filtro o total é contado só quando a tabela pede, e vem das estatísticas em cache
     public void loadCeps() {
-        Pageable pageable = PageRequest.of(currentPage, pageSize);
-        Page<CepDTO> page = cepService.findAll(pageable);
-        ceps = page.getContent();
-        totalElements = page.getTotalElements();
+        ceps = new CepLazyDataModel(cepService, new CepFiltroDTO());
     }
 
     public void buscar() {
         try {
-            Pageable pageable = PageRequest.of(currentPage, 15);
-            Page<CepDTO> page;
+            CepFiltroDTO filtro = new CepFiltroDTO(filtroCodigo, filtroLogradouro, filtroBairro,
+                    filtroCidade, filtroUf, pesquisaGeral);
+            ceps = new CepLazyDataModel(cepService, filtro);
+            totalElements = ceps.count(Map.of());
             
-            if (pesquisaGeral != null && !pesquisaGeral.trim().isEmpty()) {
-                page = cepService.search(pesquisaGeral, pageable);
-            } else if (filtroCodigo != null && !filtroCodigo.trim().isEmpty()) {
-                String codigoLimpo = filtroCodigo.replaceAll("[^0-9]", "");
-                CepDTO cepEncontrado = cepService.findByCodigo(codigoLimpo);
-                ceps = List.of(cepEncontrado);
-                totalElements = 1;
-                addMessage(FacesMessage.SEVERITY_INFO, "CEP encontrado!");
-                return;
-            } else {
-                page = cepService.findAll(pageable);
-                
-                List<CepDTO> resultado = page.getContent();
-                
-                if (filtroLogradouro != null && !filtroLogradouro.trim().isEmpty()) {
-                    String logradouroLower = filtroLogradouro.toLowerCase();
-                    resultado = resultado.stream()
-                            .filter(c -> c.getLogradouro().toLowerCase().contains(logradouroLower))
-                            .collect(Collectors.toList());
-                }
-                
-                if (filtroBairro != null && !filtroBairro.trim().isEmpty()) {
-                    String bairroLower = filtroBairro.toLowerCase();
-                    resultado = resultado.stream()
-                            .filter(c -> c.getBairro().toLowerCase().contains(bairroLower))
-                            .collect(Collectors.toList());
-                }
-                
-                if (filtroCidade != null && !filtroCidade.trim().isEmpty()) {
-                    String cidadeLower = filtroCidade.toLowerCase();
-                    resultado = resultado.stream()
-                            .filter(c -> c.getCidade().toLowerCase().contains(cidadeLower))
-                            .collect(Collectors.toList());
-                }
-                
-                if (filtroUf != null && !filtroUf.trim().isEmpty()) {
-                    resultado = resultado.stream()
-                            .filter(c -> c.getUf().equalsIgnoreCase(filtroUf))
-                            .collect(Collectors.toList());
-                }
-                
-                ceps = resultado;
-                totalElements = resultado.size();
-            }
-            
-            if (ceps.isEmpty()) {
+            if (totalElements == 0) {
                 addMessage(FacesMessage.SEVERITY_WARN, "Nenhum CEP encontrado com os filtros informados");
             } else {
                 addMessage(FacesMessage.SEVERITY_INFO, "Encontrado(s) " + totalElements + " CEP(s)");
             }
+        } catch (SobrecargaException e) {
+            addMessage(FacesMessage.SEVERITY_WARN, e.getMessage());
+            ceps = null;
         } catch (Exception e) {
             addMessage(FacesMessage.SEVERITY_ERROR, "Erro ao buscar: " + e.getMessage());
-            ceps = new ArrayList<>();
+            ceps = null;
         }
     }
 
@@ -159,17 +110,18 @@ public class CepBean implements Serializable {
         filtroCidade = null;
         filtroUf = null;
         pesquisaGeral = null;
-        currentPage = 0;
         loadCeps();
         addMessage(FacesMessage.SEVERITY_INFO, "Filtros limpos");
     }
 
     public String salvar() {
         try {
-            // Limpa o código CEP removendo hífen e caracteres não numéricos
+            // Aceita o CEP com máscara (hífen, pontos, espaços) e grava só os 8 dígitos
             if (cepSelecionado.getCodigo() != null) {
-                String codigoLimpo = cepSelecionado.getCodigo().replaceAll("[^0-9]", "");
-                cepSelecionado.setCodigo(codigoLimpo);
+                int cep = CepUtils.parseDigitos(cepSelecionado.getCodigo());
+                if (cep != CepUtils.INVALIDO) {
+                    cepSelecionado.setCodigo(CepUtils.paraCodigo(cep));
+                }
             }
             
             // Converte strings vazias para null nos campos opcionais
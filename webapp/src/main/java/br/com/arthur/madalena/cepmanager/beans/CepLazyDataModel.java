@@ -0,0 +1,103 @@
+package br.com.arthur.madalena.cepmanager.beans;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import br.com.arthur.madalena.cepmanager.service.CepService;
+import jakarta.faces.application.FacesMessage;
+import jakarta.faces.context.FacesContext;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Modelo lazy da consulta de CEPs: filtros, ordenação e paginação são resolvidos no banco.
+ * Cada pesquisa cria um novo modelo, então o total do filtro é contado uma única vez.
+ */
+public class CepLazyDataModel extends LazyDataModel<CepDTO> {
+
+    private final CepService cepService;
+    private final CepFiltroDTO filtro;
+
+    private Long total;
+    private List<CepDTO> pagina = new ArrayList<>();
+
+    public CepLazyDataModel(CepService cepService, CepFiltroDTO filtro) {
+        this.cepService = cepService;
+        this.filtro = filtro;
+    }
+
+    @Override
+    public int count(Map<String, FilterMeta> filterBy) {
+        if (total == null) {
+            try {
+                total = cepService.countByFiltro(filtro);
+            } catch (SobrecargaException e) {
+                // Não guarda o total: a próxima paginação tenta contar de novo
+                avisarSobrecarga(e);
+                return 0;
+            }
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<CepDTO> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        if (pageSize <= 0) {
+            return List.of();
+        }
+        PageRequest pageable = PageRequest.of(first / pageSize, pageSize, ordenacao(sortBy));
+        try {
+            pagina = cepService.findByFiltro(filtro, pageable);
+        } catch (SobrecargaException e) {
+            avisarSobrecarga(e);
+            pagina = new ArrayList<>();
+        }
+        return pagina;
+    }
+
+    @Override
+    public String getRowKey(CepDTO cep) {
+        return cep.getId() != null ? cep.getId().toString() : null;
+    }
+
+    @Override
+    public CepDTO getRowData(String rowKey) {
+        for (CepDTO cep : pagina) {
+            if (rowKey != null && rowKey.equals(getRowKey(cep))) {
+                return cep;
+            }
+        }
+        return null;
+    }
+
+    // Bulkhead de busca saturado: a tabela fica vazia com um aviso em vez da página de erro do JSF
+    private void avisarSobrecarga(SobrecargaException e) {
+        FacesContext contexto = FacesContext.getCurrentInstance();
+        if (contexto != null) {
+            contexto.addMessage("growl", new FacesMessage(FacesMessage.SEVERITY_WARN, e.getMessage(), null));
+        }
+    }
+
+    private Sort ordenacao(Map<String, SortMeta> sortBy) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            return Sort.by("codigo");
+        }
+        List<Sort.Order> ordens = new ArrayList<>();
+        sortBy.values().stream()
+                .filter(meta -> meta.getOrder() != SortOrder.UNSORTED)
+                .sorted(Comparator.comparingInt(SortMeta::getPriority))
+                .forEach(meta -> ordens.add(meta.getOrder() == SortOrder.DESCENDING
+                        ? Sort.Order.desc(meta.getField())
+                        : Sort.Order.asc(meta.getField())));
+        return ordens.isEmpty() ? Sort.by("codigo") : Sort.by(ordens);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.faces.context.FacesContext;
 import jakarta.inject.Named;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -16,6 +17,7 @@ import java.io.Serializable;
 @Component("loginBean")
 @Named
 @SessionScoped
+@Slf4j
 @Data
 @RequiredArgsConstructor
 public class LoginBean implements Serializable {
@@ -103,7 +105,7 @@ public class LoginBean implements Serializable {
             return "/pages/dashboard?faces-redirect=true";
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Erro ao autenticar usuário {}", username, e);
             FacesContext.getCurrentInstance().addMessage(null,
                     new FacesMessage(FacesMessage.SEVERITY_ERROR,
                             "Erro de conexão",
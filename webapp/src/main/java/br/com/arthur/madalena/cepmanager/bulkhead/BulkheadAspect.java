@@ -0,0 +1,57 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+import br.com.arthur.madalena.cepmanager.concorrencia.LimiteAdaptativoFilter;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+// Executa antes da transação, para que chamadas na fila não segurem conexão com o banco
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadAspect {
+
+    private final BulkheadRegistry registry;
+
+    @Around("@annotation(bulkhead)")
+    public Object executar(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        Compartimento compartimento = registry.get(bulkhead.value());
+        long inicio = System.nanoTime();
+        boolean entrou = compartimento.entrar();
+        registrarEspera(System.nanoTime() - inicio);
+        if (!entrou) {
+            log.warn("Bulkhead {} saturado ({} chamadas em execução), rejeitando {}",
+                    bulkhead.value(), compartimento.getAtivas(), joinPoint.getSignature().toShortString());
+            throw new SobrecargaException("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            compartimento.sair();
+        }
+    }
+
+    // Tempo na fila não é latência do banco: o LimiteAdaptativoFilter desconta da amostra
+    private void registrarEspera(long esperaNanos) {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos == null) {
+            return;
+        }
+        Object acumulada = atributos.getAttribute(LimiteAdaptativoFilter.ATRIBUTO_ESPERA_BULKHEAD,
+                RequestAttributes.SCOPE_REQUEST);
+        long total = acumulada instanceof Long anterior ? anterior + esperaNanos : esperaNanos;
+        atributos.setAttribute(LimiteAdaptativoFilter.ATRIBUTO_ESPERA_BULKHEAD, total, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+import br.com.arthur.madalena.cepmanager.properties.BulkheadProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class BulkheadRegistry implements MeterBinder {
+
+    private final Map<Carga, Compartimento> compartimentos = new EnumMap<>(Carga.class);
+
+    public BulkheadRegistry(BulkheadProperties properties) {
+        for (Carga carga : Carga.values()) {
+            BulkheadProperties.Limite limite = properties.limite(carga);
+            compartimentos.put(carga, new Compartimento(carga, limite.getMaxConcorrentes(), limite.getMaxEspera()));
+        }
+    }
+
+    public Compartimento get(Carga carga) {
+        return compartimentos.get(carga);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Compartimento compartimento : compartimentos.values()) {
+            String tag = compartimento.getCarga().name().toLowerCase(Locale.ROOT);
+            Gauge.builder("cep.bulkhead.ativas", compartimento, Compartimento::getAtivas)
+                    .tag("carga", tag)
+                    .description("Chamadas em execução no bulkhead")
+                    .register(registry);
+            Gauge.builder("cep.bulkhead.limite", compartimento, Compartimento::getLimite)
+                    .tag("carga", tag)
+                    .register(registry);
+            Gauge.builder("cep.bulkhead.saturacao", compartimento, Compartimento::getSaturacao)
+                    .tag("carga", tag)
+                    .description("Fração do limite de concorrência em uso")
+                    .register(registry);
+            Gauge.builder("cep.bulkhead.aguardando", compartimento, Compartimento::getAguardando)
+                    .tag("carga", tag)
+                    .register(registry);
+            FunctionCounter.builder("cep.bulkhead.rejeitadas", compartimento, Compartimento::getRejeitadas)
+                    .tag("carga", tag)
+                    .description("Chamadas rejeitadas por falta de vaga no bulkhead")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite de concorrência de uma classe de carga, com fila limitada ao tempo de espera.
+ */
+public class Compartimento {
+
+    private final Carga carga;
+    private final int limite;
+    private final long maxEsperaNanos;
+    private final Semaphore permissoes;
+    private final AtomicLong rejeitadas = new AtomicLong();
+
+    public Compartimento(Carga carga, int limite, Duration maxEspera) {
+        this.carga = carga;
+        this.limite = limite;
+        this.maxEsperaNanos = maxEspera.toNanos();
+        this.permissoes = new Semaphore(limite);
+    }
+
+    public boolean entrar() {
+        boolean adquirida;
+        if (maxEsperaNanos <= 0) {
+            adquirida = permissoes.tryAcquire();
+        } else {
+            try {
+                adquirida = permissoes.tryAcquire(maxEsperaNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                adquirida = false;
+            }
+        }
+        if (!adquirida) {
+            rejeitadas.incrementAndGet();
+        }
+        return adquirida;
+    }
+
+    public void sair() {
+        permissoes.release();
+    }
+
+    public Carga getCarga() {
+        return carga;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getAtivas() {
+        return limite - permissoes.availablePermits();
+    }
+
+    public int getAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    public double getSaturacao() {
+        return (double) getAtivas() / limite;
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas.get();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dao.CepAlteracaoDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remove de cep_alteracao as alterações que nenhum nó relê mais. Fica na webapp, como a limpeza
+ * de token_revogado: a lookup-api só lê a tabela para manter os próprios caches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LimpezaAlteracoesCep {
+
+    // Bem acima da janela relida por sincronização, para cobrir nós que ficaram um tempo sem sincronizar
+    static final Duration RETENCAO = Duration.ofMinutes(10);
+
+    private final CepAlteracaoDAO cepAlteracaoDAO;
+
+    @Scheduled(fixedDelayString = "${app.cache.cep.cleanup-interval-ms:60000}")
+    @Transactional
+    public void removerAntigas() {
+        int removidas = cepAlteracaoDAO.deleteAnteriores(Instant.now().minus(RETENCAO));
+        log.debug("Alterações de CEP antigas removidas: {}", removidas);
+    }
+}
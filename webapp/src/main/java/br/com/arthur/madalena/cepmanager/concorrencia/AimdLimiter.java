@@ -0,0 +1,71 @@
+package br.com.arthur.madalena.cepmanager.concorrencia;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de concorrência AIMD (additive increase, multiplicative decrease).
+ * Cada resposta dentro da latência alvo com o limite em uso aumenta o limite em 1/limite
+ * (cerca de +1 por janela); uma resposta lenta ou com erro multiplica o limite pelo fator de redução.
+ */
+public class AimdLimiter {
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final long latenciaAlvoNanos;
+    private final double fatorReducao;
+    private final AtomicInteger emExecucao = new AtomicInteger();
+
+    private volatile double limite;
+
+    public AimdLimiter(int limiteInicial, int limiteMinimo, int limiteMaximo, long latenciaAlvoNanos, double fatorReducao) {
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.latenciaAlvoNanos = latenciaAlvoNanos;
+        this.fatorReducao = fatorReducao;
+        this.limite = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+    }
+
+    public boolean adquirir() {
+        while (true) {
+            int atual = emExecucao.get();
+            if (atual >= (int) limite) {
+                return false;
+            }
+            if (emExecucao.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite com a amostra da requisição.
+     *
+     * @param emExecucaoNoInicio requisições em execução quando esta começou
+     */
+    public void liberar(long latenciaNanos, boolean erro, int emExecucaoNoInicio) {
+        emExecucao.decrementAndGet();
+        synchronized (this) {
+            if (erro || latenciaNanos > latenciaAlvoNanos) {
+                limite = Math.max(limiteMinimo, limite * fatorReducao);
+            } else if (emExecucaoNoInicio * 2 >= limite) {
+                // Só cresce quando o limite está de fato sendo usado
+                limite = Math.min(limiteMaximo, limite + 1 / limite);
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga sem ajustar o limite, para respostas que não dizem nada sobre a capacidade.
+     */
+    public void descartar() {
+        emExecucao.decrementAndGet();
+    }
+
+    public int getLimite() {
+        return (int) limite;
+    }
+
+    public int getEmExecucao() {
+        return emExecucao.get();
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.arthur.madalena.cepmanager.concorrencia;
+
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
+import br.com.arthur.madalena.cepmanager.properties.LimiteAdaptativoProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limita as requisições simultâneas em /api/ceps/** com um limite AIMD
+ * ajustado pela latência observada, respondendo 503 ao exceder o limite.
+ * Consultas por código e buscas têm limites e latências alvo separados, para que
+ * as buscas lentas não derrubem o limite das consultas. Os 503 gerados pela própria
+ * aplicação (bulkhead, timeout de pool ou de comando) e a espera na fila do bulkhead
+ * não entram na amostra: já são a proteção agindo, não sinal de sobrecarga a jusante.
+ */
+@Slf4j
+@Component
+public class LimiteAdaptativoFilter extends OncePerRequestFilter implements MeterBinder {
+
+    // Marca a resposta como 503 gerado pela aplicação (GlobalExceptionHandler)
+    public static final String ATRIBUTO_REJEICAO_LOCAL = LimiteAdaptativoFilter.class.getName() + ".REJEICAO_LOCAL";
+
+    // Nanossegundos acumulados na fila dos bulkheads (BulkheadAspect), descontados da latência
+    public static final String ATRIBUTO_ESPERA_BULKHEAD = LimiteAdaptativoFilter.class.getName() + ".ESPERA_BULKHEAD";
+
+    private static final String PREFIXO = "/api/ceps/";
+
+    // Primeiro segmento após /api/ceps/ das listagens e pesquisas (Carga.BUSCA no CepServiceImpl)
+    private static final Set<String> SEGMENTOS_BUSCA =
+            Set.of("range", "proximos", "query", "logradouro", "cidade", "uf", "search");
+
+    private final LimiteAdaptativoProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<Carga, AimdLimiter> limiters = new EnumMap<>(Carga.class);
+    private final AtomicLong rejeitadas = new AtomicLong();
+
+    public LimiteAdaptativoFilter(LimiteAdaptativoProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        limiters.put(Carga.CONSULTA, criarLimiter(properties.getLatenciaAlvo()));
+        limiters.put(Carga.BUSCA, criarLimiter(properties.getLatenciaAlvoBusca()));
+    }
+
+    private AimdLimiter criarLimiter(Duration latenciaAlvo) {
+        return new AimdLimiter(properties.getLimiteInicial(), properties.getLimiteMinimo(),
+                properties.getLimiteMaximo(), latenciaAlvo.toNanos(), properties.getFatorReducao());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(PREFIXO) && !path.equals("/api/ceps");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        AimdLimiter limiter = limiters.get(classificar(request));
+        if (!limiter.adquirir()) {
+            rejeitadas.incrementAndGet();
+            log.debug("Limite adaptativo ({}) atingido, rejeitando {}", limiter.getLimite(), request.getRequestURI());
+            enviarSobrecarga(response);
+            return;
+        }
+
+        Amostra amostra = new Amostra(limiter, request, response, limiter.getEmExecucao());
+        boolean sucesso = false;
+        try {
+            filterChain.doFilter(request, response);
+            sucesso = true;
+        } finally {
+            if (sucesso && request.isAsyncStarted()) {
+                // Requisições assíncronas liberam a vaga só quando terminam de fato
+                request.getAsyncContext().addListener(amostra);
+            } else {
+                amostra.registrar(!sucesso);
+            }
+        }
+    }
+
+    Carga classificar(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/api/ceps") || path.equals(PREFIXO)) {
+            return "GET".equals(request.getMethod()) ? Carga.BUSCA : Carga.CONSULTA;
+        }
+        String resto = path.substring(PREFIXO.length());
+        int barra = resto.indexOf('/');
+        String segmento = barra < 0 ? resto : resto.substring(0, barra);
+        return SEGMENTOS_BUSCA.contains(segmento) ? Carga.BUSCA : Carga.CONSULTA;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((carga, limiter) -> {
+            String tag = carga.name().toLowerCase();
+            Gauge.builder("cep.limite.adaptativo", limiter, AimdLimiter::getLimite)
+                    .description("Limite atual de requisições simultâneas em /api/ceps")
+                    .tag("carga", tag)
+                    .register(registry);
+            Gauge.builder("cep.limite.adaptativo.em.execucao", limiter, AimdLimiter::getEmExecucao)
+                    .tag("carga", tag)
+                    .register(registry);
+        });
+        FunctionCounter.builder("cep.limite.adaptativo.rejeitadas", rejeitadas, AtomicLong::get)
+                .description("Requisições rejeitadas com 503 pelo limite adaptativo")
+                .register(registry);
+    }
+
+    AimdLimiter getLimiter(Carga carga) {
+        return limiters.get(carga);
+    }
+
+    private void enviarSobrecarga(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Serviço sobrecarregado");
+        errorResponse.put("message", "Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    private class Amostra implements AsyncListener {
+
+        private final AimdLimiter limiter;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final int emExecucaoNoInicio;
+        private final long inicio = System.nanoTime();
+        private final AtomicBoolean registrada = new AtomicBoolean();
+
+        Amostra(AimdLimiter limiter, HttpServletRequest request, HttpServletResponse response, int emExecucaoNoInicio) {
+            this.limiter = limiter;
+            this.request = request;
+            this.response = response;
+            this.emExecucaoNoInicio = emExecucaoNoInicio;
+        }
+
+        void registrar(boolean erro) {
+            if (!registrada.compareAndSet(false, true)) {
+                return;
+            }
+            if (request.getAttribute(ATRIBUTO_REJEICAO_LOCAL) != null) {
+                limiter.descartar();
+                return;
+            }
+            long latencia = System.nanoTime() - inicio;
+            if (request.getAttribute(ATRIBUTO_ESPERA_BULKHEAD) instanceof Long espera) {
+                latencia = Math.max(0, latencia - espera);
+            }
+            boolean falhou = erro || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            limiter.liberar(latencia, falhou, emExecucaoNoInicio);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            registrar(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            registrar(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            registrar(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Um novo startAsync remove os listeners; registra de novo para o próximo ciclo
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.arthur.madalena.cepmanager.config;
+
+import br.com.arthur.madalena.cepmanager.cache.CepCache;
+import br.com.arthur.madalena.cepmanager.cache.RefreshingCache;
+import br.com.arthur.madalena.cepmanager.cache.RefreshingCacheRegistry;
+import br.com.arthur.madalena.cepmanager.cache.SingleFlight;
+import br.com.arthur.madalena.cepmanager.cache.SingleFlightRegistry;
+import br.com.arthur.madalena.cepmanager.security.JwtVerificacaoCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public MeterBinder cepCacheMetrics(CepCache cepCache) {
+        return (MeterRegistry registry) -> CaffeineCacheMetrics.monitor(registry, cepCache.getCache(), "cep");
+    }
+
+    @Bean
+    public MeterBinder jwtCacheMetrics(JwtVerificacaoCache jwtVerificacaoCache) {
+        return (MeterRegistry registry) -> CaffeineCacheMetrics.monitor(registry, jwtVerificacaoCache.getCache(), "jwt");
+    }
+
+    @Bean
+    public MeterBinder singleFlightMetrics(SingleFlightRegistry singleFlightRegistry) {
+        return (MeterRegistry registry) -> {
+            for (SingleFlight<?, ?> singleFlight : singleFlightRegistry.getTodos()) {
+                FunctionCounter.builder("cep.singleflight.execucoes", singleFlight, SingleFlight::getExecucoes)
+                        .tag("operacao", singleFlight.getNome())
+                        .description("Consultas executadas no banco")
+                        .register(registry);
+                FunctionCounter.builder("cep.singleflight.coalescidas", singleFlight, SingleFlight::getCoalescidas)
+                        .tag("operacao", singleFlight.getNome())
+                        .description("Chamadas atendidas por uma consulta já em andamento")
+                        .register(registry);
+                FunctionCounter.builder("cep.singleflight.esgotadas", singleFlight, SingleFlight::getEsgotadas)
+                        .tag("operacao", singleFlight.getNome())
+                        .description("Chamadas que desistiram de aguardar a consulta em andamento")
+                        .register(registry);
+                Gauge.builder("cep.singleflight.em.andamento", singleFlight, SingleFlight::getEmAndamento)
+                        .tag("operacao", singleFlight.getNome())
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder refreshingCacheMetrics(RefreshingCacheRegistry refreshingCacheRegistry) {
+        return (MeterRegistry registry) -> {
+            for (RefreshingCache<?, ?> cache : refreshingCacheRegistry.getTodos()) {
+                contador(registry, "cep.cache.acertos", cache, RefreshingCache::getAcertos);
+                contador(registry, "cep.cache.faltas", cache, RefreshingCache::getFaltas);
+                contador(registry, "cep.cache.atualizacoes", cache, RefreshingCache::getAtualizacoes);
+                contador(registry, "cep.cache.vencidos.servidos", cache, RefreshingCache::getVencidosServidos);
+                contador(registry, "cep.cache.falhas.atualizacao", cache, RefreshingCache::getFalhasAtualizacao);
+                contador(registry, "cep.cache.cargas.descartadas", cache, RefreshingCache::getDescartadas);
+            }
+        };
+    }
+
+    private static void contador(MeterRegistry registry, String nome, RefreshingCache<?, ?> cache,
+                                 ToDoubleFunction<RefreshingCache<?, ?>> valor) {
+        FunctionCounter.builder(nome, cache, valor)
+                .tag("cache", cache.getNome())
+                .register(registry);
+    }
+}
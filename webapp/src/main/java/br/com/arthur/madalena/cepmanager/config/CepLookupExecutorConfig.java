@@ -0,0 +1,26 @@
+package br.com.arthur.madalena.cepmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CepLookupExecutorConfig {
+
+    /**
+     * Pool limitado para as consultas assíncronas que não estão no cache.
+     * Com a fila cheia a tarefa é rejeitada e a requisição recebe 503, em vez de acumular threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cepLookupExecutor(@Value("${app.lookup.async.threads:16}") int threads,
+                                                    @Value("${app.lookup.async.fila:500}") int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("cep-lookup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
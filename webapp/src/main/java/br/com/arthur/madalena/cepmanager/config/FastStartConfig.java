@@ -0,0 +1,44 @@
+package br.com.arthur.madalena.cepmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    /**
+     * Marca como lazy os beans cuja classe começa com um dos prefixos de app.fast-start.lazy-packages.
+     * Diferente de spring.main.lazy-initialization, o caminho de consulta (CepService, cache, filtros)
+     * continua sendo criado no boot e a primeira requisição à API não paga a inicialização.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansFastStart(Environment environment) {
+        List<String> prefixos = Binder.get(environment)
+                .bind("app.fast-start.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return beanFactory -> {
+            int total = 0;
+            for (String nome : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definicao = beanFactory.getBeanDefinition(nome);
+                String classe = definicao.getBeanClassName();
+                if (classe != null && prefixos.stream().anyMatch(classe::startsWith)) {
+                    definicao.setLazyInit(true);
+                    total++;
+                }
+            }
+            log.info("fast-start: {} beans com inicialização lazy", total);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.arthur.madalena.cepmanager.config;
+
+import br.com.arthur.madalena.cepmanager.datasource.ReplicaLagMonitor;
+import br.com.arthur.madalena.cepmanager.datasource.ReplicaRoutingDataSource;
+import br.com.arthur.madalena.cepmanager.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    private final ReplicaDataSourceProperties replicaProperties;
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties dataSourceProperties) {
+        List<ReplicaLagMonitor.Replica> replicas = new ArrayList<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setJdbcUrl(urls.get(i));
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setUsername(replicaProperties.getUsername() != null
+                    ? replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(replicaProperties.getPassword() != null
+                    ? replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+            Binder.get(environment).bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+            replica.setReadOnly(true);
+            replica.setPoolName("cep-replica-" + i);
+            registrarMetricas(replica);
+            replicas.add(new ReplicaLagMonitor.Replica("replica-" + i, replica));
+        }
+        log.info("Roteamento de leitura habilitado com {} réplica(s)", replicas.size());
+        return new ReplicaLagMonitor(replicas, replicaProperties);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaLagMonitor replicaLagMonitor) {
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+        primario.setPoolName("cep-primario");
+        registrarMetricas(primario);
+        return new ReplicaRoutingDataSource(primario, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Os pools não são beans próprios, então as métricas do Hikari precisam ser ligadas aqui
+    private void registrarMetricas(HikariDataSource dataSource) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            dataSource.setMetricRegistry(registry);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.arthur.madalena.cepmanager.converter;
 
+import br.com.arthur.madalena.cepmanager.util.CepUtils;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.convert.Converter;
@@ -13,15 +14,17 @@ public class CepConverter implements Converter<String> {
         if (value == null || value.isEmpty()) {
             return null;
         }
-        return value.replaceAll("[^0-9]", "");
+        int cep = CepUtils.parseDigitos(value);
+        // CEP parcial (filtro por prefixo) segue apenas com os dígitos
+        return cep != CepUtils.INVALIDO ? CepUtils.paraCodigo(cep) : CepUtils.somenteDigitos(value);
     }
 
     @Override
     public String getAsString(FacesContext context, UIComponent component, String value) {
-        if (value == null || value.isEmpty() || value.length() != 8) {
+        if (value == null || value.length() != 8) {
             return value;
         }
-        return value.substring(0, 5) + "-" + value.substring(5);
+        int cep = CepUtils.parse(value);
+        return cep != CepUtils.INVALIDO ? CepUtils.formatar(cep) : value;
     }
 }
-
@@ -0,0 +1,24 @@
+package br.com.arthur.madalena.cepmanager.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class LeituraReplicaAspect {
+
+    @Around("@within(br.com.arthur.madalena.cepmanager.datasource.LeituraReplica) "
+            + "|| @annotation(br.com.arthur.madalena.cepmanager.datasource.LeituraReplica)")
+    public Object rotearLeitura(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean anterior = LeituraReplicaContext.ativar();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            LeituraReplicaContext.restaurar(anterior);
+        }
+    }
+}
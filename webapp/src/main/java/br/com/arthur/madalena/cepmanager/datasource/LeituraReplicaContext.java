@@ -0,0 +1,28 @@
+package br.com.arthur.madalena.cepmanager.datasource;
+
+public final class LeituraReplicaContext {
+
+    private static final ThreadLocal<Boolean> ATIVO = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private LeituraReplicaContext() {
+    }
+
+    public static boolean isAtivo() {
+        return ATIVO.get();
+    }
+
+    // Retorna o estado anterior para permitir chamadas aninhadas
+    public static boolean ativar() {
+        boolean anterior = ATIVO.get();
+        ATIVO.set(Boolean.TRUE);
+        return anterior;
+    }
+
+    public static void restaurar(boolean anterior) {
+        if (anterior) {
+            ATIVO.set(Boolean.TRUE);
+        } else {
+            ATIVO.remove();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.arthur.madalena.cepmanager.datasource;
+
+import br.com.arthur.madalena.cepmanager.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder, DisposableBean {
+
+    private static final int TIMEOUT_VERIFICACAO_SEGUNDOS = 2;
+
+    private final List<Replica> replicas;
+    private final ReplicaDataSourceProperties properties;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final AtomicLong leiturasNoPrimario = new AtomicLong();
+
+    public ReplicaLagMonitor(List<Replica> replicas, ReplicaDataSourceProperties properties) {
+        this.replicas = List.copyOf(replicas);
+        this.properties = properties;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // Round-robin entre as réplicas disponíveis; null indica que a leitura deve ir ao primário
+    public Replica selecionar() {
+        int total = replicas.size();
+        if (total > 0) {
+            int inicio = Math.floorMod(proxima.getAndIncrement(), total);
+            for (int i = 0; i < total; i++) {
+                Replica replica = replicas.get((inicio + i) % total);
+                if (replica.isDisponivel()) {
+                    return replica;
+                }
+            }
+        }
+        leiturasNoPrimario.incrementAndGet();
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:5000}")
+    public void verificar() {
+        long lagMaximoMillis = properties.getMaxLag().toMillis();
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(TIMEOUT_VERIFICACAO_SEGUNDOS);
+                try (ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+                    double lag = rs.next() ? rs.getDouble(1) : Double.MAX_VALUE;
+                    boolean disponivel = lag * 1000 <= lagMaximoMillis;
+                    if (replica.isDisponivel() && !disponivel) {
+                        log.warn("Réplica {} com atraso de {}s, leituras voltam para o primário", replica.getNome(), lag);
+                    }
+                    replica.atualizar(lag, disponivel);
+                }
+            } catch (SQLException e) {
+                if (replica.isDisponivel()) {
+                    log.warn("Réplica {} indisponível: {}", replica.getNome(), e.getMessage());
+                }
+                replica.atualizar(Double.NaN, false);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("cep.datasource.replica.lag", replica, Replica::getLagSegundos)
+                    .description("Atraso de replicação da réplica")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getNome())
+                    .register(registry);
+            Gauge.builder("cep.datasource.replica.disponivel", replica, r -> r.isDisponivel() ? 1 : 0)
+                    .description("Indica se a réplica está recebendo leituras")
+                    .tag("replica", replica.getNome())
+                    .register(registry);
+        }
+        FunctionCounter.builder("cep.datasource.replica.fallback", leiturasNoPrimario, AtomicLong::get)
+                .description("Leituras enviadas ao primário por falta de réplica disponível")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Getter
+    public static class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private volatile boolean disponivel;
+        private volatile double lagSegundos = Double.NaN;
+
+        public Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+
+        void atualizar(double lagSegundos, boolean disponivel) {
+            this.lagSegundos = lagSegundos;
+            this.disponivel = disponivel;
+        }
+    }
+}
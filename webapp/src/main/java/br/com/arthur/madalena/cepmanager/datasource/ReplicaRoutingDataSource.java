@@ -0,0 +1,50 @@
+package br.com.arthur.madalena.cepmanager.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Envia para uma réplica apenas transações somente leitura iniciadas por serviços marcados com
+ * {@link LeituraReplica}. Deve ser usado atrás de um LazyConnectionDataSourceProxy para que a
+ * conexão só seja escolhida depois que a transação marcou o readOnly.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARIO = "primario";
+
+    private final DataSource primario;
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaRoutingDataSource(DataSource primario, ReplicaLagMonitor monitor) {
+        this.primario = primario;
+        this.monitor = monitor;
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        monitor.getReplicas().forEach(replica -> destinos.put(replica.getNome(), replica.getDataSource()));
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!LeituraReplicaContext.isAtivo() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARIO;
+        }
+        ReplicaLagMonitor.Replica replica = monitor.selecionar();
+        return replica != null ? replica.getNome() : PRIMARIO;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (primario instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
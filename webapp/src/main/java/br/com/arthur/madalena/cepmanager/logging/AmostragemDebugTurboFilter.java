@@ -0,0 +1,28 @@
+package br.com.arthur.madalena.cepmanager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+/**
+ * Libera o nível DEBUG dos loggers da aplicação apenas nas requisições amostradas,
+ * mesmo com o logger configurado em INFO. Nas demais requisições não interfere.
+ */
+@Getter
+@Setter
+public class AmostragemDebugTurboFilter extends TurboFilter {
+
+    private String prefixo = "br.com.arthur.madalena.cepmanager";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || !AmostragemLog.isAmostrada()) {
+            return FilterReply.NEUTRAL;
+        }
+        return logger.getName().startsWith(prefixo) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.arthur.madalena.cepmanager.logging;
+
+/**
+ * Marca, na thread da requisição, se ela foi sorteada para log de debug.
+ * Consultado pelo AmostragemDebugTurboFilter a cada chamada de log, sem alocação.
+ */
+public final class AmostragemLog {
+
+    private static final ThreadLocal<Boolean> AMOSTRADA = new ThreadLocal<>();
+
+    private AmostragemLog() {
+    }
+
+    public static void marcar() {
+        AMOSTRADA.set(Boolean.TRUE);
+    }
+
+    public static void limpar() {
+        AMOSTRADA.remove();
+    }
+
+    public static boolean isAmostrada() {
+        return AMOSTRADA.get() == Boolean.TRUE;
+    }
+}
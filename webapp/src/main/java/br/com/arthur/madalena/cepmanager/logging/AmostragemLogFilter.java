@@ -0,0 +1,49 @@
+package br.com.arthur.madalena.cepmanager.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Identifica cada requisição no MDC (requestId) e sorteia uma fração delas,
+ * app.logging.amostragem-debug, para registrar os logs de debug da aplicação.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AmostragemLogFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_ID = "requestId";
+
+    private final double taxaAmostragem;
+
+    public AmostragemLogFilter(@Value("${app.logging.amostragem-debug:0}") double taxaAmostragem) {
+        this.taxaAmostragem = taxaAmostragem;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MDC.put(REQUEST_ID, Long.toHexString(random.nextLong()));
+        if (taxaAmostragem > 0 && random.nextDouble() < taxaAmostragem) {
+            AmostragemLog.marcar();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AmostragemLog.limpar();
+            MDC.remove(REQUEST_ID);
+        }
+    }
+}
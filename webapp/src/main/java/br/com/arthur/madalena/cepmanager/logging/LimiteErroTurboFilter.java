@@ -0,0 +1,83 @@
+package br.com.arthur.madalena.cepmanager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita os logs de ERROR a maximoPorSegundo por logger. Os excedentes são descartados
+ * e contados; no segundo seguinte um WARN informa quantos foram suprimidos.
+ */
+@Getter
+@Setter
+public class LimiteErroTurboFilter extends TurboFilter {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(LimiteErroTurboFilter.class);
+
+    private int maximoPorSegundo = 10;
+
+    private final Map<String, Janela> janelas = new ConcurrentHashMap<>();
+    private final LongSupplier relogio;
+
+    public LimiteErroTurboFilter() {
+        this(System::nanoTime);
+    }
+
+    LimiteErroTurboFilter(LongSupplier relogio) {
+        this.relogio = relogio;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isErrorEnabled() também passa por aqui, sem mensagem; só eventos reais contam
+        if (level != Level.ERROR || format == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Janela janela = janelas.computeIfAbsent(logger.getName(), nome -> new Janela());
+        long suprimidos = janela.registrar(relogio.getAsLong() / 1_000_000_000L, maximoPorSegundo);
+        if (suprimidos < 0) {
+            return FilterReply.DENY;
+        }
+        if (suprimidos > 0) {
+            log.warn("{} logs de erro suprimidos em {} no último segundo", suprimidos, logger.getName());
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    static final class Janela {
+
+        private long segundo = Long.MIN_VALUE;
+        private int emitidos;
+        private long suprimidos;
+
+        /**
+         * Retorna -1 quando o evento deve ser descartado; caso contrário, quantos eventos
+         * foram descartados na janela anterior (ainda não informados).
+         */
+        synchronized long registrar(long agora, int maximo) {
+            long anteriores = 0;
+            if (agora != segundo) {
+                anteriores = suprimidos;
+                segundo = agora;
+                emitidos = 0;
+                suprimidos = 0;
+            }
+            if (emitidos >= maximo) {
+                suprimidos++;
+                return -1;
+            }
+            emitidos++;
+            return anteriores;
+        }
+    }
+}
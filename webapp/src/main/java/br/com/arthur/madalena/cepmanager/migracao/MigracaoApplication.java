@@ -0,0 +1,38 @@
+package br.com.arthur.madalena.cepmanager.migracao;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+
+/**
+ * Job único de migração: aplica o changelog do Liquibase e encerra.
+ * Sobe apenas DataSource e Liquibase, sem component scan, JPA, JSF ou servidor web.
+ * Não é @Configuration de propósito, para não ser encontrada pelo component scan da aplicação.
+ * O Liquibase usa a própria conexão (spring.liquibase.url), sem o statement_timeout do pool do Hikari.
+ *
+ * No diretório do jar extraído (target/fast-start, ver README):
+ * java @cep-manager.classpath br.com.arthur.madalena.cepmanager.migracao.MigracaoApplication
+ */
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public class MigracaoApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MigracaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(comLiquibaseHabilitado(args));
+        System.exit(SpringApplication.exit(context));
+    }
+
+    // Argumento de linha de comando prevalece sobre o perfil fast-start, que desliga o Liquibase no pod
+    static String[] comLiquibaseHabilitado(String[] args) {
+        String[] resultado = Arrays.copyOf(args, args.length + 1);
+        resultado[args.length] = "--spring.liquibase.enabled=true";
+        return resultado;
+    }
+}
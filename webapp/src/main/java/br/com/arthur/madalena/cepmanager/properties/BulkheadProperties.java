@@ -0,0 +1,40 @@
+package br.com.arthur.madalena.cepmanager.properties;
+
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.bulkhead")
+@Component
+@Getter
+@Setter
+public class BulkheadProperties {
+    private boolean enabled = true;
+    // Padrões dimensionados para o pool de 10 conexões (ver application.properties)
+    private Limite consulta = new Limite(4, Duration.ofMillis(500));
+    private Limite busca = new Limite(2, Duration.ofMillis(100));
+    private Limite autenticacao = new Limite(2, Duration.ofMillis(200));
+
+    public Limite limite(Carga carga) {
+        return switch (carga) {
+            case CONSULTA -> consulta;
+            case BUSCA -> busca;
+            case AUTENTICACAO -> autenticacao;
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limite {
+        private int maxConcorrentes;
+        private Duration maxEspera;
+    }
+}
@@ -14,6 +14,9 @@ import java.time.Duration;
 public class JwtProperties {
     private String secret;
     private String issuer = "CepFinder";
-    private Duration expireDuration = Duration.ofHours(24);
+    private Duration expireDuration = Duration.ofMinutes(15);
+    private Duration refreshDuration = Duration.ofDays(7);
+    // Tokens verificados mantidos em memória (JwtVerificacaoCache)
+    private int cacheMaxTokens = 10_000;
 }
 
@@ -0,0 +1,24 @@
+package br.com.arthur.madalena.cepmanager.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.limite-adaptativo")
+@Component
+@Getter
+@Setter
+public class LimiteAdaptativoProperties {
+    private boolean enabled = true;
+    private int limiteInicial = 20;
+    private int limiteMinimo = 2;
+    private int limiteMaximo = 200;
+    // Respostas acima desta latência (ou com erro 5xx) indicam sobrecarga e reduzem o limite
+    private Duration latenciaAlvo = Duration.ofMillis(250);
+    // Latência alvo das listagens e pesquisas, que têm limite próprio
+    private Duration latenciaAlvoBusca = Duration.ofMillis(1500);
+    private double fatorReducao = 0.9;
+}
@@ -0,0 +1,45 @@
+package br.com.arthur.madalena.cepmanager.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Component
+@Getter
+@Setter
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxClientes = 100_000;
+    private Plano publico = new Plano(10, Duration.ofMinutes(1));
+    private Plano padrao = new Plano(60, Duration.ofMinutes(1));
+    // Planos por permissão (ROLE_ADMIN, ROLE_USER...); vale o mais generoso entre as permissões do usuário
+    private Map<String, Plano> planos = new LinkedHashMap<>();
+    private List<String> endpointsPublicos = new ArrayList<>(List.of(
+            "/api/auth/login",
+            "/api/auth/refresh",
+            "/api/usuarios/registro",
+            "/api/usuarios/reenviar-verificacao"));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Plano {
+        private int limite;
+        private Duration periodo;
+
+        public double taxaPorSegundo() {
+            return limite / (periodo.toNanos() / 1_000_000_000d);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.arthur.madalena.cepmanager.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limiter GCRA (generic cell rate algorithm), equivalente a um token bucket
+ * com capacidade {@code limite} reabastecido em {@code periodo}.
+ * Cada cliente guarda apenas o instante teórico de chegada (TAT) em um AtomicLong,
+ * atualizado por CAS, sem locks.
+ */
+public class GcraRateLimiter {
+
+    static final String CHAVE_TRANSBORDO = "*";
+
+    private final ConcurrentHashMap<String, AtomicLong> estados;
+    private final int maxChaves;
+    // Com o mapa cheio, clientes novos dividem um único estado até a próxima limpeza
+    private final AtomicLong transbordo = new AtomicLong(Long.MIN_VALUE);
+
+    public GcraRateLimiter(int maxChaves) {
+        this.maxChaves = maxChaves;
+        this.estados = new ConcurrentHashMap<>(Math.min(maxChaves, 4096));
+    }
+
+    /**
+     * Tenta consumir uma requisição do cliente.
+     *
+     * @return 0 se permitida, ou o tempo em nanos até a próxima requisição ser aceita
+     */
+    public long consumir(String chave, int limite, long periodoNanos, long agora) {
+        long intervalo = Math.max(1, periodoNanos / limite);
+        AtomicLong tat = estado(chave, agora);
+        while (true) {
+            long atual = tat.get();
+            long novo = Math.max(atual, agora) + intervalo;
+            long espera = novo - agora - periodoNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (tat.compareAndSet(atual, novo)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Remove clientes com o bucket cheio; recriá-los depois equivale ao estado removido.
+     */
+    public void limpar(long agora) {
+        estados.values().removeIf(tat -> tat.get() <= agora);
+    }
+
+    public int totalClientes() {
+        return estados.size();
+    }
+
+    private AtomicLong estado(String chave, long agora) {
+        AtomicLong tat = estados.get(chave);
+        if (tat != null) {
+            return tat;
+        }
+        if (estados.size() >= maxChaves) {
+            return transbordo;
+        }
+        return estados.computeIfAbsent(chave, k -> new AtomicLong(agora));
+    }
+}
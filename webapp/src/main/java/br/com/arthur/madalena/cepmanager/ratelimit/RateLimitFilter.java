@@ -0,0 +1,113 @@
+package br.com.arthur.madalena.cepmanager.ratelimit;
+
+import br.com.arthur.madalena.cepmanager.properties.RateLimitProperties;
+import br.com.arthur.madalena.cepmanager.properties.RateLimitProperties.Plano;
+import br.com.arthur.madalena.cepmanager.security.PadroesCaminho;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final GcraRateLimiter limiter;
+    private final PadroesCaminho endpointsPublicos;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.limiter = new GcraRateLimiter(properties.getMaxClientes());
+        this.endpointsPublicos = new PadroesCaminho(properties.getEndpointsPublicos());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String chave;
+        Plano plano;
+
+        if (authentication instanceof JwtAuthenticationToken jwt) {
+            Object userId = jwt.getToken().getClaims().get("userId");
+            chave = "u:" + (userId != null ? userId : jwt.getToken().getSubject());
+            plano = planoDoUsuario(authentication);
+        } else if (endpointsPublicos.matches(request)) {
+            chave = "ip:" + request.getRemoteAddr();
+            plano = properties.getPublico();
+        } else {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long espera = limiter.consumir(chave, plano.getLimite(), plano.getPeriodo().toNanos(), System.nanoTime());
+        if (espera > 0) {
+            log.debug("Limite de requisições excedido para {}", chave);
+            enviarLimiteExcedido(response, espera);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval-ms:60000}")
+    public void limparExpirados() {
+        limiter.limpar(System.nanoTime());
+    }
+
+    private Plano planoDoUsuario(Authentication authentication) {
+        Plano melhor = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Plano plano = properties.getPlanos().get(authority.getAuthority());
+            if (plano != null && (melhor == null || plano.taxaPorSegundo() > melhor.taxaPorSegundo())) {
+                melhor = plano;
+            }
+        }
+        return melhor != null ? melhor : properties.getPadrao();
+    }
+
+    private void enviarLimiteExcedido(HttpServletResponse response, long esperaNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.put("error", "Limite de requisições excedido");
+        errorResponse.put("message", "Muitas requisições. Tente novamente em " + retryAfter + " segundo(s).");
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -1,12 +1,17 @@
 package br.com.arthur.madalena.cepmanager.rest;
 
+import br.com.arthur.madalena.cepmanager.properties.JwtProperties;
 import br.com.arthur.madalena.cepmanager.service.AuthenticationService;
+import br.com.arthur.madalena.cepmanager.service.TokensAutenticacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,12 +24,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthRestController {
 
     private final AuthenticationService authenticationService;
+    private final JwtProperties jwtProperties;
 
     @PostMapping("/login")
-    @Operation(summary = "Login", description = "Autentica usuário e retorna token JWT")
+    @Operation(summary = "Login", description = "Autentica usuário e retorna access token JWT e refresh token")
     public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request) {
-        final String token = authenticationService.login(request.getUsername(), request.getPassword());
-        return ResponseEntity.ok(new AuthResponse(token));
+        final TokensAutenticacao tokens = authenticationService.login(request.getUsername(), request.getPassword());
+        return ResponseEntity.ok(toResponse(tokens));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Renovar token", description = "Troca o refresh token por um novo access token e um novo refresh token")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshRequest request) {
+        final TokensAutenticacao tokens = authenticationService.renovar(request.getRefreshToken());
+        return ResponseEntity.ok(toResponse(tokens));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Revoga o access token enviado no header e o refresh token do corpo")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal Jwt jwt,
+                                       @RequestBody(required = false) RefreshRequest request) {
+        authenticationService.logout(jwt, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+
+    private AuthResponse toResponse(TokensAutenticacao tokens) {
+        return new AuthResponse(tokens.accessToken(), tokens.refreshToken(), jwtProperties.getExpireDuration().toSeconds());
     }
 
     @Data
@@ -34,10 +59,18 @@ public class AuthRestController {
         private String password;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class RefreshRequest {
+        private String refreshToken;
+    }
+
     @Data
     @AllArgsConstructor
     static class AuthResponse {
         private String token;
+        private String refreshToken;
+        private long expiresIn;
     }
 }
-
@@ -0,0 +1,39 @@
+package br.com.arthur.madalena.cepmanager.rest;
+
+import br.com.arthur.madalena.cepmanager.cache.CacheSegundoNivel;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Cache", description = "Limpeza dos caches após cargas feitas direto no banco")
+public class CacheRestController {
+
+    private final CacheSegundoNivel cacheSegundoNivel;
+
+    @DeleteMapping("/ceps")
+    @Operation(summary = "Limpar cache de CEPs (ADMIN)",
+               description = "Descarta CEPs, consultas e listas em cache neste nó, após uma recarga em massa")
+    public ResponseEntity<Void> limparCeps() {
+        cacheSegundoNivel.limparCeps();
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/usuarios")
+    @Operation(summary = "Limpar cache de usuários (ADMIN)",
+               description = "Descarta usuários e permissões em cache neste nó, após alterações feitas direto no banco")
+    public ResponseEntity<Void> limparUsuarios() {
+        cacheSegundoNivel.limparUsuarios();
+        return ResponseEntity.noContent().build();
+    }
+}
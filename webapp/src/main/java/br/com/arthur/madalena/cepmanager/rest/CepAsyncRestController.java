@@ -0,0 +1,74 @@
+package br.com.arthur.madalena.cepmanager.rest;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import br.com.arthur.madalena.cepmanager.service.CepService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Variante assíncrona da consulta por código: acertos no cache respondem sem trocar de thread
+ * e as faltas vão para o pool limitado cepLookupExecutor, liberando a thread do Tomcat.
+ */
+@RestController
+@RequestMapping("/api/ceps/async")
+@RequiredArgsConstructor
+@Tag(name = "CEP (assíncrono)", description = "Consultas de CEP por código sem bloquear threads do servidor")
+public class CepAsyncRestController {
+
+    private final CepService cepService;
+    private final ThreadPoolTaskExecutor cepLookupExecutor;
+
+    @GetMapping("/{codigo}")
+    @Operation(summary = "Buscar CEP por código (assíncrono)", description = "Retorna os dados de um CEP, respondendo do cache quando possível")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "CEP encontrado"),
+        @ApiResponse(responseCode = "404", description = "CEP não encontrado"),
+        @ApiResponse(responseCode = "503", description = "Pool de consultas saturado")
+    })
+    public CompletableFuture<ResponseEntity<CepDTO>> findByCodigo(
+            @Parameter(description = "Código do CEP (8 dígitos)", example = "01310100")
+            @PathVariable String codigo) {
+        Optional<CepDTO> emCache = cepService.findByCodigoEmCache(codigo);
+        if (emCache.isPresent()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(emCache.get()));
+        }
+        return executar(() -> ResponseEntity.ok(cepService.findByCodigo(codigo)));
+    }
+
+    @PostMapping("/lote")
+    @Operation(summary = "Buscar vários CEPs (assíncrono)", description = "Retorna, na ordem pedida, os CEPs encontrados entre os códigos informados (máximo 100)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "CEPs encontrados"),
+        @ApiResponse(responseCode = "400", description = "Mais de 100 códigos"),
+        @ApiResponse(responseCode = "503", description = "Pool de consultas saturado")
+    })
+    public CompletableFuture<ResponseEntity<List<CepDTO>>> findByCodigos(@RequestBody List<String> codigos) {
+        Optional<List<CepDTO>> emCache = cepService.findByCodigosEmCache(codigos);
+        if (emCache.isPresent()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(emCache.get()));
+        }
+        return executar(() -> ResponseEntity.ok(cepService.findByCodigos(codigos)));
+    }
+
+    private <T> CompletableFuture<T> executar(Supplier<T> consulta) {
+        try {
+            return CompletableFuture.supplyAsync(consulta, cepLookupExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new SobrecargaException("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package br.com.arthur.madalena.cepmanager.rest;
 
 import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFaixaDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepProximoDTO;
+import br.com.arthur.madalena.cepmanager.dto.CriterioConsultaDTO;
+import br.com.arthur.madalena.cepmanager.dto.OperadorConsulta;
+import br.com.arthur.madalena.cepmanager.service.CepFaixaService;
+import br.com.arthur.madalena.cepmanager.service.CepGeoService;
 import br.com.arthur.madalena.cepmanager.service.CepService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,15 +20,24 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/ceps")
 @RequiredArgsConstructor
 @Tag(name = "CEP", description = "API para gerenciamento de CEPs")
 public class CepRestController {
 
+    private static final Set<String> PARAMETROS_RESERVADOS = Set.of("allowScan", "page", "size", "sort");
+
     private final CepService cepService;
+    private final CepFaixaService cepFaixaService;
+    private final CepGeoService cepGeoService;
 
     @GetMapping("/id/{id}")
     @Operation(summary = "Buscar CEP por ID", description = "Retorna os dados de um CEP específico pelo ID")
@@ -50,6 +65,73 @@ public class CepRestController {
         return ResponseEntity.ok(cep);
     }
 
+    @GetMapping("/faixa/{codigo}")
+    @Operation(summary = "Resolver faixa do CEP", description = "Retorna a UF e, quando conhecida, a cidade da faixa que contém o CEP, mesmo que ele não esteja cadastrado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Faixa encontrada"),
+        @ApiResponse(responseCode = "400", description = "CEP inválido"),
+        @ApiResponse(responseCode = "404", description = "CEP fora das faixas conhecidas")
+    })
+    public ResponseEntity<CepFaixaDTO> findFaixa(
+            @Parameter(description = "Código do CEP (8 dígitos)", example = "01310100")
+            @PathVariable String codigo) {
+        CepFaixaDTO faixa = cepFaixaService.findByCodigo(codigo);
+        return ResponseEntity.ok(faixa);
+    }
+
+    @GetMapping("/range")
+    @Operation(summary = "Buscar CEPs por intervalo", description = "Retorna lista de CEPs cadastrados entre dois códigos (inclusive)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de CEPs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Intervalo inválido")
+    })
+    public ResponseEntity<Page<CepDTO>> findByIntervalo(
+            @Parameter(description = "CEP inicial", example = "01000000")
+            @RequestParam("from") String inicio,
+            @Parameter(description = "CEP final", example = "01999999")
+            @RequestParam("to") String fim,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<CepDTO> ceps = cepService.findByIntervalo(inicio, fim, pageable);
+        return ResponseEntity.ok(ceps);
+    }
+
+    @GetMapping("/proximos")
+    @Operation(summary = "Buscar CEPs próximos", description = "Retorna os CEPs com coordenadas mais próximos do ponto informado, ordenados pela distância")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de CEPs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Coordenadas, raio (máx. 50 km) ou limite (máx. 100) inválidos")
+    })
+    public ResponseEntity<List<CepProximoDTO>> findProximos(
+            @Parameter(description = "Latitude", example = "-23.561414")
+            @RequestParam double lat,
+            @Parameter(description = "Longitude", example = "-46.655881")
+            @RequestParam double lon,
+            @Parameter(description = "Raio em km", example = "5")
+            @RequestParam(defaultValue = "5") double raio,
+            @Parameter(description = "Quantidade máxima de resultados", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<CepProximoDTO> proximos = cepGeoService.findProximos(lat, lon, raio, limit);
+        return ResponseEntity.ok(proximos);
+    }
+
+    @GetMapping("/query")
+    @Operation(summary = "Consulta composta de CEPs",
+            description = "Combina filtros com AND. Use campo=valor para igualdade, campo.prefix=valor para prefixo "
+                    + "e campo.contains=valor para trecho. Campos: codigo, logradouro, bairro, cidade, uf, ibge. "
+                    + "Consultas apenas com contains são recusadas, a menos que allowScan=true")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de CEPs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Filtro inválido ou consulta sem índice utilizável")
+    })
+    public ResponseEntity<Page<CepDTO>> query(
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> parametros,
+            @Parameter(description = "Permite consultas que exigem varredura da tabela")
+            @RequestParam(defaultValue = "false") boolean allowScan,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<CepDTO> ceps = cepService.query(criterios(parametros), allowScan, pageable);
+        return ResponseEntity.ok(ceps);
+    }
+
     @GetMapping("/logradouro/{logradouro}")
     @Operation(summary = "Buscar CEPs por logradouro", description = "Retorna lista de CEPs contendo o logradouro informado")
     @ApiResponses(value = {
@@ -76,6 +158,19 @@ public class CepRestController {
         return ResponseEntity.ok(ceps);
     }
 
+    @GetMapping("/uf/{uf}")
+    @Operation(summary = "Buscar CEPs por UF", description = "Retorna lista de CEPs de um estado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de CEPs retornada com sucesso")
+    })
+    public ResponseEntity<Page<CepDTO>> findByUf(
+            @Parameter(description = "UF (2 caracteres)", example = "SP")
+            @PathVariable String uf,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<CepDTO> ceps = cepService.findByUf(uf, pageable);
+        return ResponseEntity.ok(ceps);
+    }
+
     @GetMapping("/cidade/{cidade}/uf/{uf}")
     @Operation(summary = "Buscar CEPs por cidade e UF", description = "Retorna lista de CEPs de uma cidade específica e UF")
     @ApiResponses(value = {
@@ -150,5 +245,23 @@ public class CepRestController {
         cepService.delete(codigo);
         return ResponseEntity.noContent().build();
     }
-}
 
+    private List<CriterioConsultaDTO> criterios(MultiValueMap<String, String> parametros) {
+        List<CriterioConsultaDTO> criterios = new ArrayList<>();
+        parametros.forEach((chave, valores) -> {
+            if (PARAMETROS_RESERVADOS.contains(chave)) {
+                return;
+            }
+            int ponto = chave.indexOf('.');
+            String campo = ponto < 0 ? chave : chave.substring(0, ponto);
+            OperadorConsulta operador = switch (ponto < 0 ? "eq" : chave.substring(ponto + 1)) {
+                case "eq" -> OperadorConsulta.IGUAL;
+                case "prefix" -> OperadorConsulta.PREFIXO;
+                case "contains" -> OperadorConsulta.CONTEM;
+                default -> throw new IllegalArgumentException("Operador de consulta inválido: " + chave);
+            };
+            valores.forEach(valor -> criterios.add(new CriterioConsultaDTO(campo, operador, valor)));
+        });
+        return criterios;
+    }
+}
@@ -1,15 +1,23 @@
 package br.com.arthur.madalena.cepmanager.rest;
 
+import br.com.arthur.madalena.cepmanager.concorrencia.LimiteAdaptativoFilter;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
 import br.com.arthur.madalena.cepmanager.exception.ResourceNotFoundException;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,6 +27,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -42,6 +51,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(SobrecargaException.class)
+    public ResponseEntity<ErrorResponse> handleSobrecargaException(SobrecargaException ex, HttpServletRequest request) {
+        request.setAttribute(LimiteAdaptativoFilter.ATRIBUTO_REJEICAO_LOCAL, Boolean.TRUE);
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    // Timeout de comando/transação ou pool do Hikari sem conexão livre dentro do connection-timeout
+    @ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class,
+            CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleBancoIndisponivel(Exception ex, HttpServletRequest request) {
+        log.warn("Banco de dados sem capacidade para a requisição: {}", ex.getMessage());
+        request.setAttribute(LimiteAdaptativoFilter.ATRIBUTO_REJEICAO_LOCAL, Boolean.TRUE);
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço temporariamente sobrecarregado. Tente novamente em instantes.",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -103,7 +141,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(NullPointerException.class)
     public ResponseEntity<ErrorResponse> handleNullPointerException(NullPointerException ex) {
-        ex.printStackTrace();
+        log.error("Dados obrigatórios ausentes", ex);
         ErrorResponse error = new ErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Dados obrigatórios não foram fornecidos",
@@ -124,7 +162,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
-        ex.printStackTrace();
+        log.error("Erro não tratado", ex);
         ErrorResponse error = new ErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 "Erro interno do servidor",
@@ -0,0 +1,116 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Cache da verificação do JWT: o mesmo token é reenviado a cada requisição durante a sua validade,
+ * e cada requisição refaria o parse do JSON, o HMAC e os validadores de claims.
+ * A chave é o SHA-256 do token; o valor, o Jwt já validado e as authorities convertidas, até o exp.
+ * A revogação é consultada em toda requisição, com ou sem cache, na ListaRevogacao em memória.
+ */
+public class JwtVerificacaoCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final AuthenticationProvider delegate;
+    private final Cache<ChaveToken, JwtAuthenticationToken> cache;
+    private final ListaRevogacao listaRevogacao;
+
+    public JwtVerificacaoCache(AuthenticationProvider delegate, ListaRevogacao listaRevogacao, int maxTokens, Clock clock) {
+        this.delegate = delegate;
+        this.listaRevogacao = listaRevogacao;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxTokens)
+                .expireAfter(new AteExpiracao(clock))
+                .recordStats()
+                .build();
+    }
+
+    public Authentication autenticar(Authentication authentication) {
+        BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
+        ChaveToken chave = ChaveToken.de(bearer.getToken());
+
+        JwtAuthenticationToken emCache = cache.getIfPresent(chave);
+        if (emCache != null) {
+            verificarRevogacao(emCache.getToken());
+            // Instância nova por requisição: os details são da requisição atual
+            JwtAuthenticationToken resultado = new JwtAuthenticationToken(emCache.getToken(), emCache.getAuthorities(), emCache.getName());
+            resultado.setDetails(bearer.getDetails());
+            return resultado;
+        }
+
+        Authentication autenticado = delegate.authenticate(bearer);
+        if (autenticado instanceof JwtAuthenticationToken jwtAuthentication) {
+            verificarRevogacao(jwtAuthentication.getToken());
+            if (jwtAuthentication.getToken().getExpiresAt() != null) {
+                cache.put(chave, jwtAuthentication);
+            }
+        }
+        return autenticado;
+    }
+
+    public Cache<ChaveToken, JwtAuthenticationToken> getCache() {
+        return cache;
+    }
+
+    private void verificarRevogacao(Jwt jwt) {
+        if (listaRevogacao.isRevogado(jwt)) {
+            throw new InvalidBearerTokenException("Token revogado");
+        }
+    }
+
+    record ChaveToken(long p0, long p1, long p2, long p3) {
+
+        static ChaveToken de(String token) {
+            MessageDigest digest = SHA256.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new ChaveToken(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
+    private static final class AteExpiracao implements Expiry<ChaveToken, JwtAuthenticationToken> {
+
+        private final Clock clock;
+
+        private AteExpiracao(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(ChaveToken chave, JwtAuthenticationToken token, long currentTime) {
+            Duration restante = Duration.between(clock.instant(), token.getToken().getExpiresAt());
+            return restante.isNegative() ? 0 : restante.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ChaveToken chave, JwtAuthenticationToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(chave, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ChaveToken chave, JwtAuthenticationToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import br.com.arthur.madalena.cepmanager.dao.TokenRevogadoDAO;
+import br.com.arthur.madalena.cepmanager.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Remove do banco as revogações e refresh tokens já expirados. Fica na webapp: a lookup-api só lê
+ * token_revogado para manter a própria ListaRevogacao.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LimpezaRevogacoes {
+
+    private final TokenRevogadoDAO tokenRevogadoDAO;
+    private final RefreshTokenService refreshTokenService;
+
+    @Scheduled(fixedDelayString = "${app.revogacao.cleanup-interval-ms:60000}")
+    @Transactional
+    public void removerExpirados() {
+        int tokens = tokenRevogadoDAO.deleteExpirados(Instant.now());
+        int refreshTokens = refreshTokenService.removerExpirados();
+        log.debug("Revogações expiradas removidas: {} access tokens, {} refresh tokens", tokens, refreshTokens);
+    }
+}
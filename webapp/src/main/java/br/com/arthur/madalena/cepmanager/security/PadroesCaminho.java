@@ -0,0 +1,64 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Padrões de caminho (sintaxe PathPattern: /api/**, /pages/{id}) compilados uma única vez.
+ * Caminhos literais são resolvidos num HashSet; só os padrões com curinga são percorridos.
+ * O caminho comparado é o da aplicação, sem o context path.
+ */
+public final class PadroesCaminho implements RequestMatcher {
+
+    private final Set<String> literais = new HashSet<>();
+    private final List<PathPattern> padroes = new ArrayList<>();
+
+    public PadroesCaminho(String... padroes) {
+        this(List.of(padroes));
+    }
+
+    public PadroesCaminho(Collection<String> padroes) {
+        PathPatternParser parser = new PathPatternParser();
+        for (String padrao : padroes) {
+            if (isLiteral(padrao)) {
+                literais.add(padrao);
+            } else {
+                this.padroes.add(parser.parse(padrao));
+            }
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return corresponde(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    public boolean corresponde(String caminho) {
+        if (literais.contains(caminho)) {
+            return true;
+        }
+        if (padroes.isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(caminho);
+        for (PathPattern padrao : padroes) {
+            if (padrao.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(String padrao) {
+        return padrao.indexOf('*') < 0 && padrao.indexOf('{') < 0 && padrao.indexOf('?') < 0;
+    }
+}
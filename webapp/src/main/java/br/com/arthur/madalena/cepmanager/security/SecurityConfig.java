@@ -1,5 +1,7 @@
 package br.com.arthur.madalena.cepmanager.security;
 
+import br.com.arthur.madalena.cepmanager.properties.JwtProperties;
+import br.com.arthur.madalena.cepmanager.ratelimit.RateLimitFilter;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
@@ -18,10 +20,12 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.web.SecurityFilterChain;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.time.Clock;
 
 @Configuration
 @EnableWebSecurity
@@ -44,26 +48,30 @@ public class SecurityConfig {
             "/registro.xhtml",
             "/verificar-email.xhtml",
             "/pages/registro/**",
-            "/pages/verificacao/**"
+            "/pages/verificacao/**",
+            "/actuator/health"
     };
 
+    // Compilado uma vez; usado pela cadeia de segurança a cada requisição
+    public static final PadroesCaminho ENDPOINTS_PUBLICOS = new PadroesCaminho(PUBLIC_ENDPOINTS);
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, UsuarioAtivoFilter usuarioAtivoFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimitFilter rateLimitFilter,
+                                                   JwtVerificacaoCache jwtVerificacaoCache) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(ENDPOINTS_PUBLICOS).permitAll()
                         .requestMatchers("/api/**").authenticated()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
                 )
                 .oauth2ResourceServer(oauth2 -> {
-                    oauth2.jwt(jwt -> jwt
-                        .decoder(jwtDecoder())
-                        .jwtAuthenticationConverter(jwtAuthenticationConverter())
-                    );
+                    // Decoder e converter rodam apenas na primeira vez que cada token é visto
+                    oauth2.jwt(jwt -> jwt.authenticationManager(jwtVerificacaoCache::autenticar));
                     oauth2.authenticationEntryPoint((request, response, authException) -> {
                         response.setContentType("application/json;charset=UTF-8");
                         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -84,7 +92,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .addFilterAfter(usuarioAtivoFilter, org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter.class)
+                // Usuário inativo não é consultado no banco por requisição: a desativação revoga os tokens (ListaRevogacao)
+                .addFilterAfter(rateLimitFilter, org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter.class)
                 .exceptionHandling(exceptions -> exceptions
                         .authenticationEntryPoint((request, response, authException) -> {
                             response.setContentType("application/json;charset=UTF-8");
@@ -119,6 +128,13 @@ public class SecurityConfig {
         return NimbusJwtDecoder.withSecretKey(key).build();
     }
     
+    @Bean
+    public JwtVerificacaoCache jwtVerificacaoCache(JwtProperties jwtProperties, ListaRevogacao listaRevogacao) {
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(jwtDecoder());
+        provider.setJwtAuthenticationConverter(jwtAuthenticationConverter());
+        return new JwtVerificacaoCache(provider, listaRevogacao, jwtProperties.getCacheMaxTokens(), Clock.systemUTC());
+    }
+
     @Bean
     public org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter jwtAuthenticationConverter() {
         org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = 
@@ -24,7 +24,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Usuario usuario = usuarioDAO.findByUsername(username)
+        Usuario usuario = usuarioDAO.findByUsernameSemCache(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
         
         if (!usuario.getAtivo()) {
@@ -39,7 +39,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     }
 
     public Optional<Usuario> findByUsername(String username) {
-        return usuarioDAO.findByUsername(username);
+        return usuarioDAO.findByUsernameSemCache(username);
     }
 
     public Usuario createUser(@Valid RegistroUsuarioDTO dto) {
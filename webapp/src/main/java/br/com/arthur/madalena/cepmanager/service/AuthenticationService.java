@@ -1,13 +1,17 @@
 package br.com.arthur.madalena.cepmanager.service;
 
+import br.com.arthur.madalena.cepmanager.bulkhead.Bulkhead;
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
 import br.com.arthur.madalena.cepmanager.dto.RegistroUsuarioDTO;
 import br.com.arthur.madalena.cepmanager.entity.Usuario;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
+import br.com.arthur.madalena.cepmanager.security.ListaRevogacao;
 import br.com.arthur.madalena.cepmanager.security.UserDetailsServiceImpl;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -20,42 +24,60 @@ public class AuthenticationService {
     private final UserDetailsServiceImpl userDetailsService;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final ListaRevogacao listaRevogacao;
 
-    public String login(String username, String password) {
-        log.info("Tentando login para username: {}", username);
+    @Bulkhead(Carga.AUTENTICACAO)
+    public TokensAutenticacao login(String username, String password) {
+        log.debug("Tentando login para username: {}", username);
         
         final Usuario usuario = userDetailsService.findByUsername(username)
                 .orElseThrow(() -> {
-                    log.error("Usuário não encontrado: {}", username);
+                    log.warn("Usuário não encontrado: {}", username);
                     return new BusinessException("Credenciais incorretas");
                 });
         
-        log.info("Usuário encontrado: {}", usuario.getUsername());
-        log.debug("Password fornecida: {}", password);
-        log.debug("Password no banco: {}", usuario.getPassword());
-        
-        boolean matches = passwordEncoder.matches(password, usuario.getPassword());
-        log.info("Password matches: {}", matches);
-
-        if (!matches) {
-            log.error("Senha incorreta para usuário: {}", username);
+        if (!passwordEncoder.matches(password, usuario.getPassword())) {
+            log.warn("Senha incorreta para usuário: {}", username);
             throw new BusinessException("Credenciais incorretas");
         }
 
         if (!usuario.getAtivo()) {
-            log.error("Usuário inativo: {}", username);
+            log.warn("Usuário inativo: {}", username);
             throw new BusinessException("Usuário inativo");
         }
 
         if (!usuario.getEmailVerificado()) {
-            log.error("Email não verificado para usuário: {}", username);
+            log.warn("Email não verificado para usuário: {}", username);
             throw new BusinessException("Email não verificado");
         }
 
-        log.info("Login bem-sucedido para usuário: {}", username);
-        return jwtService.encode(usuario);
+        log.debug("Login bem-sucedido para usuário: {}", username);
+        return new TokensAutenticacao(jwtService.encode(usuario), refreshTokenService.criar(usuario));
+    }
+
+    /**
+     * Novo access token com as permissões atuais do usuário; o refresh token informado deixa de valer.
+     */
+    @Bulkhead(Carga.AUTENTICACAO)
+    public TokensAutenticacao renovar(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Refresh token é obrigatório");
+        }
+        final RefreshTokenService.Rotacao rotacao = refreshTokenService.rotacionar(refreshToken);
+        return new TokensAutenticacao(jwtService.encode(rotacao.usuario()), rotacao.refreshToken());
+    }
+
+    public void logout(Jwt jwt, String refreshToken) {
+        if (jwt != null) {
+            listaRevogacao.revogarToken(jwt);
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revogar(refreshToken);
+        }
     }
 
+    @Bulkhead(Carga.AUTENTICACAO)
     public String register(@Valid RegistroUsuarioDTO dto) {
         userDetailsService.findByUsername(dto.getUsername()).ifPresent(usuario -> {
             throw new BusinessException("Usuário já existe");
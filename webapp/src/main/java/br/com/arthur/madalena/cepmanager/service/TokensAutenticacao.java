@@ -0,0 +1,4 @@
+package br.com.arthur.madalena.cepmanager.service;
+
+public record TokensAutenticacao(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,113 @@
+package br.com.arthur.madalena.cepmanager.beans;
+
+import br.com.arthur.madalena.cepmanager.dto.CepDTO;
+import br.com.arthur.madalena.cepmanager.dto.CepFiltroDTO;
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import br.com.arthur.madalena.cepmanager.service.CepService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CepLazyDataModelTest {
+
+    @Mock
+    private CepService cepService;
+
+    private CepFiltroDTO filtro;
+    private CepLazyDataModel model;
+
+    @BeforeEach
+    void setUp() {
+        filtro = new CepFiltroDTO(null, "Paulista", null, null, "SP", null);
+        model = new CepLazyDataModel(cepService, filtro);
+    }
+
+    @Test
+    void deveContarUmaVezPorPesquisa() {
+        when(cepService.countByFiltro(filtro)).thenReturn(42L);
+
+        assertThat(model.count(Map.of())).isEqualTo(42);
+        assertThat(model.count(Map.of())).isEqualTo(42);
+        verify(cepService, times(1)).countByFiltro(filtro);
+    }
+
+    @Test
+    void deveCarregarPaginaDoBanco() {
+        when(cepService.findByFiltro(eq(filtro), any(Pageable.class))).thenReturn(List.of(cep(1L)));
+
+        List<CepDTO> pagina = model.load(30, 15, Map.of(), Map.of());
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(cepService).findByFiltro(eq(filtro), captor.capture());
+        assertThat(pagina).hasSize(1);
+        assertThat(captor.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(captor.getValue().getPageSize()).isEqualTo(15);
+        assertThat(captor.getValue().getSort()).isEqualTo(Sort.by("codigo"));
+    }
+
+    @Test
+    void deveRepassarOrdenacaoDaTabela() {
+        when(cepService.findByFiltro(eq(filtro), any(Pageable.class))).thenReturn(List.of());
+        SortMeta sortMeta = SortMeta.builder().field("logradouro").order(SortOrder.DESCENDING).build();
+
+        model.load(0, 15, Map.of("logradouro", sortMeta), Map.of());
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(cepService).findByFiltro(eq(filtro), captor.capture());
+        assertThat(captor.getValue().getSort()).isEqualTo(Sort.by(Sort.Order.desc("logradouro")));
+    }
+
+    @Test
+    void deveLocalizarLinhaSelecionadaNaPaginaAtual() {
+        CepDTO cep = cep(7L);
+        when(cepService.findByFiltro(eq(filtro), any(Pageable.class))).thenReturn(List.of(cep(6L), cep));
+
+        model.load(0, 15, Map.of(), Map.of());
+
+        assertThat(model.getRowKey(cep)).isEqualTo("7");
+        assertThat(model.getRowData("7")).isSameAs(cep);
+        assertThat(model.getRowData("99")).isNull();
+    }
+
+    @Test
+    void deveMostrarTabelaVaziaQuandoBuscaSobrecarregada() {
+        when(cepService.findByFiltro(eq(filtro), any(Pageable.class)))
+                .thenThrow(new SobrecargaException("Serviço temporariamente sobrecarregado. Tente novamente em instantes."));
+
+        assertThat(model.load(0, 15, Map.of(), Map.of())).isEmpty();
+        assertThat(model.getRowData("1")).isNull();
+    }
+
+    @Test
+    void deveContarDeNovoDepoisDeSobrecarga() {
+        when(cepService.countByFiltro(filtro))
+                .thenThrow(new SobrecargaException("Serviço temporariamente sobrecarregado. Tente novamente em instantes."))
+                .thenReturn(42L);
+
+        assertThat(model.count(Map.of())).isZero();
+        assertThat(model.count(Map.of())).isEqualTo(42);
+    }
+
+    private CepDTO cep(Long id) {
+        CepDTO cep = new CepDTO();
+        cep.setId(id);
+        cep.setCodigo(String.format("%08d", 1310100 + id));
+        return cep;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+import br.com.arthur.madalena.cepmanager.exception.SobrecargaException;
+import br.com.arthur.madalena.cepmanager.properties.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadAspectTest {
+
+    private BulkheadRegistry registry;
+    private Servico servico;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setBusca(new BulkheadProperties.Limite(1, Duration.ZERO));
+        registry = new BulkheadRegistry(properties);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Servico());
+        factory.addAspect(new BulkheadAspect(registry));
+        servico = factory.getProxy();
+    }
+
+    @Test
+    void deveRejeitarBuscaQuandoBulkheadSaturado() throws Exception {
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Thread thread = new Thread(() -> servico.buscar(emExecucao, liberar));
+        thread.start();
+        assertThat(emExecucao.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> servico.buscar(new CountDownLatch(1), new CountDownLatch(0)))
+                    .isInstanceOf(SobrecargaException.class);
+            // Consultas ficam em outro compartimento e não são afetadas
+            assertThat(servico.consultar()).isEqualTo("ok");
+        } finally {
+            liberar.countDown();
+            thread.join();
+        }
+
+        assertThat(registry.get(Carga.BUSCA).getAtivas()).isZero();
+        assertThat(registry.get(Carga.BUSCA).getRejeitadas()).isEqualTo(1);
+    }
+
+    @Test
+    void deveLiberarVagaQuandoMetodoLancaExcecao() {
+        assertThatThrownBy(() -> servico.falhar()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get(Carga.BUSCA).getAtivas()).isZero();
+    }
+
+    @Test
+    void deveRegistrarMetricasPorCarga() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        registry.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("cep.bulkhead.limite").tag("carga", "busca").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cep.bulkhead.saturacao").tag("carga", "consulta").gauge().value()).isZero();
+        assertThat(meterRegistry.get("cep.bulkhead.rejeitadas").tag("carga", "autenticacao").functionCounter().count()).isZero();
+    }
+
+    static class Servico {
+
+        @Bulkhead(Carga.BUSCA)
+        public void buscar(CountDownLatch emExecucao, CountDownLatch liberar) {
+            emExecucao.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Bulkhead(Carga.CONSULTA)
+        public String consultar() {
+            return "ok";
+        }
+
+        @Bulkhead(Carga.BUSCA)
+        public void falhar() {
+            throw new IllegalStateException("falha");
+        }
+    }
+}
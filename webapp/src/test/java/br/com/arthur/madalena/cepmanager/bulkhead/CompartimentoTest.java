@@ -0,0 +1,46 @@
+package br.com.arthur.madalena.cepmanager.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompartimentoTest {
+
+    @Test
+    void deveRejeitarImediatamenteQuandoCheioSemEspera() {
+        Compartimento compartimento = new Compartimento(Carga.BUSCA, 2, Duration.ZERO);
+
+        assertThat(compartimento.entrar()).isTrue();
+        assertThat(compartimento.entrar()).isTrue();
+        assertThat(compartimento.entrar()).isFalse();
+
+        assertThat(compartimento.getAtivas()).isEqualTo(2);
+        assertThat(compartimento.getSaturacao()).isEqualTo(1.0);
+        assertThat(compartimento.getRejeitadas()).isEqualTo(1);
+    }
+
+    @Test
+    void deveLiberarVagaAoSair() {
+        Compartimento compartimento = new Compartimento(Carga.CONSULTA, 1, Duration.ZERO);
+        compartimento.entrar();
+
+        compartimento.sair();
+
+        assertThat(compartimento.getAtivas()).isZero();
+        assertThat(compartimento.entrar()).isTrue();
+    }
+
+    @Test
+    void deveDesistirAposTempoMaximoDeEspera() {
+        Compartimento compartimento = new Compartimento(Carga.AUTENTICACAO, 1, Duration.ofMillis(20));
+        compartimento.entrar();
+
+        long inicio = System.nanoTime();
+        boolean entrou = compartimento.entrar();
+
+        assertThat(entrou).isFalse();
+        assertThat(System.nanoTime() - inicio).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.arthur.madalena.cepmanager.cache;
+
+import br.com.arthur.madalena.cepmanager.dao.CepAlteracaoDAO;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LimpezaAlteracoesCepTest {
+
+    @Test
+    void deveRemoverAlteracoesForaDaRetencao() {
+        CepAlteracaoDAO cepAlteracaoDAO = mock(CepAlteracaoDAO.class);
+        Instant antes = Instant.now();
+
+        new LimpezaAlteracoesCep(cepAlteracaoDAO).removerAntigas();
+
+        ArgumentCaptor<Instant> limite = ArgumentCaptor.forClass(Instant.class);
+        verify(cepAlteracaoDAO).deleteAnteriores(limite.capture());
+        assertThat(limite.getValue()).isBetween(antes.minus(LimpezaAlteracoesCep.RETENCAO), Instant.now().minus(LimpezaAlteracoesCep.RETENCAO));
+    }
+}
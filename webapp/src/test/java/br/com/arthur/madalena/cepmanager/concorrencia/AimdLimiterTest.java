@@ -0,0 +1,71 @@
+package br.com.arthur.madalena.cepmanager.concorrencia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long ALVO = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long RAPIDA = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long LENTA = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void deveRejeitarAcimaDoLimite() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, ALVO, 0.5);
+
+        assertThat(limiter.adquirir()).isTrue();
+        assertThat(limiter.adquirir()).isTrue();
+        assertThat(limiter.adquirir()).isFalse();
+        assertThat(limiter.getEmExecucao()).isEqualTo(2);
+    }
+
+    @Test
+    void deveAumentarLimiteComRespostasRapidasEmUso() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, ALVO, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.adquirir();
+            limiter.liberar(RAPIDA, false, 2);
+        }
+
+        assertThat(limiter.getLimite()).isEqualTo(3);
+    }
+
+    @Test
+    void naoDeveAumentarLimiteOcioso() {
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, ALVO, 0.5);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.adquirir();
+            limiter.liberar(RAPIDA, false, 1);
+        }
+
+        assertThat(limiter.getLimite()).isEqualTo(10);
+    }
+
+    @Test
+    void deveReduzirLimiteComLatenciaAltaOuErro() {
+        AimdLimiter limiter = new AimdLimiter(8, 1, 10, ALVO, 0.5);
+
+        limiter.adquirir();
+        limiter.liberar(LENTA, false, 8);
+        assertThat(limiter.getLimite()).isEqualTo(4);
+
+        limiter.adquirir();
+        limiter.liberar(RAPIDA, true, 4);
+        assertThat(limiter.getLimite()).isEqualTo(2);
+    }
+
+    @Test
+    void deveRespeitarLimiteMinimo() {
+        AimdLimiter limiter = new AimdLimiter(2, 2, 10, ALVO, 0.5);
+
+        limiter.adquirir();
+        limiter.liberar(LENTA, false, 2);
+
+        assertThat(limiter.getLimite()).isEqualTo(2);
+    }
+}
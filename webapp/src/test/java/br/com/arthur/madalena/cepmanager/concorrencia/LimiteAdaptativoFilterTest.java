@@ -0,0 +1,136 @@
+package br.com.arthur.madalena.cepmanager.concorrencia;
+
+import br.com.arthur.madalena.cepmanager.bulkhead.Carga;
+import br.com.arthur.madalena.cepmanager.properties.LimiteAdaptativoProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimiteAdaptativoFilterTest {
+
+    private LimiteAdaptativoProperties properties;
+    private LimiteAdaptativoFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LimiteAdaptativoProperties();
+        properties.setLimiteInicial(1);
+        properties.setLimiteMinimo(1);
+        filter = new LimiteAdaptativoFilter(properties, new ObjectMapper());
+    }
+
+    @Test
+    void deveRetornar503QuandoLimiteAtingido() throws Exception {
+        filter.getLimiter(Carga.CONSULTA).adquirir();
+
+        MockHttpServletResponse response = executar("/cep-manager/api/ceps/01310100");
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+    }
+
+    @Test
+    void deveLiberarVagaAoFimDaRequisicao() throws Exception {
+        MockHttpServletResponse response = executar("/cep-manager/api/ceps/01310100");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.getLimiter(Carga.CONSULTA).getEmExecucao()).isZero();
+    }
+
+    @Test
+    void naoDeveLimitarOutrosEndpoints() throws Exception {
+        filter.getLimiter(Carga.CONSULTA).adquirir();
+
+        assertThat(executar("/cep-manager/api/usuarios").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void deveSepararLimitesDeConsultaEBusca() throws Exception {
+        filter.getLimiter(Carga.CONSULTA).adquirir();
+
+        assertThat(executar("/cep-manager/api/ceps/search").getStatus()).isEqualTo(200);
+        assertThat(executar("/cep-manager/api/ceps/cidade/Campinas/uf/SP").getStatus()).isEqualTo(200);
+        assertThat(executar("/cep-manager/api/ceps/01310100").getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void deveClassificarRequisicoesPorCarga() {
+        assertThat(filter.classificar(requisicao("GET", "/cep-manager/api/ceps"))).isEqualTo(Carga.BUSCA);
+        assertThat(filter.classificar(requisicao("POST", "/cep-manager/api/ceps"))).isEqualTo(Carga.CONSULTA);
+        assertThat(filter.classificar(requisicao("GET", "/cep-manager/api/ceps/uf/SP"))).isEqualTo(Carga.BUSCA);
+        assertThat(filter.classificar(requisicao("GET", "/cep-manager/api/ceps/faixa/01310100"))).isEqualTo(Carga.CONSULTA);
+        assertThat(filter.classificar(requisicao("GET", "/cep-manager/api/ceps/async/01310100"))).isEqualTo(Carga.CONSULTA);
+    }
+
+    @Test
+    void naoDeveReduzirLimiteComRejeicaoDaPropriaAplicacao() throws Exception {
+        properties.setLimiteInicial(10);
+        filter = new LimiteAdaptativoFilter(properties, new ObjectMapper());
+
+        executar("/cep-manager/api/ceps/01310100", (req, res) -> {
+            req.setAttribute(LimiteAdaptativoFilter.ATRIBUTO_REJEICAO_LOCAL, Boolean.TRUE);
+            ((HttpServletResponse) res).setStatus(503);
+        });
+
+        assertThat(filter.getLimiter(Carga.CONSULTA).getLimite()).isEqualTo(10);
+        assertThat(filter.getLimiter(Carga.CONSULTA).getEmExecucao()).isZero();
+    }
+
+    @Test
+    void deveReduzirLimiteComErroDoServidor() throws Exception {
+        properties.setLimiteInicial(10);
+        filter = new LimiteAdaptativoFilter(properties, new ObjectMapper());
+
+        executar("/cep-manager/api/ceps/01310100", (req, res) -> ((HttpServletResponse) res).setStatus(500));
+
+        assertThat(filter.getLimiter(Carga.CONSULTA).getLimite()).isEqualTo(9);
+    }
+
+    @Test
+    void deveDescontarEsperaNoBulkheadDaLatencia() throws Exception {
+        properties.setLimiteInicial(10);
+        properties.setLatenciaAlvo(Duration.ofNanos(1));
+        filter = new LimiteAdaptativoFilter(properties, new ObjectMapper());
+
+        executar("/cep-manager/api/ceps/01310100",
+                (req, res) -> req.setAttribute(LimiteAdaptativoFilter.ATRIBUTO_ESPERA_BULKHEAD, Long.MAX_VALUE));
+
+        assertThat(filter.getLimiter(Carga.CONSULTA).getLimite()).isEqualTo(10);
+    }
+
+    @Test
+    void deveExporLimiteComoMetrica() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+
+        assertThat(registry.get("cep.limite.adaptativo").tag("carga", "consulta").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("cep.limite.adaptativo").tag("carga", "busca").gauge().value()).isEqualTo(1.0);
+    }
+
+    private MockHttpServletResponse executar(String uri) throws Exception {
+        return executar(uri, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse executar(String uri, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(requisicao("GET", uri), response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest requisicao(String metodo, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, uri);
+        request.setContextPath("/cep-manager");
+        return request;
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.arthur.madalena.cepmanager.datasource;
+
+import br.com.arthur.madalena.cepmanager.properties.ReplicaDataSourceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaDataSourceProperties properties;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primario = criarBanco("primario");
+        DataSource replica = criarBanco("replica");
+
+        properties = new ReplicaDataSourceProperties();
+        properties.setLagQuery("SELECT 0");
+        properties.setMaxLag(Duration.ofSeconds(5));
+        monitor = new ReplicaLagMonitor(List.of(new ReplicaLagMonitor.Replica("replica-0", replica)), properties);
+        monitor.verificar();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primario, monitor);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void deveEnviarLeituraDoCepServiceParaReplica() {
+        assertThat(consultarOrigem(true, true)).isEqualTo("replica");
+    }
+
+    @Test
+    void deveManterEscritaNoPrimario() {
+        assertThat(consultarOrigem(false, true)).isEqualTo("primario");
+    }
+
+    @Test
+    void deveManterLeituraSemMarcacaoNoPrimario() {
+        assertThat(consultarOrigem(true, false)).isEqualTo("primario");
+    }
+
+    @Test
+    void deveVoltarParaPrimarioQuandoReplicaAtrasada() {
+        properties.setLagQuery("SELECT 60");
+        monitor.verificar();
+
+        assertThat(consultarOrigem(true, true)).isEqualTo("primario");
+    }
+
+    @Test
+    void deveVoltarParaPrimarioQuandoReplicaInacessivel() {
+        properties.setLagQuery("SELECT * FROM tabela_inexistente");
+        monitor.verificar();
+
+        assertThat(monitor.getReplicas().get(0).isDisponivel()).isFalse();
+        assertThat(consultarOrigem(true, true)).isEqualTo("primario");
+    }
+
+    @Test
+    void deveRestaurarContextoAposChamada() {
+        boolean anterior = LeituraReplicaContext.ativar();
+        LeituraReplicaContext.restaurar(anterior);
+
+        assertThat(LeituraReplicaContext.isAtivo()).isFalse();
+    }
+
+    private String consultarOrigem(boolean readOnly, boolean leituraReplica) {
+        transactionTemplate.setReadOnly(readOnly);
+        boolean anterior = leituraReplica ? LeituraReplicaContext.ativar() : LeituraReplicaContext.isAtivo();
+        try {
+            return transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class));
+        } finally {
+            LeituraReplicaContext.restaurar(anterior);
+        }
+    }
+
+    private DataSource criarBanco(String nome) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS origem (nome VARCHAR(20))");
+        jdbc.execute("DELETE FROM origem");
+        jdbc.update("INSERT INTO origem (nome) VALUES (?)", nome);
+        return dataSource;
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.arthur.madalena.cepmanager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmostragemDebugTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final AmostragemDebugTurboFilter filter = new AmostragemDebugTurboFilter();
+
+    @AfterEach
+    void tearDown() {
+        AmostragemLog.limpar();
+    }
+
+    @Test
+    void deveLiberarDebugDaAplicacaoNaRequisicaoAmostrada() {
+        AmostragemLog.marcar();
+
+        assertThat(decidir("br.com.arthur.madalena.cepmanager.service.CepServiceImpl", Level.DEBUG))
+                .isEqualTo(FilterReply.ACCEPT);
+    }
+
+    @Test
+    void naoDeveInterferirSemAmostragem() {
+        assertThat(decidir("br.com.arthur.madalena.cepmanager.service.CepServiceImpl", Level.DEBUG))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void naoDeveLiberarDebugDeFrameworksNemTrace() {
+        AmostragemLog.marcar();
+
+        assertThat(decidir("org.springframework.web", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir("br.com.arthur.madalena.cepmanager.service.CepServiceImpl", Level.TRACE))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decidir(String logger, Level level) {
+        return filter.decide(null, context.getLogger(logger), level, "mensagem", null, null);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.arthur.madalena.cepmanager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimiteErroTurboFilterTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private final LoggerContext context = new LoggerContext();
+    private LimiteErroTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LimiteErroTurboFilter(agora::get);
+        filter.setMaximoPorSegundo(2);
+        logger = context.getLogger("br.com.arthur.madalena.cepmanager.Teste");
+    }
+
+    @Test
+    void deveDescartarErrosAcimaDoLimiteNoMesmoSegundo() {
+        assertThat(decidir(Level.ERROR, "falha")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir(Level.ERROR, "falha")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir(Level.ERROR, "falha")).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void deveLiberarNovamenteNoSegundoSeguinte() {
+        decidir(Level.ERROR, "falha");
+        decidir(Level.ERROR, "falha");
+        assertThat(decidir(Level.ERROR, "falha")).isEqualTo(FilterReply.DENY);
+
+        agora.addAndGet(1_000_000_000L);
+
+        assertThat(decidir(Level.ERROR, "falha")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void naoDeveLimitarOutrosNiveisNemVerificacaoDeNivel() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(decidir(Level.WARN, "aviso")).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decidir(Level.ERROR, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void deveContarLimitePorLogger() {
+        Logger outro = context.getLogger("br.com.arthur.madalena.cepmanager.Outro");
+        decidir(Level.ERROR, "falha");
+        decidir(Level.ERROR, "falha");
+
+        assertThat(filter.decide(null, outro, Level.ERROR, "falha", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void deveInformarSuprimidosDaJanelaAnterior() {
+        LimiteErroTurboFilter.Janela janela = new LimiteErroTurboFilter.Janela();
+
+        assertThat(janela.registrar(0, 1)).isZero();
+        assertThat(janela.registrar(0, 1)).isEqualTo(-1);
+        assertThat(janela.registrar(0, 1)).isEqualTo(-1);
+        assertThat(janela.registrar(1, 1)).isEqualTo(2);
+        assertThat(janela.registrar(2, 1)).isZero();
+    }
+
+    private FilterReply decidir(Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
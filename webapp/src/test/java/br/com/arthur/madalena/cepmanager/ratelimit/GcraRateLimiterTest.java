@@ -0,0 +1,65 @@
+package br.com.arthur.madalena.cepmanager.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+
+    private static final long MINUTO = TimeUnit.MINUTES.toNanos(1);
+    private static final long INTERVALO = MINUTO / 3;
+
+    @Test
+    void devePermitirRajadaAteOLimite() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10);
+
+        assertThat(limiter.consumir("a", 3, MINUTO, 0)).isZero();
+        assertThat(limiter.consumir("a", 3, MINUTO, 0)).isZero();
+        assertThat(limiter.consumir("a", 3, MINUTO, 0)).isZero();
+        assertThat(limiter.consumir("a", 3, MINUTO, 0)).isEqualTo(INTERVALO);
+    }
+
+    @Test
+    void deveLiberarNovaRequisicaoAposOIntervalo() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10);
+        for (int i = 0; i < 3; i++) {
+            limiter.consumir("a", 3, MINUTO, 0);
+        }
+
+        assertThat(limiter.consumir("a", 3, MINUTO, INTERVALO - 1)).isEqualTo(1);
+        assertThat(limiter.consumir("a", 3, MINUTO, INTERVALO)).isZero();
+        assertThat(limiter.consumir("a", 3, MINUTO, INTERVALO)).isPositive();
+    }
+
+    @Test
+    void deveIsolarClientesDiferentes() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10);
+        limiter.consumir("a", 1, MINUTO, 0);
+
+        assertThat(limiter.consumir("a", 1, MINUTO, 0)).isPositive();
+        assertThat(limiter.consumir("b", 1, MINUTO, 0)).isZero();
+    }
+
+    @Test
+    void deveCompartilharEstadoQuandoLimiteDeClientesEstourar() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1);
+        limiter.consumir("a", 1, MINUTO, 0);
+
+        assertThat(limiter.consumir("b", 1, MINUTO, 0)).isZero();
+        assertThat(limiter.consumir("c", 1, MINUTO, 0)).isPositive();
+        assertThat(limiter.totalClientes()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRemoverClientesComBucketCheio() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10);
+        limiter.consumir("a", 3, MINUTO, 0);
+        limiter.consumir("b", 3, MINUTO, INTERVALO);
+
+        limiter.limpar(INTERVALO);
+
+        assertThat(limiter.totalClientes()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.arthur.madalena.cepmanager.ratelimit;
+
+import br.com.arthur.madalena.cepmanager.properties.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setPublico(new RateLimitProperties.Plano(1, Duration.ofMinutes(1)));
+        properties.setPadrao(new RateLimitProperties.Plano(1, Duration.ofMinutes(1)));
+        properties.getPlanos().put("ROLE_ADMIN", new RateLimitProperties.Plano(2, Duration.ofMinutes(1)));
+        filter = new RateLimitFilter(properties, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void deveRetornar429ComRetryAfterNoLoginPorIp() throws Exception {
+        assertThat(executar(requisicao("/cep-manager/api/auth/login", "10.0.0.1")).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse bloqueada = executar(requisicao("/cep-manager/api/auth/login", "10.0.0.1"));
+
+        assertThat(bloqueada.getStatus()).isEqualTo(429);
+        assertThat(bloqueada.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(bloqueada.getContentAsString()).contains("\"status\":429");
+        assertThat(executar(requisicao("/cep-manager/api/auth/login", "10.0.0.2")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void naoDeveLimitarRequisicaoAnonimaForaDosEndpointsPublicos() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(executar(requisicao("/cep-manager/login.xhtml", "10.0.0.1")).getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void deveAplicarPlanoDaPermissaoDoUsuario() throws Exception {
+        autenticar(7L, "ROLE_USER", "ROLE_ADMIN");
+
+        assertThat(executar(requisicao("/cep-manager/api/ceps", "10.0.0.1")).getStatus()).isEqualTo(200);
+        assertThat(executar(requisicao("/cep-manager/api/ceps", "10.0.0.2")).getStatus()).isEqualTo(200);
+        assertThat(executar(requisicao("/cep-manager/api/ceps", "10.0.0.3")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void naoDeveLimitarQuandoDesabilitado() throws Exception {
+        properties.setEnabled(false);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(executar(requisicao("/cep-manager/api/auth/login", "10.0.0.1")).getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletRequest requisicao(String uri, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContextPath("/cep-manager");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private MockHttpServletResponse executar(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void autenticar(Long userId, String... permissoes) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("usuario")
+                .claim("userId", userId)
+                .build();
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(permissoes)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, authorities));
+    }
+}
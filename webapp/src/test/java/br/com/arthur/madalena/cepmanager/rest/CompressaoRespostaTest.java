@@ -0,0 +1,110 @@
+package br.com.arthur.madalena.cepmanager.rest;
+
+import br.com.arthur.madalena.cepmanager.dao.CepDAO;
+import br.com.arthur.madalena.cepmanager.entity.Cep;
+import br.com.arthur.madalena.cepmanager.entity.Usuario;
+import br.com.arthur.madalena.cepmanager.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compressão aplicada pelo Tomcat com as configurações server.compression do application.properties:
+ * a página padrão de 20 CEPs passa de min-response-size e um CEP avulso fica abaixo dele.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CompressaoRespostaTest {
+
+    @LocalServerPort
+    private int porta;
+
+    @Value("${server.servlet.context-path}")
+    private String contextPath;
+
+    @Autowired
+    private CepDAO cepDAO;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // O cliente do JDK não descomprime nem envia Accept-Encoding por conta própria
+    private final HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        List<Cep> ceps = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Cep cep = new Cep();
+            cep.setCodigo(String.format("%08d", 1310100 + i));
+            cep.setLogradouro("Avenida Paulista " + i);
+            cep.setBairro("Bela Vista");
+            cep.setCidade("São Paulo");
+            cep.setUf("SP");
+            cep.setIbge("3550308");
+            ceps.add(cep);
+        }
+        cepDAO.saveAll(ceps);
+        // No PostgreSQL a trigger do changeset-009 mantém cep_codigo; no H2 a UF do código é gravada aqui
+        jdbcTemplate.update("INSERT INTO cep_codigo (codigo, uf) VALUES ('01310100', 'SP')");
+
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setUsername("user");
+        usuario.setEmail("user@test.com");
+        usuario.setPermissoes(Set.of("ROLE_USER"));
+        token = jwtService.encode(usuario);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cep_codigo");
+        cepDAO.deleteAll();
+    }
+
+    @Test
+    void deveComprimirPaginaPadraoDeVinteCeps() throws IOException, InterruptedException {
+        HttpResponse<byte[]> resposta = get("/api/ceps?page=0&size=20");
+
+        assertThat(resposta.statusCode()).isEqualTo(200);
+        assertThat(resposta.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    void naoDeveComprimirCepAvulso() throws IOException, InterruptedException {
+        HttpResponse<byte[]> resposta = get("/api/ceps/01310100");
+
+        assertThat(resposta.statusCode()).isEqualTo(200);
+        assertThat(resposta.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String caminho) throws IOException, InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + contextPath + caminho))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .build();
+        return cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import br.com.arthur.madalena.cepmanager.dao.TokenRevogadoDAO;
+import br.com.arthur.madalena.cepmanager.event.TokensRevogadosEvent;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class JwtVerificacaoCacheTest {
+
+    private static final SecretKey CHAVE = new SecretKeySpec(
+            "chave-de-teste-com-pelo-menos-256-bits-para-hs256".getBytes(), "HmacSHA256");
+
+    private final AtomicInteger decodificacoes = new AtomicInteger();
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+    private ListaRevogacao listaRevogacao;
+    private JwtVerificacaoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new NimbusJwtEncoder(new ImmutableSecret<>(CHAVE));
+        decoder = NimbusJwtDecoder.withSecretKey(CHAVE).build();
+        JwtDecoder contador = token -> {
+            decodificacoes.incrementAndGet();
+            return decoder.decode(token);
+        };
+
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthoritiesClaimName("authorities");
+        authorities.setAuthorityPrefix("");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(contador);
+        provider.setJwtAuthenticationConverter(converter);
+        listaRevogacao = new ListaRevogacao(mock(TokenRevogadoDAO.class), Duration.ofMinutes(15), Clock.systemUTC());
+        cache = new JwtVerificacaoCache(provider, listaRevogacao, 100, Clock.systemUTC());
+    }
+
+    @Test
+    void deveVerificarTokenApenasNaPrimeiraRequisicao() {
+        String token = token("admin", Instant.now().minusSeconds(10));
+
+        Authentication primeira = cache.autenticar(new BearerTokenAuthenticationToken(token));
+        Authentication segunda = cache.autenticar(new BearerTokenAuthenticationToken(token));
+
+        assertThat(decodificacoes.get()).isEqualTo(1);
+        assertThat(segunda).isNotSameAs(primeira);
+        assertThat(segunda.getName()).isEqualTo("admin");
+        assertThat(segunda.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void naoDeveCachearTokenComAssinaturaInvalida() {
+        String token = token("admin", Instant.now()) + "x";
+
+        assertThatThrownBy(() -> cache.autenticar(new BearerTokenAuthenticationToken(token)))
+                .isInstanceOf(InvalidBearerTokenException.class);
+        assertThatThrownBy(() -> cache.autenticar(new BearerTokenAuthenticationToken(token)))
+                .isInstanceOf(InvalidBearerTokenException.class);
+
+        assertThat(cache.getCache().estimatedSize()).isZero();
+    }
+
+    @Test
+    void deveRecusarTokenEmCacheAposRevogacao() {
+        String token = token("admin", Instant.now().minusSeconds(10));
+        cache.autenticar(new BearerTokenAuthenticationToken(token));
+
+        listaRevogacao.onTokensRevogados(new TokensRevogadosEvent("admin", Instant.now(), false));
+
+        assertThatThrownBy(() -> cache.autenticar(new BearerTokenAuthenticationToken(token)))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Token revogado");
+    }
+
+    @Test
+    void deveRecusarTokenRevogadoAindaNaoVisto() {
+        String token = token("admin", Instant.now().minusSeconds(10));
+
+        listaRevogacao.onTokensRevogados(new TokensRevogadosEvent("admin", Instant.now(), true));
+
+        assertThatThrownBy(() -> cache.autenticar(new BearerTokenAuthenticationToken(token)))
+                .isInstanceOf(InvalidBearerTokenException.class);
+    }
+
+    @Test
+    void deveAceitarTokenEmitidoAposRevogacao() {
+        Instant revogacao = Instant.now().minusSeconds(60);
+        listaRevogacao.onTokensRevogados(new TokensRevogadosEvent("admin", revogacao, true));
+
+        String token = token("admin", revogacao.plusSeconds(5));
+
+        assertThat(cache.autenticar(new BearerTokenAuthenticationToken(token)).getName()).isEqualTo("admin");
+    }
+
+    @Test
+    void naoDeveAfetarTokensDeOutrosUsuarios() {
+        String token = token("user", Instant.now().minusSeconds(10));
+        cache.autenticar(new BearerTokenAuthenticationToken(token));
+
+        listaRevogacao.onTokensRevogados(new TokensRevogadosEvent("admin", Instant.now(), true));
+
+        assertThat(cache.autenticar(new BearerTokenAuthenticationToken(token)).getName()).isEqualTo("user");
+        assertThat(decodificacoes.get()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRecusarApenasOTokenRevogadoNoLogout() {
+        String token = token("admin", Instant.now().minusSeconds(10));
+        String outraSessao = token("admin", Instant.now().minusSeconds(10));
+        cache.autenticar(new BearerTokenAuthenticationToken(token));
+
+        Jwt jwt = decoder.decode(token);
+        listaRevogacao.revogarToken(jwt);
+
+        assertThatThrownBy(() -> cache.autenticar(new BearerTokenAuthenticationToken(token)))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Token revogado");
+        assertThat(cache.autenticar(new BearerTokenAuthenticationToken(outraSessao)).getName()).isEqualTo("admin");
+    }
+
+    private String token(String username, Instant emitidoEm) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .issuedAt(emitidoEm)
+                .expiresAt(emitidoEm.plus(Duration.ofHours(1)))
+                .claim("authorities", List.of(username.equals("admin") ? "ROLE_ADMIN" : "ROLE_USER"))
+                .build();
+        JwsHeader header = JwsHeader.with(() -> "HS256").build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import br.com.arthur.madalena.cepmanager.dao.TokenRevogadoDAO;
+import br.com.arthur.madalena.cepmanager.service.RefreshTokenService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LimpezaRevogacoesTest {
+
+    @Test
+    void deveRemoverRevogacoesERefreshTokensExpiradosDoBanco() {
+        TokenRevogadoDAO tokenRevogadoDAO = mock(TokenRevogadoDAO.class);
+        RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+
+        new LimpezaRevogacoes(tokenRevogadoDAO, refreshTokenService).removerExpirados();
+
+        verify(tokenRevogadoDAO).deleteExpirados(any(Instant.class));
+        verify(refreshTokenService).removerExpirados();
+    }
+}
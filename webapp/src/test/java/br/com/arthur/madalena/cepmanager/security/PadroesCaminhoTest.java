@@ -0,0 +1,57 @@
+package br.com.arthur.madalena.cepmanager.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PadroesCaminhoTest {
+
+    private final PadroesCaminho publicos = SecurityConfig.ENDPOINTS_PUBLICOS;
+
+    @Test
+    void deveReconhecerEndpointsLiterais() {
+        assertThat(publicos.corresponde("/login.xhtml")).isTrue();
+        assertThat(publicos.corresponde("/api/usuarios/registro")).isTrue();
+        assertThat(publicos.corresponde("/")).isTrue();
+        assertThat(publicos.corresponde("/actuator/health")).isTrue();
+    }
+
+    @Test
+    void deveReconhecerPadroesComCuringa() {
+        assertThat(publicos.corresponde("/api/auth/login")).isTrue();
+        assertThat(publicos.corresponde("/api/auth/refresh")).isTrue();
+        assertThat(publicos.corresponde("/swagger-ui/index.html")).isTrue();
+        assertThat(publicos.corresponde("/jakarta.faces.resource/primefaces.js")).isTrue();
+        assertThat(publicos.corresponde("/pages/registro/confirmacao.xhtml")).isTrue();
+    }
+
+    @Test
+    void naoDeveAceitarCaminhoQueApenasContemTrechoPublico() {
+        assertThat(publicos.corresponde("/api/ceps/login")).isFalse();
+        assertThat(publicos.corresponde("/api/usuarios/1/registro")).isFalse();
+        assertThat(publicos.corresponde("/pages/admin/login.xhtml")).isFalse();
+        assertThat(publicos.corresponde("/api/authx/login")).isFalse();
+        assertThat(publicos.corresponde("/actuator/metrics")).isFalse();
+    }
+
+    @Test
+    void deveIgnorarContextPathDaRequisicao() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/cep-manager/api/auth/login");
+        request.setContextPath("/cep-manager");
+
+        assertThat(publicos.matches(request)).isTrue();
+
+        MockHttpServletRequest privada = new MockHttpServletRequest("GET", "/cep-manager/api/ceps/01001000");
+        privada.setContextPath("/cep-manager");
+
+        assertThat(publicos.matches(privada)).isFalse();
+    }
+
+    @Test
+    void deveAceitarPadroesSomenteLiteraisOuSomenteComCuringa() {
+        assertThat(new PadroesCaminho("/a", "/b").corresponde("/b")).isTrue();
+        assertThat(new PadroesCaminho("/a/**").corresponde("/a/b/c")).isTrue();
+        assertThat(new PadroesCaminho("/a/**").corresponde("/b")).isFalse();
+    }
+}
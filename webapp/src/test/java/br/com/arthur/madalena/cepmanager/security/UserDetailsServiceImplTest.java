@@ -52,19 +52,19 @@ class UserDetailsServiceImplTest {
 
     @Test
     void deveCarregarUsuarioPorUsername() {
-        when(usuarioDAO.findByUsername("admin")).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByUsernameSemCache("admin")).thenReturn(Optional.of(usuario));
 
         UserDetails userDetails = userDetailsService.loadUserByUsername("admin");
 
         assertThat(userDetails).isNotNull();
         assertThat(userDetails.getUsername()).isEqualTo("admin");
         assertThat(userDetails.getAuthorities()).hasSize(2);
-        verify(usuarioDAO).findByUsername("admin");
+        verify(usuarioDAO).findByUsernameSemCache("admin");
     }
 
     @Test
     void deveLancarExcecaoQuandoUsuarioNaoEncontrado() {
-        when(usuarioDAO.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(usuarioDAO.findByUsernameSemCache(anyString())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userDetailsService.loadUserByUsername("inexistente"))
                 .isInstanceOf(UsernameNotFoundException.class)
@@ -74,7 +74,7 @@ class UserDetailsServiceImplTest {
     @Test
     void deveLancarExcecaoQuandoUsuarioInativo() {
         usuario.setAtivo(false);
-        when(usuarioDAO.findByUsername("admin")).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByUsernameSemCache("admin")).thenReturn(Optional.of(usuario));
 
         assertThatThrownBy(() -> userDetailsService.loadUserByUsername("admin"))
                 .isInstanceOf(DisabledException.class)
@@ -84,7 +84,7 @@ class UserDetailsServiceImplTest {
     @Test
     void deveLancarExcecaoQuandoEmailNaoVerificado() {
         usuario.setEmailVerificado(false);
-        when(usuarioDAO.findByUsername("admin")).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByUsernameSemCache("admin")).thenReturn(Optional.of(usuario));
 
         assertThatThrownBy(() -> userDetailsService.loadUserByUsername("admin"))
                 .isInstanceOf(DisabledException.class)
@@ -93,18 +93,18 @@ class UserDetailsServiceImplTest {
 
     @Test
     void deveBuscarUsuarioPorUsername() {
-        when(usuarioDAO.findByUsername("admin")).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByUsernameSemCache("admin")).thenReturn(Optional.of(usuario));
 
         Optional<Usuario> resultado = userDetailsService.findByUsername("admin");
 
         assertThat(resultado).isPresent();
         assertThat(resultado.get().getUsername()).isEqualTo("admin");
-        verify(usuarioDAO).findByUsername("admin");
+        verify(usuarioDAO).findByUsernameSemCache("admin");
     }
 
     @Test
     void deveRetornarVazioQuandoUsuarioNaoExiste() {
-        when(usuarioDAO.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(usuarioDAO.findByUsernameSemCache(anyString())).thenReturn(Optional.empty());
 
         Optional<Usuario> resultado = userDetailsService.findByUsername("inexistente");
 
@@ -157,7 +157,7 @@ class UserDetailsServiceImplTest {
 
     @Test
     void deveRetornarUserDetailsComPermissoesCorretas() {
-        when(usuarioDAO.findByUsername("admin")).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByUsernameSemCache("admin")).thenReturn(Optional.of(usuario));
 
         UserDetails userDetails = userDetailsService.loadUserByUsername("admin");
 
@@ -171,7 +171,7 @@ class UserDetailsServiceImplTest {
     void devePermitirAcessoApenasParaUsuariosAtivosEVerificados() {
         usuario.setAtivo(true);
         usuario.setEmailVerificado(true);
-        when(usuarioDAO.findByUsername("admin")).thenReturn(Optional.of(usuario));
+        when(usuarioDAO.findByUsernameSemCache("admin")).thenReturn(Optional.of(usuario));
 
         UserDetails userDetails = userDetailsService.loadUserByUsername("admin");
 
@@ -2,6 +2,7 @@ package br.com.arthur.madalena.cepmanager.service;
 
 import br.com.arthur.madalena.cepmanager.entity.Usuario;
 import br.com.arthur.madalena.cepmanager.exception.BusinessException;
+import br.com.arthur.madalena.cepmanager.security.ListaRevogacao;
 import br.com.arthur.madalena.cepmanager.security.UserDetailsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.util.Optional;
 import java.util.Set;
@@ -31,6 +33,12 @@ class AuthenticationServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private ListaRevogacao listaRevogacao;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -54,11 +62,13 @@ class AuthenticationServiceTest {
         when(userDetailsService.findByUsername("admin")).thenReturn(Optional.of(usuario));
         when(passwordEncoder.matches("senha123", "$2a$10$hashedPassword")).thenReturn(true);
         when(jwtService.encode(usuario)).thenReturn("token.jwt.valido");
+        when(refreshTokenService.criar(usuario)).thenReturn("refresh.valido");
 
-        String token = authenticationService.login("admin", "senha123");
+        TokensAutenticacao tokens = authenticationService.login("admin", "senha123");
 
-        assertThat(token).isNotNull();
-        assertThat(token).isEqualTo("token.jwt.valido");
+        assertThat(tokens).isNotNull();
+        assertThat(tokens.accessToken()).isEqualTo("token.jwt.valido");
+        assertThat(tokens.refreshToken()).isEqualTo("refresh.valido");
         verify(userDetailsService).findByUsername("admin");
         verify(passwordEncoder).matches("senha123", "$2a$10$hashedPassword");
         verify(jwtService).encode(usuario);
@@ -142,5 +152,45 @@ class AuthenticationServiceTest {
 
         verify(jwtService).encode(usuario);
     }
+
+    @Test
+    void deveRenovarTokenComRefreshTokenRotacionado() {
+        when(refreshTokenService.rotacionar("refresh.antigo"))
+                .thenReturn(new RefreshTokenService.Rotacao(usuario, "refresh.novo"));
+        when(jwtService.encode(usuario)).thenReturn("token.novo");
+
+        TokensAutenticacao tokens = authenticationService.renovar("refresh.antigo");
+
+        assertThat(tokens.accessToken()).isEqualTo("token.novo");
+        assertThat(tokens.refreshToken()).isEqualTo("refresh.novo");
+    }
+
+    @Test
+    void deveRecusarRenovacaoSemRefreshToken() {
+        assertThatThrownBy(() -> authenticationService.renovar(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(refreshTokenService, never()).rotacionar(anyString());
+    }
+
+    @Test
+    void deveRevogarAccessERefreshTokenNoLogout() {
+        Jwt jwt = mock(Jwt.class);
+
+        authenticationService.logout(jwt, "refresh.valido");
+
+        verify(listaRevogacao).revogarToken(jwt);
+        verify(refreshTokenService).revogar("refresh.valido");
+    }
+
+    @Test
+    void deveIgnorarRefreshTokenAusenteNoLogout() {
+        Jwt jwt = mock(Jwt.class);
+
+        authenticationService.logout(jwt, null);
+
+        verify(listaRevogacao).revogarToken(jwt);
+        verifyNoInteractions(refreshTokenService);
+    }
 }
 